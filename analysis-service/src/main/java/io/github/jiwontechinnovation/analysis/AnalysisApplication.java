@@ -2,8 +2,10 @@ package io.github.jiwontechinnovation.analysis;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class AnalysisApplication {
 
     public static void main(String[] args) {
@@ -1,23 +1,116 @@
 package io.github.jiwontechinnovation.analysis.client;
 
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.jiwontechinnovation.analysis.exception.UserLookupException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClientException;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 
 @Component
 public class UserServiceClient {
+    private static final Logger logger = LoggerFactory.getLogger(UserServiceClient.class);
+    private static final String ERROR_LOOKUP_FAILED = "사용자 정보를 조회할 수 없습니다. 잠시 후 다시 시도해주세요";
+
     private final RestTemplate restTemplate;
+    private final AsyncCache<String, Lookup> userIds;
+    private final Timer lookupTimer;
 
-    public UserServiceClient(RestTemplate restTemplate) {
+    public UserServiceClient(RestTemplate restTemplate, MeterRegistry meterRegistry,
+            @Value("${analysis.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${analysis.user-cache.ttl:1h}") Duration ttl,
+            @Value("${analysis.user-cache.failure-ttl:5s}") Duration failureTtl) {
         this.restTemplate = restTemplate;
+        // username -> UUID는 바뀌지 않으므로 길게 캐시하고, 실패는 짧게만 캐시해서 장애 시 요청 폭주를 막는다
+        this.userIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Lookup>() {
+                    @Override
+                    public long expireAfterCreate(String username, Lookup lookup, long currentTime) {
+                        return (lookup.failed() ? failureTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String username, Lookup lookup, long currentTime,
+                            long currentDuration) {
+                        return (lookup.failed() ? failureTtl : ttl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String username, Lookup lookup, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, userIds, "analysis.user-id");
+        this.lookupTimer = Timer.builder("analysis.user.lookup.latency").register(meterRegistry);
+    }
+
+    private record Lookup(UUID userId, RuntimeException failure) {
+        boolean failed() {
+            return failure != null;
+        }
+
+        // 4xx는 호출자의 토큰(만료/위조) 때문일 수 있으므로 캐시하지 않고 그 호출자에게만 돌려준다
+        boolean callerError() {
+            return failure instanceof HttpClientErrorException;
+        }
     }
 
+    // 같은 username에 대한 동시 조회는 한 번의 원격 호출로 합쳐짐.
+    // 원격 호출은 캐시의 compute 락 밖(호출한 스레드)에서 하므로 느린 조회가 다른 키의 캐시 접근을 막지 않는다
     public UUID getUserIdByUsername(String username, String authToken) {
+        while (true) {
+            CompletableFuture<Lookup> pending = new CompletableFuture<>();
+            CompletableFuture<Lookup> existing = userIds.asMap().putIfAbsent(username, pending);
+            if (existing == null) {
+                Lookup fetched;
+                try {
+                    fetched = lookupTimer.record(() -> fetch(username, authToken));
+                } catch (RuntimeException e) {
+                    // 기다리는 다른 요청이 멈추지 않도록 실패도 결과로 채운다
+                    fetched = new Lookup(null, e);
+                }
+                if (fetched.callerError()) {
+                    // 기다리던 요청이 새 항목에서 자기 토큰으로 다시 조회하도록 먼저 비운다
+                    userIds.asMap().remove(username, pending);
+                    pending.complete(fetched);
+                    throw (HttpClientErrorException) fetched.failure();
+                }
+                pending.complete(fetched);
+                existing = pending;
+            }
+            Lookup lookup = existing.join();
+            if (lookup.callerError()) {
+                // 다른 요청의 토큰으로 받은 4xx
+                continue;
+            }
+            if (lookup.failed()) {
+                throw new UserLookupException(ERROR_LOOKUP_FAILED, lookup.failure());
+            }
+            return lookup.userId();
+        }
+    }
+
+    private Lookup fetch(String username, String authToken) {
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.set("Authorization", "Bearer " + authToken);
@@ -25,7 +118,7 @@ public class UserServiceClient {
 
             // LoadBalanced RestTemplate을 사용하면 서비스 이름으로 직접 호출 가능
             String url = "http://user-service/api/v1/users/me";
-            
+
             ResponseEntity<UserResponse> response = restTemplate.exchange(
                     url,
                     HttpMethod.GET,
@@ -33,18 +126,16 @@ public class UserServiceClient {
                     UserResponse.class
             );
 
-            if (response.getBody() != null) {
-                return response.getBody().id();
+            if (response.getBody() == null || response.getBody().id() == null) {
+                return new Lookup(null, new IllegalStateException("Empty response from user-service"));
             }
-        } catch (Exception e) {
-            // 로그만 남기고 null 반환
-            System.err.println("Failed to get user ID from User Service: " + e.getMessage());
-            e.printStackTrace();
+            return new Lookup(response.getBody().id(), null);
+        } catch (RestClientException e) {
+            logger.warn("Failed to get user ID from User Service - username: {}, error: {}", username, e.getMessage());
+            return new Lookup(null, e);
         }
-        return null;
     }
 
     public record UserResponse(UUID id, String username, String email, String name, String avatarId) {
     }
 }
-
@@ -1,17 +1,38 @@
 package io.github.jiwontechinnovation.analysis.config;
 
+import io.github.jiwontechinnovation.common.http.HttpClientSettings;
+import io.github.jiwontechinnovation.common.http.ServiceHttpClientFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.ObservationRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.client.loadbalancer.LoadBalanced;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+
 @Configuration
 public class RestTemplateConfig {
 
+    @Bean
+    public ServiceHttpClientFactory serviceHttpClientFactory(MeterRegistry meterRegistry,
+            ObservationRegistry observationRegistry) {
+        return new ServiceHttpClientFactory(meterRegistry, observationRegistry);
+    }
+
     @Bean
     @LoadBalanced
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public RestTemplate restTemplate(ServiceHttpClientFactory serviceHttpClientFactory,
+            @Value("${analysis.clients.user-service.max-connections:50}") int maxConnections,
+            @Value("${analysis.clients.user-service.max-connections-per-route:20}") int maxConnectionsPerRoute,
+            @Value("${analysis.clients.user-service.connect-timeout:1s}") Duration connectTimeout,
+            @Value("${analysis.clients.user-service.response-timeout:3s}") Duration responseTimeout,
+            @Value("${analysis.clients.user-service.connection-request-timeout:500ms}") Duration connectionRequestTimeout,
+            @Value("${analysis.clients.user-service.idle-timeout:30s}") Duration idleTimeout,
+            @Value("${analysis.clients.user-service.time-to-live:5m}") Duration timeToLive) {
+        return serviceHttpClientFactory.createRestTemplate("user-service", new HttpClientSettings(maxConnections,
+                maxConnectionsPerRoute, connectTimeout, responseTimeout, connectionRequestTimeout, idleTimeout,
+                timeToLive));
     }
 }
-
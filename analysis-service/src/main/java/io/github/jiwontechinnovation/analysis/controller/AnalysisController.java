@@ -1,18 +1,43 @@
 package io.github.jiwontechinnovation.analysis.controller;
 
 import io.github.jiwontechinnovation.analysis.client.UserServiceClient;
-import io.github.jiwontechinnovation.analysis.dto.DashboardStatsResponse;
+import io.github.jiwontechinnovation.analysis.dto.StatBatchRequest;
+import io.github.jiwontechinnovation.analysis.dto.StatHistoryResponse;
+import io.github.jiwontechinnovation.analysis.dto.StatIncrementRequest;
+import io.github.jiwontechinnovation.analysis.entity.HistoryGranularity;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
 import io.github.jiwontechinnovation.analysis.service.AnalysisService;
+import io.github.jiwontechinnovation.analysis.service.DashboardResponseCache;
+import io.github.jiwontechinnovation.analysis.service.DashboardStreamRegistry;
+import io.github.jiwontechinnovation.analysis.service.StatHistoryService;
+import io.github.jiwontechinnovation.analysis.service.StatIncrementBuffer;
+import io.github.jiwontechinnovation.common.http.ConditionalGet;
 import io.github.jiwontechinnovation.common.response.ApiResponse;
+import io.github.jiwontechinnovation.common.security.AuthenticatedUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.Valid;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -22,34 +47,32 @@ import java.util.stream.Collectors;
 @Tag(name = "Analysis", description = "분석 통계 API")
 @SecurityRequirement(name = "bearerAuth")
 public class AnalysisController {
+    private static final Logger logger = LoggerFactory.getLogger(AnalysisController.class);
     private final AnalysisService analysisService;
     private final UserServiceClient userServiceClient;
+    private final StatIncrementBuffer statIncrementBuffer;
+    private final StatHistoryService statHistoryService;
+    private final DashboardStreamRegistry dashboardStreamRegistry;
+    private final DashboardResponseCache dashboardResponseCache;
+    private final int maxHistoryDays;
 
-    public AnalysisController(AnalysisService analysisService, UserServiceClient userServiceClient) {
+    public AnalysisController(AnalysisService analysisService, UserServiceClient userServiceClient,
+            StatIncrementBuffer statIncrementBuffer, StatHistoryService statHistoryService,
+            DashboardStreamRegistry dashboardStreamRegistry, DashboardResponseCache dashboardResponseCache,
+            @Value("${analysis.history.max-range-days:1100}") int maxHistoryDays) {
         this.analysisService = analysisService;
         this.userServiceClient = userServiceClient;
+        this.statIncrementBuffer = statIncrementBuffer;
+        this.statHistoryService = statHistoryService;
+        this.dashboardStreamRegistry = dashboardStreamRegistry;
+        this.dashboardResponseCache = dashboardResponseCache;
+        this.maxHistoryDays = maxHistoryDays;
     }
 
     @GetMapping("/stats/debug")
     @Operation(summary = "디버그: 통계 데이터 상세 조회", description = "데이터베이스에서 조회한 원본 데이터를 상세히 확인합니다.")
     public ApiResponse<Object> getDashboardStatsDebug(HttpServletRequest request) {
-        UUID userId = null;
-        
-        try {
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            if (authentication != null 
-                    && authentication.isAuthenticated() 
-                    && !"anonymousUser".equals(authentication.getPrincipal())
-                    && authentication.getPrincipal() instanceof String) {
-                String username = (String) authentication.getPrincipal();
-                String authToken = extractToken(request);
-                if (authToken != null && !authToken.isEmpty()) {
-                    userId = userServiceClient.getUserIdByUsername(username, authToken);
-                }
-            }
-        } catch (Exception e) {
-            System.err.println("Failed to get authentication: " + e.getMessage());
-        }
+        UUID userId = resolveUserId(request);
         
         List<io.github.jiwontechinnovation.analysis.entity.DashboardStat> stats;
         if (userId != null) {
@@ -74,45 +97,91 @@ public class AnalysisController {
 
     @GetMapping("/stats")
     @Operation(summary = "대시보드 통계 조회", description = "레이더 차트에 표시할 통계 데이터를 조회합니다. 현재 로그인한 사용자의 통계를 조회합니다.")
-    public ApiResponse<DashboardStatsResponse> getDashboardStats(HttpServletRequest request) {
-        UUID userId = null;
-        
-        try {
-            // SecurityContext에서 인증 정보 가져오기
-            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
-            System.out.println("=== Authentication Debug ===");
-            System.out.println("Authentication: " + authentication);
-            if (authentication != null) {
-                System.out.println("Principal: " + authentication.getPrincipal());
-                System.out.println("Is Authenticated: " + authentication.isAuthenticated());
-            }
-            
-            if (authentication != null 
-                    && authentication.isAuthenticated() 
-                    && !"anonymousUser".equals(authentication.getPrincipal())
-                    && authentication.getPrincipal() instanceof String) {
-                String username = (String) authentication.getPrincipal();
-                System.out.println("Username: " + username);
-                String authToken = extractToken(request);
-                System.out.println("AuthToken exists: " + (authToken != null && !authToken.isEmpty()));
-                if (authToken != null && !authToken.isEmpty()) {
-                    userId = userServiceClient.getUserIdByUsername(username, authToken);
-                    System.out.println("UserId from UserService: " + userId);
-                }
-            }
-        } catch (Exception e) {
-            // 인증 정보 가져오기 실패 시 전체 통계 반환
-            System.err.println("Failed to get authentication: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        System.out.println("Final userId: " + userId);
-        
-        DashboardStatsResponse response = analysisService.getDashboardStats(userId);
-        
-        return ApiResponse.success("통계 데이터 조회 성공", response);
+    public ResponseEntity<byte[]> getDashboardStats(HttpServletRequest request) {
+        UUID userId = resolveUserId(request);
+        logger.debug("대시보드 통계 조회 - userId: {}", userId);
+
+        // ApiResponse<DashboardStatsResponse>를 미리 직렬화해 둔 바이트를 그대로 반환.
+        // 백분위는 쓰기 없이도 바뀌므로 updatedAt 대신 본문 해시를 ETag 버전으로 쓴다
+        DashboardResponseCache.Rendered rendered = dashboardResponseCache.get(userId);
+        return ConditionalGet.respond(request, rendered.version(), MediaType.APPLICATION_JSON, rendered::body);
     }
     
+    @GetMapping(path = "/stats/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "대시보드 통계 실시간 구독", description = "SSE로 레이더 차트 변경분을 받습니다. 첫 이벤트는 전체 데이터입니다.")
+    public SseEmitter streamDashboardStats(HttpServletRequest request, HttpServletResponse response) {
+        UUID userId = resolveUserId(request);
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자를 확인할 수 없습니다");
+        }
+        // 앞단 프록시(nginx 등)가 이벤트를 모아 보내지 않도록
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+        response.setHeader("X-Accel-Buffering", "no");
+        return dashboardStreamRegistry.subscribe(userId);
+    }
+
+    @PostMapping("/stats/batch")
+    @Operation(summary = "통계 일괄 저장 (내부용)", description = "(userId, category, value) 목록을 한 번에 upsert 합니다. userId가 없으면 전체 통계입니다. X-Internal-Api-Key가 필요합니다.")
+    public ApiResponse<Integer> saveStatsBatch(@Valid @RequestBody StatBatchRequest request) {
+        List<DashboardStatsChangedEvent.StatChange> changes = request.stats().stream()
+                .map(entry -> new DashboardStatsChangedEvent.StatChange(entry.userId(), entry.category(), entry.value()))
+                .toList();
+
+        return ApiResponse.success("통계 저장 성공", analysisService.saveOrUpdateStats(changes));
+    }
+
+    @PostMapping("/stats/increments")
+    @Operation(summary = "통계 증분 전송", description = "현재 사용자의 카테고리별 증분을 보냅니다. 서버에서 모아서 주기적으로 반영합니다.")
+    public ApiResponse<Void> addStatIncrements(@Valid @RequestBody StatIncrementRequest request,
+            HttpServletRequest httpRequest) {
+        UUID userId = resolveUserId(httpRequest);
+        if (userId == null) {
+            throw new IllegalArgumentException("사용자를 확인할 수 없습니다");
+        }
+
+        request.increments().forEach(increment ->
+                statIncrementBuffer.add(userId, increment.category(), increment.delta()));
+        return ApiResponse.success("증분 접수 완료", null);
+    }
+
+    @GetMapping("/stats/history")
+    @Operation(summary = "통계 추이 조회", description = "기간별(DAY/WEEK/MONTH)로 집계된 통계 이력을 조회합니다.")
+    public ApiResponse<StatHistoryResponse> getStatHistory(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "DAY") HistoryGranularity granularity,
+            HttpServletRequest request) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from은 to보다 늦을 수 없습니다");
+        }
+        if (ChronoUnit.DAYS.between(from, to) > maxHistoryDays) {
+            throw new IllegalArgumentException("조회 기간은 최대 " + maxHistoryDays + "일입니다");
+        }
+        UUID userId = resolveUserId(request);
+
+        return ApiResponse.success("통계 이력 조회 성공",
+                statHistoryService.getHistory(userId, from, to, granularity));
+    }
+
+    // 토큰의 uid 클레임을 우선 사용하고, uid가 없는 이전 토큰만 user-service에 조회
+    private UUID resolveUserId(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || !(authentication.getPrincipal() instanceof AuthenticatedUser user)) {
+            return null;
+        }
+        if (user.userId() != null) {
+            return user.userId();
+        }
+
+        String authToken = extractToken(request);
+        if (authToken == null || authToken.isEmpty()) {
+            return null;
+        }
+        // 조회 실패는 UserLookupException(503)으로 전달. 전체 통계로 대체하지 않는다.
+        return userServiceClient.getUserIdByUsername(user.username(), authToken);
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (bearerToken != null && bearerToken.startsWith("Bearer ")) {
@@ -1,5 +1,5 @@
 package io.github.jiwontechinnovation.analysis.dto;
 
-public record RadarStatDto(String label, int value) {
+// percentile: 같은 카테고리에서 value 이하인 사용자 비율(0~100). 전체 통계이거나 분포가 없으면 null
+public record RadarStatDto(String label, int value, Double percentile) {
 }
-
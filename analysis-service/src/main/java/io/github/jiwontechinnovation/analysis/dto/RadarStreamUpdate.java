@@ -0,0 +1,7 @@
+package io.github.jiwontechinnovation.analysis.dto;
+
+import java.util.List;
+
+// SSE로 보내는 레이더 차트 변경분. 첫 이벤트는 전체 항목이 changed에 담긴다.
+public record RadarStreamUpdate(List<RadarStatDto> changed, List<String> removed) {
+}
@@ -0,0 +1,25 @@
+package io.github.jiwontechinnovation.analysis.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+import java.util.UUID;
+
+// userId가 null이면 전체 통계
+public record StatBatchRequest(
+        @NotEmpty(message = "저장할 통계가 없습니다")
+        @Size(max = StatBatchRequest.MAX_ITEMS, message = "한 번에 최대 50000개까지 저장할 수 있습니다")
+        List<@Valid @NotNull StatEntry> stats) {
+
+    public static final int MAX_ITEMS = 50000;
+
+    public record StatEntry(
+            UUID userId,
+            @NotBlank(message = "category는 필수입니다") @Size(max = 50, message = "category는 50자 이하여야 합니다") String category,
+            @NotNull(message = "value는 필수입니다") Integer value) {
+    }
+}
@@ -0,0 +1,14 @@
+package io.github.jiwontechinnovation.analysis.dto;
+
+import io.github.jiwontechinnovation.analysis.entity.HistoryGranularity;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public record StatHistoryResponse(HistoryGranularity granularity, LocalDate from, LocalDate to,
+        List<HistoryPoint> points) {
+
+    // 압축 보관된 일별 값은 min/max가 없으므로 value와 동일하게 채운다
+    public record HistoryPoint(String category, LocalDate bucketStart, int value, int min, int max) {
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.jiwontechinnovation.analysis.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+public record StatIncrementRequest(
+        @NotEmpty(message = "증분이 없습니다")
+        @Size(max = StatIncrementRequest.MAX_INCREMENTS, message = "한 번에 최대 1000개까지 보낼 수 있습니다")
+        List<@Valid @NotNull Increment> increments) {
+
+    public static final int MAX_INCREMENTS = 1000;
+    // 한 번의 증분으로 INTEGER 범위를 넘기지 못하도록 제한
+    public static final int MAX_DELTA = 1_000_000;
+
+    public record Increment(
+            @NotBlank(message = "category는 필수입니다") @Size(max = 50, message = "category는 50자 이하여야 합니다") String category,
+            @Min(value = -MAX_DELTA, message = "delta는 -1000000 이상이어야 합니다")
+            @Max(value = MAX_DELTA, message = "delta는 1000000 이하여야 합니다") int delta) {
+    }
+}
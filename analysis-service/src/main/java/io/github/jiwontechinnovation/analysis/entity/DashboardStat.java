@@ -5,7 +5,9 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table(name = "dashboard_stats")
+@Table(name = "dashboard_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_dashboard_stats_user_category", columnNames = { "user_id", "category" }),
+        indexes = @Index(name = "idx_dashboard_stats_user_value", columnList = "user_id, value DESC"))
 public class DashboardStat {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
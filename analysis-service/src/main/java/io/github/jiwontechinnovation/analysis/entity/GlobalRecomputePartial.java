@@ -0,0 +1,56 @@
+package io.github.jiwontechinnovation.analysis.entity;
+
+import jakarta.persistence.*;
+
+// 구간별 카테고리 합계. 구간 완료 표시와 같은 트랜잭션에서 저장되므로 재시작해도 중복 집계되지 않는다.
+@Entity
+@Table(name = "global_recompute_partials",
+        uniqueConstraints = @UniqueConstraint(name = "uk_global_recompute_partial",
+                columnNames = { "run_id", "partition_no", "category" }))
+public class GlobalRecomputePartial {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(nullable = false)
+    private long total;
+
+    @Column(nullable = false)
+    private long samples;
+
+    protected GlobalRecomputePartial() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public int getPartitionNo() {
+        return partitionNo;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getSamples() {
+        return samples;
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.jiwontechinnovation.analysis.entity;
+
+import jakarta.persistence.*;
+import java.util.UUID;
+
+// dashboard_stats.id 기준 keyset 구간 (lower_id, upper_id]. null은 열린 구간이다.
+@Entity
+@Table(name = "global_recompute_partitions",
+        uniqueConstraints = @UniqueConstraint(name = "uk_global_recompute_partition",
+                columnNames = { "run_id", "partition_no" }))
+public class GlobalRecomputePartition {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(name = "lower_id")
+    private UUID lowerId;
+
+    @Column(name = "upper_id")
+    private UUID upperId;
+
+    @Column(nullable = false)
+    private boolean done;
+
+    @Column(name = "rows_processed")
+    private Long rowsProcessed;
+
+    @Column(name = "duration_ms")
+    private Long durationMs;
+
+    // 실패한 시도 수. 한도에 닿으면 작업 전체를 FAILED로 끝낸다 (기존 행은 null = 0)
+    @Column
+    private Integer attempts;
+
+    protected GlobalRecomputePartition() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getRunId() {
+        return runId;
+    }
+
+    public int getPartitionNo() {
+        return partitionNo;
+    }
+
+    public UUID getLowerId() {
+        return lowerId;
+    }
+
+    public UUID getUpperId() {
+        return upperId;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    public Long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+}
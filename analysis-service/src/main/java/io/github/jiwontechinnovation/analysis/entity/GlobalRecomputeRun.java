@@ -0,0 +1,85 @@
+package io.github.jiwontechinnovation.analysis.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 전체 통계 재계산 작업 1회. RUNNING 상태로 남은 작업은 다음 실행 때 이어서 처리한다.
+// 같은 구간이 계속 실패하거나 이어받기 횟수가 한도를 넘으면 FAILED로 끝내고 다음 주기에 새로 만든다.
+// 끝난 작업은 구간/중간 결과를 바로 지우고, 작업 행도 보관 기간이 지나면 지운다.
+@Entity
+@Table(name = "global_recompute_runs", indexes = @Index(name = "idx_global_recompute_runs_status", columnList = "status"))
+public class GlobalRecomputeRun {
+    public enum Status {
+        RUNNING, COMPLETED, FAILED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    // 현재 실행 중인 인스턴스와 임대 만료 시각. 만료되면 다른 인스턴스가 이어받는다.
+    @Column(length = 100)
+    private String owner;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(nullable = false)
+    private int partitions;
+
+    @Column(name = "rows_processed")
+    private Long rowsProcessed;
+
+    // 이 작업을 이어서 실행한 횟수 (기존 행은 null = 0)
+    @Column
+    private Integer passes;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    protected GlobalRecomputeRun() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public LocalDateTime getLeaseUntil() {
+        return leaseUntil;
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    public Long getRowsProcessed() {
+        return rowsProcessed;
+    }
+
+    public Integer getPasses() {
+        return passes;
+    }
+
+    public LocalDateTime getStartedAt() {
+        return startedAt;
+    }
+
+    public LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.jiwontechinnovation.analysis.entity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+public enum HistoryGranularity {
+    DAY, WEEK, MONTH;
+
+    // 버킷 시작일 (주는 월요일 기준, PostgreSQL date_trunc('week')와 동일)
+    public LocalDate bucketStart(LocalDate date) {
+        return switch (this) {
+            case DAY -> date;
+            case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> date.withDayOfMonth(1);
+        };
+    }
+}
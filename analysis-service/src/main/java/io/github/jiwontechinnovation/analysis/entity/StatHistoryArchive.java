@@ -0,0 +1,51 @@
+package io.github.jiwontechinnovation.analysis.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.util.UUID;
+
+// 오래된 일별 이력을 (user, category, 월) 단위로 압축 보관. encoded는 DeltaVarintCodec 형식
+@Entity
+@Table(name = "dashboard_stat_history_archive",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stat_history_archive",
+                columnNames = { "user_id", "category", "month_start" }))
+public class StatHistoryArchive {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart;
+
+    @Column(nullable = false)
+    private byte[] encoded;
+
+    protected StatHistoryArchive() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public LocalDate getMonthStart() {
+        return monthStart;
+    }
+
+    public byte[] getEncoded() {
+        return encoded;
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.jiwontechinnovation.analysis.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 기간별 통계 이력. value는 버킷 내 마지막 값, min/max/samples는 버킷 내 집계.
+// user_id는 NOT NULL이며 전체 통계는 StatHistoryBucket.GLOBAL_USER_ID로 저장한다.
+@Entity
+@Table(name = "dashboard_stat_history",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stat_history_bucket",
+                columnNames = { "user_id", "category", "granularity", "bucket_start" }),
+        indexes = @Index(name = "idx_stat_history_granularity_updated", columnList = "granularity, updated_at"))
+public class StatHistoryBucket {
+    public static final UUID GLOBAL_USER_ID = new UUID(0L, 0L);
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private UUID userId;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private HistoryGranularity granularity;
+
+    @Column(name = "bucket_start", nullable = false)
+    private LocalDate bucketStart;
+
+    @Column(nullable = false)
+    private Integer value;
+
+    @Column(name = "min_value", nullable = false)
+    private Integer minValue;
+
+    @Column(name = "max_value", nullable = false)
+    private Integer maxValue;
+
+    @Column(nullable = false)
+    private Integer samples;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected StatHistoryBucket() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public UUID getUserId() {
+        return userId;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public HistoryGranularity getGranularity() {
+        return granularity;
+    }
+
+    public LocalDate getBucketStart() {
+        return bucketStart;
+    }
+
+    public Integer getValue() {
+        return value;
+    }
+
+    public Integer getMinValue() {
+        return minValue;
+    }
+
+    public Integer getMaxValue() {
+        return maxValue;
+    }
+
+    public Integer getSamples() {
+        return samples;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.jiwontechinnovation.analysis.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// 카테고리별 분위수 스케치(KllSketch) 체크포인트.
+// 전체 재구성 결과만 owner "base"로 저장한다.
+@Entity
+@Table(name = "stat_sketch_checkpoints",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stat_sketch_owner_category",
+                columnNames = { "owner", "category" }))
+public class StatSketchCheckpoint {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String owner;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    // 기준(base) 재구성 시각(ms). 재구성이 끝나면 이전 세대의 행은 지운다.
+    @Column(nullable = false)
+    private Long generation;
+
+    @Column(nullable = false)
+    private byte[] sketch;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    protected StatSketchCheckpoint() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getOwner() {
+        return owner;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public Long getGeneration() {
+        return generation;
+    }
+
+    public byte[] getSketch() {
+        return sketch;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+}
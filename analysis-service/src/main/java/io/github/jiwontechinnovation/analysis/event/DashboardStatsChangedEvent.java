@@ -0,0 +1,15 @@
+package io.github.jiwontechinnovation.analysis.event;
+
+import java.util.List;
+import java.util.UUID;
+
+// 통계 값이 바뀐 뒤 커밋 시점에 발행. value는 증분이 아니라 변경 후의 값
+public record DashboardStatsChangedEvent(List<StatChange> changes) {
+
+    public record StatChange(UUID userId, String category, int value) {
+    }
+
+    public static DashboardStatsChangedEvent of(UUID userId, String category, int value) {
+        return new DashboardStatsChangedEvent(List.of(new StatChange(userId, category, value)));
+    }
+}
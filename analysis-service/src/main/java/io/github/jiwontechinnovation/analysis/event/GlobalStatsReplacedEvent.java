@@ -0,0 +1,6 @@
+package io.github.jiwontechinnovation.analysis.event;
+
+// 전체 통계 행을 통째로 교체함 (GlobalStatsRecomputeJob). 사라진 카테고리가 있을 수 있으므로
+// 변경분을 덮어쓰지 않고 전체 통계 캐시를 다시 읽어야 한다. StatsChangeRelay가 다른 레플리카에도 전달한다.
+public record GlobalStatsReplacedEvent() {
+}
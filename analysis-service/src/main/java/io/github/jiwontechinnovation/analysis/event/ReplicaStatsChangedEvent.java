@@ -0,0 +1,22 @@
+package io.github.jiwontechinnovation.analysis.event;
+
+import java.util.List;
+
+// 다른 레플리카에서 커밋된 통계 변경 (StatsChangeRelay가 발행).
+// resync면 LISTEN 연결이 끊겼던 동안 변경을 놓쳤을 수 있으므로 로컬 캐시를 모두 비운다.
+// globalReplaced면 전체 통계 행이 교체되었으므로 전체 통계 캐시만 비운다 (GlobalStatsReplacedEvent).
+public record ReplicaStatsChangedEvent(List<DashboardStatsChangedEvent.StatChange> changes, boolean resync,
+        boolean globalReplaced) {
+
+    public static ReplicaStatsChangedEvent of(List<DashboardStatsChangedEvent.StatChange> changes) {
+        return new ReplicaStatsChangedEvent(changes, false, false);
+    }
+
+    public static ReplicaStatsChangedEvent resyncAll() {
+        return new ReplicaStatsChangedEvent(List.of(), true, false);
+    }
+
+    public static ReplicaStatsChangedEvent globalRowsReplaced() {
+        return new ReplicaStatsChangedEvent(List.of(), false, true);
+    }
+}
@@ -0,0 +1,47 @@
+package io.github.jiwontechinnovation.analysis.exception;
+
+import io.github.jiwontechinnovation.common.response.ApiResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.FieldError;
+import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.HttpClientErrorException;
+
+@RestControllerAdvice
+public class AnalysisExceptionHandler {
+
+    // 사용자 조회 실패를 전체 통계로 대체하지 않고 재시도를 요청
+    @ExceptionHandler(UserLookupException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUserLookup(UserLookupException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResponse.error(e.getMessage()));
+    }
+
+    // user-service가 호출자의 토큰을 거절한 경우(401/403 등)는 같은 상태로 돌려준다
+    @ExceptionHandler(HttpClientErrorException.class)
+    public ResponseEntity<ApiResponse<Void>> handleUserServiceClientError(HttpClientErrorException e) {
+        return ResponseEntity.status(e.getStatusCode())
+                .body(ApiResponse.error("사용자 정보를 확인할 수 없습니다"));
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<ApiResponse<Void>> handleIllegalArgument(IllegalArgumentException e) {
+        return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+    }
+
+    // @Valid 실패 시 첫 번째 메시지를 그대로 돌려준다
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponse<Void>> handleValidation(MethodArgumentNotValidException e) {
+        String message = e.getBindingResult().getAllErrors().stream()
+                .findFirst()
+                .map(error -> error instanceof FieldError fieldError
+                        ? fieldError.getField() + ": " + fieldError.getDefaultMessage()
+                        : error.getDefaultMessage())
+                .orElse("잘못된 요청입니다");
+        return ResponseEntity.badRequest().body(ApiResponse.error(message));
+    }
+}
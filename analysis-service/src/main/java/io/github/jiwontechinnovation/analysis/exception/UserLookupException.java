@@ -0,0 +1,10 @@
+package io.github.jiwontechinnovation.analysis.exception;
+
+import io.github.jiwontechinnovation.common.exception.BusinessException;
+
+public class UserLookupException extends BusinessException {
+    public UserLookupException(String message, Throwable cause) {
+        super(message);
+        initCause(cause);
+    }
+}
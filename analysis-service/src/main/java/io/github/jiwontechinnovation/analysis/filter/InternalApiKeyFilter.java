@@ -0,0 +1,50 @@
+package io.github.jiwontechinnovation.analysis.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+
+// 재집계 배치 등 내부 호출자 인증. 키가 맞으면 ROLE_INTERNAL을 부여한다 (일반 사용자 JWT로는 받을 수 없음)
+@Component
+public class InternalApiKeyFilter extends OncePerRequestFilter {
+    public static final String HEADER_NAME = "X-Internal-Api-Key";
+    public static final String ROLE = "INTERNAL";
+
+    private static final Logger logger = LoggerFactory.getLogger(InternalApiKeyFilter.class);
+    private final byte[] apiKey;
+
+    // 키가 비어 있으면 내부 API는 모두 거부된다
+    public InternalApiKeyFilter(@Value("${analysis.internal-api-key:}") String apiKey) {
+        this.apiKey = StringUtils.hasText(apiKey) ? apiKey.getBytes(StandardCharsets.UTF_8) : null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String presented = request.getHeader(HEADER_NAME);
+        if (presented != null) {
+            if (apiKey != null && MessageDigest.isEqual(apiKey, presented.getBytes(StandardCharsets.UTF_8))) {
+                SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                        "internal", null, List.of(new SimpleGrantedAuthority("ROLE_" + ROLE))));
+            } else {
+                logger.warn("내부 API 키 불일치 - path: {}", request.getRequestURI());
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -1,12 +1,17 @@
 package io.github.jiwontechinnovation.analysis.filter;
 
-import io.github.jiwontechinnovation.analysis.jwt.JwtTokenProvider;
+import io.github.jiwontechinnovation.common.jwt.JwtVerifier;
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.github.jiwontechinnovation.common.security.AuthenticatedUser;
+import io.github.jiwontechinnovation.common.security.IdentityHeaderCodec;
+import io.github.jiwontechinnovation.common.security.TrustedIdentityHeaders;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,37 +21,47 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerifier jwtVerifier;
+    private final TrustedIdentityHeaders trustedIdentityHeaders;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier,
+                                   @Value("${jwt.trusted-header.secret}") String trustedHeaderSecret,
+                                   @Value("${jwt.trusted-header.enabled:false}") boolean trustedHeaderEnabled) {
+        this.jwtVerifier = jwtVerifier;
+        this.trustedIdentityHeaders = trustedHeaderEnabled ? new TrustedIdentityHeaders(trustedHeaderSecret) : null;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        // 게이트웨이가 서명한 신원 헤더가 있으면 JWT 파싱 없이 인증
+        Optional<IdentityHeaderCodec.TrustedIdentity> trustedIdentity = trustedIdentityHeaders != null
+                ? trustedIdentityHeaders.resolve(request)
+                : Optional.empty();
+        if (trustedIdentity.isPresent()) {
+            authenticate(request, new AuthenticatedUser(trustedIdentity.get().username(), trustedIdentity.get().userId()));
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String token = extractToken(request);
         String path = request.getRequestURI();
 
         if (StringUtils.hasText(token)) {
-            boolean isValid = jwtTokenProvider.validateToken(token);
-            logger.info("JWT Token validation result: {} for path: {}", isValid, path);
+            Optional<VerifiedClaims> claims = jwtVerifier.verifyAccessToken(token);
+            logger.info("JWT Token validation result: {} for path: {}", claims.isPresent(), path);
             
-            if (isValid) {
-                String username = jwtTokenProvider.getUsernameFromToken(token);
+            if (claims.isPresent()) {
+                String username = claims.get().subject();
                 logger.info("Setting authentication for user: {} on path: {}", username, path);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                authenticate(request, new AuthenticatedUser(username, claims.get().userId()));
             } else {
                 logger.warn("JWT Token validation failed for path: {}", path);
             }
@@ -57,6 +72,15 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // principal에 uid 클레임의 UUID를 함께 담아 컨트롤러가 user-service를 다시 호출하지 않게 한다
+    private void authenticate(HttpServletRequest request, AuthenticatedUser user) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(user, null, Collections.emptyList());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
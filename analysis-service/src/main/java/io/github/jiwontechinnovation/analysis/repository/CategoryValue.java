@@ -0,0 +1,5 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+// 레이더 차트 조회용 projection (엔티티 전체를 읽지 않음)
+public record CategoryValue(String category, Integer value) {
+}
@@ -0,0 +1,108 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent.StatChange;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 대량 upsert는 JPA를 거치지 않고 JDBC batch로 처리
+@Repository
+public class DashboardStatBatchWriter {
+    static final String UPSERT_USER_STAT = """
+            INSERT INTO dashboard_stats (id, user_id, category, value, created_at, updated_at)
+            VALUES (gen_random_uuid(), ?, ?, ?, now(), now())
+            ON CONFLICT (user_id, category) DO UPDATE SET value = EXCLUDED.value, updated_at = EXCLUDED.updated_at
+            """;
+    static final String UPSERT_GLOBAL_STAT = """
+            INSERT INTO dashboard_stats (id, user_id, category, value, created_at, updated_at)
+            VALUES (gen_random_uuid(), NULL, ?, ?, now(), now())
+            ON CONFLICT (category) WHERE user_id IS NULL
+            DO UPDATE SET value = EXCLUDED.value, updated_at = EXCLUDED.updated_at
+            """;
+
+    private static final String ADD_DELTAS_PREFIX =
+            "INSERT INTO dashboard_stats (id, user_id, category, value, created_at, updated_at) VALUES ";
+    private static final String ADD_DELTAS_ROW = "(gen_random_uuid(), ?, ?, ?, now(), now())";
+    private static final String ADD_DELTAS_SUFFIX = """
+             ON CONFLICT (user_id, category)
+            DO UPDATE SET value = LEAST(GREATEST(dashboard_stats.value::bigint + EXCLUDED.value, -2147483648), 2147483647)::integer,
+                updated_at = EXCLUDED.updated_at
+            RETURNING user_id, category, value
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int batchSize;
+
+    public DashboardStatBatchWriter(JdbcTemplate jdbcTemplate,
+            @Value("${analysis.stats.batch-size:1000}") int batchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.batchSize = batchSize;
+    }
+
+    public void upsert(UUID userId, String category, int value) {
+        if (userId != null) {
+            jdbcTemplate.update(UPSERT_USER_STAT, ps -> {
+                ps.setObject(1, userId, Types.OTHER);
+                ps.setString(2, category);
+                ps.setInt(3, value);
+            });
+        } else {
+            jdbcTemplate.update(UPSERT_GLOBAL_STAT, category, value);
+        }
+    }
+
+    // 같은 (user, category)가 여러 번 오면 마지막 값만 반영
+    // (한 batch 안에서 같은 행을 두 번 갱신하면 ON CONFLICT가 실패한다)
+    public List<StatChange> upsertAll(Collection<StatChange> changes) {
+        Map<Key, StatChange> latest = new LinkedHashMap<>();
+        for (StatChange change : changes) {
+            latest.put(new Key(change.userId(), change.category()), change);
+        }
+
+        List<StatChange> userStats = new ArrayList<>();
+        List<StatChange> globalStats = new ArrayList<>();
+        latest.values().forEach(change -> (change.userId() != null ? userStats : globalStats).add(change));
+
+        jdbcTemplate.batchUpdate(UPSERT_USER_STAT, userStats, batchSize, (ps, change) -> {
+            ps.setObject(1, change.userId(), Types.OTHER);
+            ps.setString(2, change.category());
+            ps.setInt(3, change.value());
+        });
+        jdbcTemplate.batchUpdate(UPSERT_GLOBAL_STAT, globalStats, batchSize, (ps, change) -> {
+            ps.setString(1, change.category());
+            ps.setInt(2, change.value());
+        });
+        return List.copyOf(latest.values());
+    }
+
+    // 증분을 한 문장의 multi-row upsert로 더하고, 반영 후의 값을 돌려준다.
+    // 합이 INTEGER 범위를 넘으면 overflow 오류 대신 경계값으로 고정한다.
+    // 키는 중복되지 않아야 하며 userId는 null이 아니어야 한다.
+    public List<StatChange> addDeltas(List<StatChange> deltas) {
+        if (deltas.isEmpty()) {
+            return List.of();
+        }
+        String sql = ADD_DELTAS_PREFIX + String.join(",", Collections.nCopies(deltas.size(), ADD_DELTAS_ROW))
+                + ADD_DELTAS_SUFFIX;
+        return jdbcTemplate.query(sql, ps -> {
+            int index = 1;
+            for (StatChange delta : deltas) {
+                ps.setObject(index++, delta.userId(), Types.OTHER);
+                ps.setString(index++, delta.category());
+                ps.setInt(index++, delta.value());
+            }
+        }, (rs, rowNum) -> new StatChange(rs.getObject(1, UUID.class), rs.getString(2), rs.getInt(3)));
+    }
+
+    private record Key(UUID userId, String category) {
+    }
+}
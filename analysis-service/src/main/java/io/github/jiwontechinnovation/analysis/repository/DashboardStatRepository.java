@@ -1,6 +1,7 @@
 package io.github.jiwontechinnovation.analysis.repository;
 
 import io.github.jiwontechinnovation.analysis.entity.DashboardStat;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -19,5 +20,10 @@ public interface DashboardStatRepository extends JpaRepository<DashboardStat, UU
     
     // userId가 null이고 category로 조회
     Optional<DashboardStat> findByUserIdIsNullAndCategory(String category);
+
+    // (user_id, value DESC) 인덱스를 타고 상위 N개만 읽음
+    List<CategoryValue> findByUserIdOrderByValueDesc(UUID userId, Limit limit);
+
+    List<CategoryValue> findByUserIdIsNullOrderByValueDesc(Limit limit);
 }
 
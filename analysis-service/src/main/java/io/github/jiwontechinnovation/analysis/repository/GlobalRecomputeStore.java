@@ -0,0 +1,230 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+// 전체 통계 재계산 작업의 진행 상태와 구간별 중간 결과
+@Repository
+public class GlobalRecomputeStore {
+    private static final long CREATE_LOCK_KEY = 0x474C_4F42_414CL;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public GlobalRecomputeStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record Partition(int partitionNo, UUID lowerId, UUID upperId) {
+    }
+
+    public record PartitionResult(Map<String, long[]> totals, long rows) {
+    }
+
+    public Long findRunningRun() {
+        List<Long> ids = jdbcTemplate.queryForList(
+                "SELECT id FROM global_recompute_runs WHERE status = 'RUNNING' ORDER BY id DESC LIMIT 1", Long.class);
+        return ids.isEmpty() ? null : ids.get(0);
+    }
+
+    // 트랜잭션 안에서 호출. 동시에 두 인스턴스가 새 작업을 만들지 않도록 한다
+    public boolean tryLockCreate() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, CREATE_LOCK_KEY));
+    }
+
+    public long createRun(String owner, LocalDateTime leaseUntil) {
+        return jdbcTemplate.queryForObject("""
+                INSERT INTO global_recompute_runs (status, owner, lease_until, partitions, started_at)
+                VALUES ('RUNNING', ?, ?, 0, now()) RETURNING id
+                """, Long.class, owner, Timestamp.valueOf(leaseUntil));
+    }
+
+    // 사용자 행을 id 순으로 partitionSize개씩 나눈 경계값. 인덱스만 훑으므로 행을 메모리에 올리지 않는다
+    public List<Partition> planPartitions(long runId, int partitionSize) {
+        List<Partition> partitions = new ArrayList<>();
+        UUID lower = null;
+        while (true) {
+            List<UUID> boundary = lower == null
+                    ? jdbcTemplate.queryForList("""
+                            SELECT id FROM dashboard_stats WHERE user_id IS NOT NULL
+                            ORDER BY id OFFSET ? LIMIT 1
+                            """, UUID.class, partitionSize - 1)
+                    : jdbcTemplate.queryForList("""
+                            SELECT id FROM dashboard_stats WHERE user_id IS NOT NULL AND id > ?
+                            ORDER BY id OFFSET ? LIMIT 1
+                            """, UUID.class, lower, partitionSize - 1);
+            // 마지막 구간은 상한 없이 열어 두어 계획 이후 추가된 행도 포함한다
+            UUID upper = boundary.isEmpty() ? null : boundary.get(0);
+            partitions.add(new Partition(partitions.size(), lower, upper));
+            if (upper == null) {
+                break;
+            }
+            lower = upper;
+        }
+
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO global_recompute_partitions (run_id, partition_no, lower_id, upper_id, done)
+                VALUES (?, ?, ?, ?, false)
+                """, partitions, 500, (ps, partition) -> {
+            ps.setLong(1, runId);
+            ps.setInt(2, partition.partitionNo());
+            ps.setObject(3, partition.lowerId(), Types.OTHER);
+            ps.setObject(4, partition.upperId(), Types.OTHER);
+        });
+        jdbcTemplate.update("UPDATE global_recompute_runs SET partitions = ? WHERE id = ?", partitions.size(), runId);
+        return partitions;
+    }
+
+    // 임대가 만료됐거나 이미 자신이 가진 작업만 가져온다
+    public boolean claimRun(long runId, String owner, LocalDateTime leaseUntil) {
+        return jdbcTemplate.update("""
+                UPDATE global_recompute_runs SET owner = ?, lease_until = ?
+                WHERE id = ? AND status = 'RUNNING' AND (owner = ? OR lease_until IS NULL OR lease_until < now())
+                """, owner, Timestamp.valueOf(leaseUntil), runId, owner) == 1;
+    }
+
+    // 이번 실행이 몇 번째인지 (1부터)
+    public int startPass(long runId) {
+        return jdbcTemplate.queryForObject("""
+                UPDATE global_recompute_runs SET passes = coalesce(passes, 0) + 1 WHERE id = ? RETURNING passes
+                """, Integer.class, runId);
+    }
+
+    public List<Partition> findPendingPartitions(long runId) {
+        return jdbcTemplate.query("""
+                SELECT partition_no, lower_id, upper_id FROM global_recompute_partitions
+                WHERE run_id = ? AND done = false ORDER BY partition_no
+                """, (rs, rowNum) -> new Partition(rs.getInt(1), rs.getObject(2, UUID.class),
+                rs.getObject(3, UUID.class)), runId);
+    }
+
+    // 집계는 DB에서 카테고리 단위로 끝내므로 구간 크기와 무관하게 카테고리 수만큼만 메모리를 쓴다
+    public PartitionResult aggregate(Partition partition) {
+        StringBuilder sql = new StringBuilder(
+                "SELECT category, sum(value), count(*) FROM dashboard_stats WHERE user_id IS NOT NULL");
+        List<Object> args = new ArrayList<>(2);
+        if (partition.lowerId() != null) {
+            sql.append(" AND id > ?");
+            args.add(partition.lowerId());
+        }
+        if (partition.upperId() != null) {
+            sql.append(" AND id <= ?");
+            args.add(partition.upperId());
+        }
+        sql.append(" GROUP BY category");
+
+        Map<String, long[]> totals = new HashMap<>();
+        long[] rows = { 0L };
+        jdbcTemplate.query(sql.toString(), rs -> {
+            long samples = rs.getLong(3);
+            totals.put(rs.getString(1), new long[] { rs.getLong(2), samples });
+            rows[0] += samples;
+        }, args.toArray());
+        return new PartitionResult(totals, rows[0]);
+    }
+
+    // 호출 측 트랜잭션 안에서 중간 결과 저장과 완료 표시를 함께 처리
+    public void completePartition(long runId, int partitionNo, PartitionResult result, long durationMs) {
+        List<Map.Entry<String, long[]>> entries = List.copyOf(result.totals().entrySet());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO global_recompute_partials (run_id, partition_no, category, total, samples)
+                VALUES (?, ?, ?, ?, ?)
+                ON CONFLICT (run_id, partition_no, category) DO NOTHING
+                """, entries, 500, (ps, entry) -> {
+            ps.setLong(1, runId);
+            ps.setInt(2, partitionNo);
+            ps.setString(3, entry.getKey());
+            ps.setLong(4, entry.getValue()[0]);
+            ps.setLong(5, entry.getValue()[1]);
+        });
+        jdbcTemplate.update("""
+                UPDATE global_recompute_partitions SET done = true, rows_processed = ?, duration_ms = ?
+                WHERE run_id = ? AND partition_no = ?
+                """, result.rows(), durationMs, runId, partitionNo);
+    }
+
+    public void recordPartitionFailure(long runId, int partitionNo) {
+        jdbcTemplate.update("""
+                UPDATE global_recompute_partitions SET attempts = coalesce(attempts, 0) + 1
+                WHERE run_id = ? AND partition_no = ?
+                """, runId, partitionNo);
+    }
+
+    // 실패 횟수가 한도에 닿은 미완료 구간 수
+    public int countExhaustedPartitions(long runId, int maxAttempts) {
+        Integer count = jdbcTemplate.queryForObject("""
+                SELECT count(*) FROM global_recompute_partitions
+                WHERE run_id = ? AND done = false AND coalesce(attempts, 0) >= ?
+                """, Integer.class, runId, maxAttempts);
+        return count != null ? count : 0;
+    }
+
+    // 카테고리별 평균 (반올림)
+    public Map<String, Integer> findAverages(long runId) {
+        Map<String, Integer> averages = new LinkedHashMap<>();
+        jdbcTemplate.query("""
+                SELECT category, round(sum(total)::numeric / sum(samples))::int FROM global_recompute_partials
+                WHERE run_id = ? GROUP BY category HAVING sum(samples) > 0 ORDER BY category
+                """, rs -> {
+            averages.put(rs.getString(1), rs.getInt(2));
+        }, runId);
+        return averages;
+    }
+
+    // 호출 측 트랜잭션 안에서 실행. 다른 트랜잭션은 교체 전 또는 교체 후 행만 보게 된다
+    public void replaceGlobalRows(Map<String, Integer> values) {
+        jdbcTemplate.update("DELETE FROM dashboard_stats WHERE user_id IS NULL");
+        List<Map.Entry<String, Integer>> entries = List.copyOf(values.entrySet());
+        jdbcTemplate.batchUpdate("""
+                INSERT INTO dashboard_stats (id, user_id, category, value, created_at, updated_at)
+                VALUES (gen_random_uuid(), NULL, ?, ?, now(), now())
+                """, entries, 500, (ps, entry) -> {
+            ps.setString(1, entry.getKey());
+            ps.setInt(2, entry.getValue());
+        });
+    }
+
+    public long completeRun(long runId) {
+        Long rows = jdbcTemplate.queryForObject(
+                "SELECT coalesce(sum(rows_processed), 0) FROM global_recompute_partitions WHERE run_id = ?",
+                Long.class, runId);
+        jdbcTemplate.update("""
+                UPDATE global_recompute_runs
+                SET status = 'COMPLETED', finished_at = now(), rows_processed = ?, lease_until = NULL
+                WHERE id = ?
+                """, rows, runId);
+        return rows != null ? rows : 0L;
+    }
+
+    // 자신이 가진 작업만 FAILED로 끝낸다
+    public boolean failRun(long runId, String owner) {
+        return jdbcTemplate.update("""
+                UPDATE global_recompute_runs SET status = 'FAILED', finished_at = now(), lease_until = NULL
+                WHERE id = ? AND status = 'RUNNING' AND owner = ?
+                """, runId, owner) == 1;
+    }
+
+    // 끝난 작업의 구간/중간 결과는 바로 지우고, 작업 행은 finishedBefore 이전에 끝난 것만 지운다
+    public void purgeFinished(LocalDateTime finishedBefore) {
+        jdbcTemplate.update("""
+                DELETE FROM global_recompute_partials p WHERE NOT EXISTS (
+                    SELECT 1 FROM global_recompute_runs r WHERE r.id = p.run_id AND r.status = 'RUNNING')
+                """);
+        jdbcTemplate.update("""
+                DELETE FROM global_recompute_partitions p WHERE NOT EXISTS (
+                    SELECT 1 FROM global_recompute_runs r WHERE r.id = p.run_id AND r.status = 'RUNNING')
+                """);
+        jdbcTemplate.update("DELETE FROM global_recompute_runs WHERE status <> 'RUNNING' AND finished_at < ?",
+                Timestamp.valueOf(finishedBefore));
+    }
+}
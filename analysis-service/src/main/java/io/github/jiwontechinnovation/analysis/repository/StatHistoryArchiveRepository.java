@@ -0,0 +1,13 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+import io.github.jiwontechinnovation.analysis.entity.StatHistoryArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface StatHistoryArchiveRepository extends JpaRepository<StatHistoryArchive, Long> {
+    List<StatHistoryArchive> findByUserIdAndMonthStartBetweenOrderByMonthStartAsc(UUID userId, LocalDate from,
+            LocalDate to);
+}
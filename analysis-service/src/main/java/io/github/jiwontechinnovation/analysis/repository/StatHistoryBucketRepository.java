@@ -0,0 +1,14 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+import io.github.jiwontechinnovation.analysis.entity.HistoryGranularity;
+import io.github.jiwontechinnovation.analysis.entity.StatHistoryBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+public interface StatHistoryBucketRepository extends JpaRepository<StatHistoryBucket, Long> {
+    List<StatHistoryBucket> findByUserIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(UUID userId,
+            HistoryGranularity granularity, LocalDate from, LocalDate to);
+}
@@ -0,0 +1,122 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+import io.github.jiwontechinnovation.analysis.entity.HistoryGranularity;
+import io.github.jiwontechinnovation.analysis.entity.StatHistoryBucket;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent.StatChange;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public class StatHistoryWriter {
+    private static final String UPSERT_DAY = """
+            INSERT INTO dashboard_stat_history
+                (user_id, category, granularity, bucket_start, value, min_value, max_value, samples, updated_at)
+            VALUES (?, ?, 'DAY', ?, ?, ?, ?, 1, now())
+            ON CONFLICT (user_id, category, granularity, bucket_start) DO UPDATE SET
+                value = EXCLUDED.value,
+                min_value = LEAST(dashboard_stat_history.min_value, EXCLUDED.min_value),
+                max_value = GREATEST(dashboard_stat_history.max_value, EXCLUDED.max_value),
+                samples = dashboard_stat_history.samples + 1,
+                updated_at = EXCLUDED.updated_at
+            """;
+
+    // 최근 갱신된 일별 버킷이 속한 주/월만 일별 버킷에서 다시 집계한다.
+    // date_trunc 단위를 바인드 파라미터로 넘기면 SELECT와 GROUP BY의 식이 같은 식으로 인식되지 않아
+    // PostgreSQL이 거부하므로, 정해진 단위(week/month)만 리터럴로 넣는다.
+    private static final String ROLLUP_TEMPLATE = """
+            INSERT INTO dashboard_stat_history
+                (user_id, category, granularity, bucket_start, value, min_value, max_value, samples, updated_at)
+            SELECT d.user_id, d.category, '%1$s', date_trunc('%2$s', d.bucket_start::timestamp)::date,
+                   (array_agg(d.value ORDER BY d.bucket_start DESC))[1],
+                   min(d.min_value), max(d.max_value), sum(d.samples), now()
+            FROM dashboard_stat_history d
+            WHERE d.granularity = 'DAY'
+              AND (d.user_id, d.category, date_trunc('%2$s', d.bucket_start::timestamp)) IN (
+                  SELECT t.user_id, t.category, date_trunc('%2$s', t.bucket_start::timestamp)
+                  FROM dashboard_stat_history t
+                  WHERE t.granularity = 'DAY' AND t.updated_at >= ?)
+            GROUP BY d.user_id, d.category, date_trunc('%2$s', d.bucket_start::timestamp)
+            ON CONFLICT (user_id, category, granularity, bucket_start) DO UPDATE SET
+                value = EXCLUDED.value,
+                min_value = EXCLUDED.min_value,
+                max_value = EXCLUDED.max_value,
+                samples = EXCLUDED.samples,
+                updated_at = EXCLUDED.updated_at
+            """;
+    private static final String ROLLUP_WEEK = ROLLUP_TEMPLATE.formatted(HistoryGranularity.WEEK.name(), "week");
+    private static final String ROLLUP_MONTH = ROLLUP_TEMPLATE.formatted(HistoryGranularity.MONTH.name(), "month");
+
+    private static final String UPSERT_ARCHIVE = """
+            INSERT INTO dashboard_stat_history_archive (user_id, category, month_start, encoded)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (user_id, category, month_start) DO UPDATE SET encoded = EXCLUDED.encoded
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatHistoryWriter(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    public record ArchivedMonth(UUID userId, String category, LocalDate monthStart, byte[] encoded) {
+    }
+
+    public void recordDaily(List<StatChange> changes, LocalDate day) {
+        Date bucketStart = Date.valueOf(day);
+        jdbcTemplate.batchUpdate(UPSERT_DAY, changes, 1000, (ps, change) -> {
+            ps.setObject(1, change.userId() != null ? change.userId() : StatHistoryBucket.GLOBAL_USER_ID, Types.OTHER);
+            ps.setString(2, change.category());
+            ps.setDate(3, bucketStart);
+            ps.setInt(4, change.value());
+            ps.setInt(5, change.value());
+            ps.setInt(6, change.value());
+        });
+    }
+
+    public int rollup(HistoryGranularity granularity, LocalDateTime changedSince) {
+        String sql = switch (granularity) {
+            case WEEK -> ROLLUP_WEEK;
+            case MONTH -> ROLLUP_MONTH;
+            case DAY -> throw new IllegalArgumentException("일별 버킷은 롤업 대상이 아닙니다");
+        };
+        return jdbcTemplate.update(sql, Timestamp.valueOf(changedSince));
+    }
+
+    public LocalDate findOldestDailyBucket() {
+        return jdbcTemplate.queryForObject(
+                "SELECT min(bucket_start) FROM dashboard_stat_history WHERE granularity = 'DAY'", LocalDate.class);
+    }
+
+    // 키 순서(user, category, 날짜)로 한 달치 일별 값을 흘려 읽는다
+    public void streamDailyValues(LocalDate monthStart, RowCallbackHandler handler) {
+        jdbcTemplate.query("""
+                SELECT user_id, category, bucket_start, value FROM dashboard_stat_history
+                WHERE granularity = 'DAY' AND bucket_start >= ? AND bucket_start < ?
+                ORDER BY user_id, category, bucket_start
+                """, handler, Date.valueOf(monthStart), Date.valueOf(monthStart.plusMonths(1)));
+    }
+
+    public void saveArchives(List<ArchivedMonth> archives) {
+        jdbcTemplate.batchUpdate(UPSERT_ARCHIVE, archives, 500, (ps, archive) -> {
+            ps.setObject(1, archive.userId(), Types.OTHER);
+            ps.setString(2, archive.category());
+            ps.setDate(3, Date.valueOf(archive.monthStart()));
+            ps.setBytes(4, archive.encoded());
+        });
+    }
+
+    public int deleteDailyBuckets(LocalDate monthStart) {
+        return jdbcTemplate.update(
+                "DELETE FROM dashboard_stat_history WHERE granularity = 'DAY' AND bucket_start >= ? AND bucket_start < ?",
+                Date.valueOf(monthStart), Date.valueOf(monthStart.plusMonths(1)));
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class StatSketchStore {
+    public static final String BASE_OWNER = "base";
+
+    private static final String UPSERT = """
+            INSERT INTO stat_sketch_checkpoints (owner, category, generation, sketch, updated_at)
+            VALUES (?, ?, ?, ?, now())
+            ON CONFLICT (owner, category) DO UPDATE SET
+                generation = EXCLUDED.generation, sketch = EXCLUDED.sketch, updated_at = EXCLUDED.updated_at
+            """;
+    // 재구성 작업끼리만 겹치지 않게 하는 advisory lock 키
+    private static final long REBUILD_LOCK_KEY = 0x5354_4154_534BL;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public StatSketchStore(DataSource dataSource) {
+        // 전체 사용자 값을 커서로 흘려 읽기 위한 전용 JdbcTemplate (fetch size는 트랜잭션 안에서만 적용)
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+    }
+
+    public record Checkpoint(String owner, String category, long generation, byte[] sketch) {
+    }
+
+    public List<Checkpoint> findBase() {
+        return jdbcTemplate.query(
+                "SELECT owner, category, generation, sketch FROM stat_sketch_checkpoints WHERE owner = ?",
+                (rs, rowNum) -> new Checkpoint(rs.getString(1), rs.getString(2), rs.getLong(3), rs.getBytes(4)),
+                BASE_OWNER);
+    }
+
+    public LocalDateTime findLastRebuiltAt() {
+        Timestamp rebuiltAt = jdbcTemplate.queryForObject(
+                "SELECT max(updated_at) FROM stat_sketch_checkpoints WHERE owner = ?", Timestamp.class, BASE_OWNER);
+        return rebuiltAt != null ? rebuiltAt.toLocalDateTime() : null;
+    }
+
+    public void saveAll(String owner, long generation, Map<String, byte[]> sketches) {
+        List<Map.Entry<String, byte[]>> entries = List.copyOf(sketches.entrySet());
+        jdbcTemplate.batchUpdate(UPSERT, entries, 500, (ps, entry) -> {
+            ps.setString(1, owner);
+            ps.setString(2, entry.getKey());
+            ps.setLong(3, generation);
+            ps.setBytes(4, entry.getValue());
+        });
+    }
+
+    public int deleteOlderThan(long generation) {
+        return jdbcTemplate.update("DELETE FROM stat_sketch_checkpoints WHERE generation < ?", generation);
+    }
+
+    // 트랜잭션 안에서 호출해야 함. 다른 레플리카가 재구성 중이면 false
+    public boolean tryLockRebuild() {
+        return Boolean.TRUE.equals(jdbcTemplate.queryForObject(
+                "SELECT pg_try_advisory_xact_lock(?)", Boolean.class, REBUILD_LOCK_KEY));
+    }
+
+    public void streamUserValues(RowCallbackHandler handler) {
+        jdbcTemplate.query("SELECT category, value FROM dashboard_stats WHERE user_id IS NOT NULL", handler);
+    }
+}
@@ -3,11 +3,13 @@ package io.github.jiwontechinnovation.analysis.service;
 import io.github.jiwontechinnovation.analysis.dto.DashboardStatsResponse;
 import io.github.jiwontechinnovation.analysis.dto.RadarStatDto;
 import io.github.jiwontechinnovation.analysis.entity.DashboardStat;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.repository.DashboardStatBatchWriter;
 import io.github.jiwontechinnovation.analysis.repository.DashboardStatRepository;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Comparator;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -16,58 +18,44 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class AnalysisService {
     private final DashboardStatRepository dashboardStatRepository;
+    private final DashboardStatBatchWriter dashboardStatBatchWriter;
+    private final RadarTopKIndex radarTopKIndex;
+    private final PopulationPercentiles populationPercentiles;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public AnalysisService(DashboardStatRepository dashboardStatRepository) {
+    public AnalysisService(DashboardStatRepository dashboardStatRepository,
+            DashboardStatBatchWriter dashboardStatBatchWriter, RadarTopKIndex radarTopKIndex,
+            PopulationPercentiles populationPercentiles, ApplicationEventPublisher eventPublisher) {
         this.dashboardStatRepository = dashboardStatRepository;
+        this.dashboardStatBatchWriter = dashboardStatBatchWriter;
+        this.radarTopKIndex = radarTopKIndex;
+        this.populationPercentiles = populationPercentiles;
+        this.eventPublisher = eventPublisher;
     }
 
+    // value 내림차순 상위 6개만 반환 (정렬/제한은 RadarTopKIndex와 DB 인덱스가 담당)
+    // 사용자 통계에는 전체 사용자 대비 백분위를 함께 담는다
     public DashboardStatsResponse getDashboardStats(UUID userId) {
-        List<DashboardStat> stats;
-        
-        if (userId != null) {
-            stats = dashboardStatRepository.findByUserId(userId);
-        } else {
-            // userId가 null이면 전체 통계 조회
-            stats = dashboardStatRepository.findByUserIdIsNull();
-        }
-        
-        // 데이터베이스에서 조회한 값을 그대로 반환
-        // value 값이 높은 순서로 정렬하고 상위 6개만 선택
-        // 디버깅을 위해 로그 출력
-        System.out.println("=== Dashboard Stats for userId: " + userId + " ===");
-        stats.forEach(stat -> System.out.println("Category: " + stat.getCategory() + ", Value: " + stat.getValue()));
-        
-        List<RadarStatDto> radarData = stats.stream()
-                .sorted(Comparator.comparing(DashboardStat::getValue).reversed()) // value 내림차순 정렬
-                .limit(6) // 상위 6개만 선택
-                .map(stat -> new RadarStatDto(stat.getCategory(), stat.getValue()))
+        List<RadarStatDto> radarData = radarTopKIndex.top(userId).stream()
+                .map(stat -> new RadarStatDto(stat.category(), stat.value(),
+                        userId != null ? populationPercentiles.percentile(stat.category(), stat.value()) : null))
                 .collect(Collectors.toList());
         
         return new DashboardStatsResponse(radarData);
     }
 
+    // 단일 INSERT ... ON CONFLICT 로 처리 (동시 쓰기에도 중복 행이 생기지 않음)
     @Transactional
     public void saveOrUpdateStat(UUID userId, String category, Integer value) {
-        if (userId != null) {
-            dashboardStatRepository.findByUserIdAndCategory(userId, category)
-                    .ifPresentOrElse(
-                            stat -> {
-                                stat.setValue(value);
-                                dashboardStatRepository.save(stat);
-                            },
-                            () -> dashboardStatRepository.save(new DashboardStat(userId, category, value))
-                    );
-        } else {
-            // 전체 통계 업데이트
-            dashboardStatRepository.findByUserIdIsNullAndCategory(category)
-                    .ifPresentOrElse(
-                            stat -> {
-                                stat.setValue(value);
-                                dashboardStatRepository.save(stat);
-                            },
-                            () -> dashboardStatRepository.save(new DashboardStat(null, category, value))
-                    );
-        }
+        dashboardStatBatchWriter.upsert(userId, category, value);
+        eventPublisher.publishEvent(DashboardStatsChangedEvent.of(userId, category, value));
+    }
+
+    @Transactional
+    public int saveOrUpdateStats(List<DashboardStatsChangedEvent.StatChange> changes) {
+        List<DashboardStatsChangedEvent.StatChange> applied = dashboardStatBatchWriter.upsertAll(changes);
+        eventPublisher.publishEvent(new DashboardStatsChangedEvent(applied));
+        return applied.size();
     }
 
     public List<DashboardStat> getAllStatsForUser(UUID userId) {
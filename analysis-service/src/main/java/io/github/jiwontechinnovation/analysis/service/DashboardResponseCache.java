@@ -0,0 +1,124 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.GlobalStatsReplacedEvent;
+import io.github.jiwontechinnovation.analysis.event.ReplicaStatsChangedEvent;
+import io.github.jiwontechinnovation.common.http.ConditionalGet;
+import io.github.jiwontechinnovation.common.response.ApiResponse;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+// GET /stats 응답(ApiResponse<DashboardStatsResponse>)을 직렬화된 UTF-8 바이트로 보관.
+// 적중하면 DB/Jackson을 거치지 않고 바이트를 그대로 내보낸다. 통계가 바뀌면 해당 사용자 항목만 무효화.
+@Component
+public class DashboardResponseCache {
+    // 전체 통계(userId == null) 응답용 키
+    private static final UUID GLOBAL = new UUID(0L, 0L);
+    private static final String MESSAGE = "통계 데이터 조회 성공";
+
+    private final AnalysisService analysisService;
+    private final JsonMapper jsonMapper;
+    private final Cache<UUID, Rendered> responses;
+    private final DistributionSummary renderedBytes;
+    private final Timer renderTimer;
+
+    public DashboardResponseCache(AnalysisService analysisService, JsonMapper jsonMapper,
+            MeterRegistry meterRegistry,
+            @Value("${analysis.response-cache.maximum-bytes:67108864}") long maximumBytes,
+            @Value("${analysis.response-cache.ttl:1m}") Duration ttl) {
+        this.analysisService = analysisService;
+        this.jsonMapper = jsonMapper;
+        // 백분위는 쓰기 없이도 조금씩 바뀌므로 TTL로 상한을 둔다
+        this.responses = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((UUID key, Rendered rendered) -> rendered.body().length)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, responses, "analysis.stats-response");
+        Gauge.builder("analysis.stats-response.bytes", responses,
+                        cache -> cache.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        // 미스 때만 렌더링하므로 렌더링 바이트가 곧 이 경로의 할당량이다 (적중 시 0)
+        this.renderedBytes = DistributionSummary.builder("analysis.stats-response.rendered")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.renderTimer = Timer.builder("analysis.stats-response.render").register(meterRegistry);
+    }
+
+    // version은 조건부 GET(ETag)에 쓰는 본문 해시. 렌더링할 때 한 번만 계산한다
+    public record Rendered(byte[] body, String version) {
+    }
+
+    public Rendered get(UUID userId) {
+        return responses.get(key(userId), key -> render(userId));
+    }
+
+    private Rendered render(UUID userId) {
+        return renderTimer.record(() -> {
+            byte[] body = jsonMapper.writeValueAsBytes(
+                    ApiResponse.success(MESSAGE, analysisService.getDashboardStats(userId)));
+            renderedBytes.record(body.length);
+            return new Rendered(body, ConditionalGet.contentVersion(body));
+        });
+    }
+
+    // RadarTopKIndex 갱신 뒤에 실행되어야 다시 렌더링할 때 최신 값을 읽는다 (기본 순서가 가장 늦음)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(DashboardStatsChangedEvent event) {
+        invalidateChanged(event.changes());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGlobalStatsReplaced(GlobalStatsReplacedEvent event) {
+        invalidate(null);
+    }
+
+    @EventListener
+    public void onReplicaStatsChanged(ReplicaStatsChangedEvent event) {
+        if (event.resync()) {
+            invalidateAll();
+            return;
+        }
+        if (event.globalReplaced()) {
+            invalidate(null);
+            return;
+        }
+        invalidateChanged(event.changes());
+    }
+
+    private void invalidateChanged(List<DashboardStatsChangedEvent.StatChange> changes) {
+        Set<UUID> keys = new HashSet<>();
+        changes.forEach(change -> keys.add(key(change.userId())));
+        responses.invalidateAll(keys);
+    }
+
+    public void invalidate(UUID userId) {
+        responses.invalidate(key(userId));
+    }
+
+    public void invalidateAll() {
+        responses.invalidateAll();
+    }
+
+    private static UUID key(UUID userId) {
+        return userId != null ? userId : GLOBAL;
+    }
+}
@@ -0,0 +1,240 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.dto.RadarStatDto;
+import io.github.jiwontechinnovation.analysis.dto.RadarStreamUpdate;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.ReplicaStatsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 사용자별 SSE 구독자 목록. 통계가 바뀌면 해당 사용자의 구독자에게 레이더 변경분만 보낸다.
+// 구독자마다 "변경됨" 플래그 하나만 두고 보낼 때 최신 상태와 비교하므로, 느린 클라이언트가 있어도
+// 대기열이 쌓이지 않고 중간 변경은 하나로 합쳐진다. 전송은 구독자당 한 스레드만 수행한다.
+// 다른 레플리카에서 커밋된 변경은 StatsChangeRelay가 보낸 ReplicaStatsChangedEvent로 받는다
+// (RadarTopKIndex가 먼저 반영하도록 두 리스너 모두 기본 순서, 즉 가장 늦게 실행된다).
+@Component
+public class DashboardStreamRegistry implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStreamRegistry.class);
+    private static final String EVENT_NAME = "radar";
+
+    private final AnalysisService analysisService;
+    private final ConcurrentHashMap<UUID, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ExecutorService sender;
+    private final long timeoutMillis;
+    private final int maxPerUser;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final Counter sentEvents;
+    private final Counter droppedSubscribers;
+
+    public DashboardStreamRegistry(AnalysisService analysisService, MeterRegistry meterRegistry,
+            @Value("${analysis.stream.sender-threads:4}") int senderThreads,
+            @Value("${analysis.stream.timeout:30m}") Duration timeout,
+            @Value("${analysis.stream.max-per-user:5}") int maxPerUser) {
+        this.analysisService = analysisService;
+        this.sender = Executors.newFixedThreadPool(Math.max(senderThreads, 1),
+                new CustomizableThreadFactory("stats-stream-"));
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPerUser = Math.max(maxPerUser, 1);
+
+        Gauge.builder("analysis.stream.connections", connections, AtomicInteger::get).register(meterRegistry);
+        this.sentEvents = Counter.builder("analysis.stream.events").register(meterRegistry);
+        this.droppedSubscribers = Counter.builder("analysis.stream.dropped").register(meterRegistry);
+    }
+
+    public SseEmitter subscribe(UUID userId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+
+        // 같은 사용자의 연결이 너무 많으면 가장 오래된 것부터 닫는다 (재연결 누수 방지)
+        List<Subscriber> evicted = new ArrayList<>();
+        subscribers.compute(userId, (key, list) -> {
+            List<Subscriber> target = list != null ? list : new CopyOnWriteArrayList<>();
+            target.add(subscriber);
+            while (target.size() > maxPerUser) {
+                evicted.add(target.remove(0));
+            }
+            return target;
+        });
+        connections.incrementAndGet();
+        evicted.forEach(Subscriber::close);
+
+        // 첫 이벤트로 전체 레이더를 보낸다
+        subscriber.markDirty();
+        return emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(DashboardStatsChangedEvent event) {
+        markChanged(event.changes());
+    }
+
+    @EventListener
+    public void onReplicaStatsChanged(ReplicaStatsChangedEvent event) {
+        if (event.resync()) {
+            // 놓친 변경이 있을 수 있으므로 모든 구독자가 최신 상태와 다시 비교한다
+            subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::markDirty));
+            return;
+        }
+        markChanged(event.changes());
+    }
+
+    private void markChanged(List<DashboardStatsChangedEvent.StatChange> changes) {
+        Set<UUID> touched = new HashSet<>();
+        for (DashboardStatsChangedEvent.StatChange change : changes) {
+            if (change.userId() != null && touched.add(change.userId())) {
+                List<Subscriber> userSubscribers = subscribers.get(change.userId());
+                if (userSubscribers != null) {
+                    userSubscribers.forEach(Subscriber::markDirty);
+                }
+            }
+        }
+    }
+
+    // 변경이 없어도 주기적으로 주석 이벤트를 보내 중간 프록시가 연결을 끊지 않게 한다
+    @Scheduled(fixedDelayString = "${analysis.stream.heartbeat-interval:15000}")
+    public void heartbeat() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::requestHeartbeat));
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+        connections.decrementAndGet();
+        subscribers.computeIfPresent(subscriber.userId, (key, list) -> {
+            list.remove(subscriber);
+            return list.isEmpty() ? null : list;
+        });
+    }
+
+    @Override
+    public void destroy() {
+        subscribers.values().forEach(userSubscribers -> userSubscribers.forEach(Subscriber::close));
+        sender.shutdownNow();
+    }
+
+    private final class Subscriber {
+        private final UUID userId;
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        private final AtomicBoolean dirty = new AtomicBoolean();
+        private final AtomicBoolean heartbeat = new AtomicBoolean();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 마지막으로 보낸 레이더 상태. drain 스레드에서만 접근한다
+        private Map<String, RadarStatDto> lastSent = Map.of();
+
+        private Subscriber(UUID userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+
+        private void markDirty() {
+            dirty.set(true);
+            schedule();
+        }
+
+        private void requestHeartbeat() {
+            heartbeat.set(true);
+            schedule();
+        }
+
+        private void schedule() {
+            if (closed.get() || !draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                close();
+            }
+        }
+
+        private void drain() {
+            try {
+                while (!closed.get()) {
+                    if (dirty.getAndSet(false)) {
+                        sendChanges();
+                    } else if (heartbeat.getAndSet(false)) {
+                        emitter.send(SseEmitter.event().comment("ping"));
+                    } else {
+                        break;
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                logger.debug("SSE 전송 실패 - userId: {}: {}", userId, e.getMessage());
+                droppedSubscribers.increment();
+                close();
+            } catch (RuntimeException e) {
+                logger.warn("SSE 변경분 계산 실패 - userId: {}: {}", userId, e.getMessage());
+            } finally {
+                draining.set(false);
+            }
+            // drain 종료와 새 신호가 겹친 경우 다시 예약
+            if (!closed.get() && (dirty.get() || heartbeat.get())) {
+                schedule();
+            }
+        }
+
+        private void sendChanges() throws IOException {
+            List<RadarStatDto> current = analysisService.getDashboardStats(userId).radarData();
+            Map<String, RadarStatDto> next = new HashMap<>();
+            List<RadarStatDto> changed = new ArrayList<>();
+            for (RadarStatDto stat : current) {
+                next.put(stat.label(), stat);
+                if (!stat.equals(lastSent.get(stat.label()))) {
+                    changed.add(stat);
+                }
+            }
+            List<String> removed = lastSent.keySet().stream().filter(label -> !next.containsKey(label)).toList();
+            if (changed.isEmpty() && removed.isEmpty() && !lastSent.isEmpty()) {
+                return;
+            }
+            emitter.send(SseEmitter.event().name(EVENT_NAME)
+                    .data(new RadarStreamUpdate(changed, removed), MediaType.APPLICATION_JSON));
+            lastSent = next;
+            sentEvents.increment();
+        }
+
+        private void close() {
+            remove(this);
+            try {
+                emitter.complete();
+            } catch (RuntimeException ignored) {
+                // 이미 끊긴 연결
+            }
+        }
+    }
+}
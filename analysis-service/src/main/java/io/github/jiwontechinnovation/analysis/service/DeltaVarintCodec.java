@@ -0,0 +1,79 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// 한 달치 일별 값을 (일자 차이, 값 차이) 쌍으로 바꾼 뒤 varint로 저장한다.
+// 값은 대부분 전날과 비슷하므로 차이를 zigzag 인코딩하면 보통 1~2바이트로 줄어든다.
+public final class DeltaVarintCodec {
+
+    public record DailyValue(LocalDate day, int value) {
+    }
+
+    private DeltaVarintCodec() {
+    }
+
+    // values는 monthStart가 속한 달의 값이며 날짜 오름차순이어야 함
+    public static byte[] encode(LocalDate monthStart, List<DailyValue> values) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(values.size() * 2 + 1);
+        writeVarint(out, values.size());
+        int previousDay = 0;
+        long previousValue = 0L;
+        for (DailyValue value : values) {
+            int day = value.day().getDayOfMonth() - 1;
+            writeVarint(out, day - previousDay);
+            writeVarint(out, zigzag(value.value() - previousValue));
+            previousDay = day;
+            previousValue = value.value();
+        }
+        return out.toByteArray();
+    }
+
+    public static List<DailyValue> decode(LocalDate monthStart, byte[] encoded) {
+        int[] position = { 0 };
+        int count = (int) readVarint(encoded, position);
+        List<DailyValue> values = new ArrayList<>(count);
+        int day = 0;
+        long value = 0L;
+        for (int i = 0; i < count; i++) {
+            day += (int) readVarint(encoded, position);
+            value += unzigzag(readVarint(encoded, position));
+            values.add(new DailyValue(monthStart.plusDays(day), (int) value));
+        }
+        return values;
+    }
+
+    private static long zigzag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unzigzag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarint(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarint(byte[] data, int[] position) {
+        long result = 0L;
+        int shift = 0;
+        while (true) {
+            byte b = data[position[0]++];
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+            shift += 7;
+            if (shift > 63) {
+                throw new IllegalArgumentException("Malformed varint");
+            }
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.GlobalStatsReplacedEvent;
+import io.github.jiwontechinnovation.analysis.repository.GlobalRecomputeStore;
+import io.github.jiwontechinnovation.analysis.repository.GlobalRecomputeStore.Partition;
+import io.github.jiwontechinnovation.analysis.repository.GlobalRecomputeStore.PartitionResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용자별 통계로 전체 통계(user_id IS NULL) 행을 다시 계산한다 (카테고리별 평균).
+// dashboard_stats를 id keyset 구간으로 나눠 fork-join 풀에서 병렬 집계하고, 구간마다 결과를 저장하므로
+// 중간에 인스턴스가 죽어도 다음 실행에서 남은 구간만 처리한다. 마지막에 한 트랜잭션으로 교체한다.
+// 실행은 전용 스레드에서 하므로 수 분이 걸려도 다른 @Scheduled 작업(증분 flush 등)을 막지 않는다.
+// 한 구간이 maxPartitionAttempts번 실패하거나 maxPasses번 이어받아도 끝나지 않으면 작업을 FAILED로 끝내고
+// 다음 주기에 새로 계획한다 (끝나지 않는 작업이 새 작업을 막아 전체 통계가 멈추지 않게).
+@Component
+public class GlobalStatsRecomputeJob implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(GlobalStatsRecomputeJob.class);
+
+    private final GlobalRecomputeStore globalRecomputeStore;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ExecutorService runner =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("global-recompute-"));
+    private final ForkJoinPool pool;
+    private final int partitionSize;
+    private final Duration lease;
+    private final int maxPartitionAttempts;
+    private final int maxPasses;
+    private final Duration retention;
+    private final String owner = "analysis-service:" + UUID.randomUUID();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private final Timer partitionTimer;
+    private final Timer runTimer;
+    private final Counter failedRuns;
+    private final AtomicLong rowsPerSecond = new AtomicLong();
+
+    public GlobalStatsRecomputeJob(GlobalRecomputeStore globalRecomputeStore, TransactionTemplate transactionTemplate,
+            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+            @Value("${analysis.global-recompute.parallelism:4}") int parallelism,
+            @Value("${analysis.global-recompute.partition-size:50000}") int partitionSize,
+            @Value("${analysis.global-recompute.lease:5m}") Duration lease,
+            @Value("${analysis.global-recompute.max-partition-attempts:3}") int maxPartitionAttempts,
+            @Value("${analysis.global-recompute.max-passes:5}") int maxPasses,
+            @Value("${analysis.global-recompute.retention:7d}") Duration retention) {
+        this.globalRecomputeStore = globalRecomputeStore;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        // 동시에 실행되는 구간 수 = DB 커넥션 사용량의 상한
+        this.pool = new ForkJoinPool(Math.max(parallelism, 1));
+        this.partitionSize = Math.max(partitionSize, 1);
+        this.lease = lease;
+        this.maxPartitionAttempts = Math.max(maxPartitionAttempts, 1);
+        this.maxPasses = Math.max(maxPasses, 1);
+        this.retention = retention;
+
+        this.partitionTimer = Timer.builder("analysis.global-recompute.partition").register(meterRegistry);
+        this.runTimer = Timer.builder("analysis.global-recompute.run").register(meterRegistry);
+        this.failedRuns = Counter.builder("analysis.global-recompute.failed").register(meterRegistry);
+        Gauge.builder("analysis.global-recompute.rows-per-second", rowsPerSecond, AtomicLong::get)
+                .register(meterRegistry);
+    }
+
+    // 스케줄러 스레드는 전용 스레드에 넘기기만 하고 바로 돌아온다. 이전 실행이 끝나지 않았으면 건너뛴다
+    @Scheduled(cron = "${analysis.global-recompute.cron:0 */15 * * * *}")
+    public void recompute() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            runner.execute(this::runOnce);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+            running.set(false);
+        }
+    }
+
+    private void runOnce() {
+        try {
+            Long runId = acquireRun();
+            if (runId != null) {
+                execute(runId);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("전체 통계 재계산 실패: {}", e.getMessage());
+        } finally {
+            running.set(false);
+        }
+    }
+
+    // 진행 중인 작업이 있으면 이어받고, 없으면 구간을 계획해서 새로 만든다
+    private Long acquireRun() {
+        Long runId = globalRecomputeStore.findRunningRun();
+        if (runId == null) {
+            runId = transactionTemplate.execute(status -> {
+                if (!globalRecomputeStore.tryLockCreate()) {
+                    return null;
+                }
+                Long existing = globalRecomputeStore.findRunningRun();
+                if (existing != null) {
+                    return existing;
+                }
+                long created = globalRecomputeStore.createRun(owner, leaseUntil());
+                List<Partition> partitions = globalRecomputeStore.planPartitions(created, partitionSize);
+                logger.info("전체 통계 재계산 시작 - run: {}, partitions: {}", created, partitions.size());
+                return created;
+            });
+            if (runId == null) {
+                return null;
+            }
+        }
+        return globalRecomputeStore.claimRun(runId, owner, leaseUntil()) ? runId : null;
+    }
+
+    private void execute(long runId) {
+        int pass = globalRecomputeStore.startPass(runId);
+        if (pass > maxPasses) {
+            fail(runId, "이어받기 " + (pass - 1) + "회 동안 끝나지 않음");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        List<Partition> pending = globalRecomputeStore.findPendingPartitions(runId);
+        AtomicLong rows = new AtomicLong();
+        AtomicInteger failed = new AtomicInteger();
+        AtomicBoolean leaseLost = new AtomicBoolean();
+
+        pool.invoke(new PartitionTask(runId, pending, 0, pending.size(), rows, failed, leaseLost));
+
+        long elapsedNanos = System.nanoTime() - startedAt;
+        long rate = elapsedNanos > 0 ? rows.get() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0L;
+        rowsPerSecond.set(rate);
+        logger.info("전체 통계 구간 집계 - run: {}, partitions: {}, rows: {}, rows/sec: {}, failed: {}",
+                runId, pending.size(), rows.get(), rate, failed.get());
+
+        if (leaseLost.get()) {
+            return;
+        }
+        if (failed.get() > 0) {
+            int exhausted = globalRecomputeStore.countExhaustedPartitions(runId, maxPartitionAttempts);
+            if (exhausted > 0) {
+                fail(runId, "구간 " + exhausted + "개가 " + maxPartitionAttempts + "회 실패");
+            }
+            // 한도에 닿지 않은 실패 구간은 다음 실행에서 다시 처리
+            return;
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Map<String, Integer> values = globalRecomputeStore.findAverages(runId);
+            if (!values.isEmpty()) {
+                globalRecomputeStore.replaceGlobalRows(values);
+                // 사라진 카테고리도 반영되도록 전체 통계 캐시는 (다른 레플리카까지) 통째로 다시 읽게 한다
+                eventPublisher.publishEvent(new GlobalStatsReplacedEvent());
+                eventPublisher.publishEvent(new DashboardStatsChangedEvent(values.entrySet().stream()
+                        .map(entry -> new DashboardStatsChangedEvent.StatChange(null, entry.getKey(), entry.getValue()))
+                        .toList()));
+            }
+            long total = globalRecomputeStore.completeRun(runId);
+            globalRecomputeStore.purgeFinished(LocalDateTime.now().minus(retention));
+            logger.info("전체 통계 재계산 완료 - run: {}, categories: {}, rows: {}", runId, values.size(), total);
+        });
+        runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void fail(long runId, String reason) {
+        Boolean failedNow = transactionTemplate.execute(status -> {
+            if (!globalRecomputeStore.failRun(runId, owner)) {
+                return false;
+            }
+            globalRecomputeStore.purgeFinished(LocalDateTime.now().minus(retention));
+            return true;
+        });
+        if (Boolean.TRUE.equals(failedNow)) {
+            failedRuns.increment();
+            logger.error("전체 통계 재계산 중단 - run: {}, {}. 다음 주기에 새로 시작한다", runId, reason);
+        }
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plus(lease);
+    }
+
+    @Override
+    public void destroy() {
+        runner.shutdownNow();
+        pool.shutdownNow();
+    }
+
+    // 구간 목록을 반으로 나누다가 하나가 남으면 집계 후 체크포인트
+    private final class PartitionTask extends RecursiveAction {
+        private final long runId;
+        private final List<Partition> partitions;
+        private final int from;
+        private final int to;
+        private final AtomicLong rows;
+        private final AtomicInteger failed;
+        private final AtomicBoolean leaseLost;
+
+        private PartitionTask(long runId, List<Partition> partitions, int from, int to, AtomicLong rows,
+                AtomicInteger failed, AtomicBoolean leaseLost) {
+            this.runId = runId;
+            this.partitions = partitions;
+            this.from = from;
+            this.to = to;
+            this.rows = rows;
+            this.failed = failed;
+            this.leaseLost = leaseLost;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new PartitionTask(runId, partitions, from, middle, rows, failed, leaseLost),
+                        new PartitionTask(runId, partitions, middle, to, rows, failed, leaseLost));
+                return;
+            }
+            if (to == from || leaseLost.get()) {
+                return;
+            }
+
+            Partition partition = partitions.get(from);
+            long startedAt = System.nanoTime();
+            try {
+                PartitionResult result = globalRecomputeStore.aggregate(partition);
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+                transactionTemplate.executeWithoutResult(status ->
+                        globalRecomputeStore.completePartition(runId, partition.partitionNo(), result, durationMs));
+                partitionTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                rows.addAndGet(result.rows());
+                logger.debug("전체 통계 구간 완료 - run: {}, partition: {}, rows: {}, {}ms",
+                        runId, partition.partitionNo(), result.rows(), durationMs);
+
+                // 구간마다 임대를 연장. 다른 인스턴스에 넘어갔으면 남은 구간은 건너뛴다
+                if (!globalRecomputeStore.claimRun(runId, owner, leaseUntil())) {
+                    leaseLost.set(true);
+                }
+            } catch (RuntimeException e) {
+                failed.incrementAndGet();
+                logger.warn("전체 통계 구간 실패 - run: {}, partition: {}: {}",
+                        runId, partition.partitionNo(), e.getMessage());
+                try {
+                    globalRecomputeStore.recordPartitionFailure(runId, partition.partitionNo());
+                } catch (RuntimeException recordFailure) {
+                    // DB 장애로 기록하지 못한 실패는 이어받기 횟수 한도가 대신 막는다
+                    logger.warn("전체 통계 구간 실패 기록 실패 - run: {}, partition: {}: {}",
+                            runId, partition.partitionNo(), recordFailure.getMessage());
+                }
+            }
+        }
+    }
+}
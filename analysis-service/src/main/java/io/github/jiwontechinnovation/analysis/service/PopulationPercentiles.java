@@ -0,0 +1,124 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.repository.StatSketchStore;
+import io.github.jiwontechinnovation.analysis.repository.StatSketchStore.Checkpoint;
+import io.github.jiwontechinnovation.common.util.KllSketch;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 카테고리별 사용자 값 분포를 KLL 스케치로 유지해서 백분위를 O(k)로 계산한다.
+// 스케치는 전체 재구성(사용자당 현재 값 1개)으로만 만든다. 쓰기마다 값을 넣으면 자주 갱신하는
+// 사용자가 여러 번 집계되므로, 재구성 사이의 변경은 다음 재구성 때 반영된다.
+@Component
+public class PopulationPercentiles {
+    private static final Logger logger = LoggerFactory.getLogger(PopulationPercentiles.class);
+
+    private final StatSketchStore statSketchStore;
+    private final TransactionTemplate transactionTemplate;
+    private final int k;
+    private final Duration rebuildInterval;
+    private final Timer rebuildTimer;
+
+    private volatile long generation;
+    // 조회용 스케치 (현재 세대의 base). 세대가 바뀔 때 통째로 교체한다.
+    private volatile Map<String, KllSketch> sketches = Map.of();
+
+    public PopulationPercentiles(StatSketchStore statSketchStore, TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${analysis.percentile.k:200}") int k,
+            @Value("${analysis.percentile.rebuild-interval:15m}") Duration rebuildInterval) {
+        this.statSketchStore = statSketchStore;
+        this.transactionTemplate = transactionTemplate;
+        this.k = k;
+        this.rebuildInterval = rebuildInterval;
+        this.rebuildTimer = Timer.builder("analysis.percentile.rebuild").register(meterRegistry);
+        Gauge.builder("analysis.percentile.categories", this, p -> p.sketches.size()).register(meterRegistry);
+    }
+
+    // 해당 카테고리에서 value 이하인 사용자 비율(0~100). 분포가 아직 없으면 null
+    public Double percentile(String category, int value) {
+        KllSketch sketch = sketches.get(category);
+        if (sketch == null) {
+            return null;
+        }
+        double cdf = sketch.cdf(value);
+        return Double.isNaN(cdf) ? null : Math.round(cdf * 1000.0) / 10.0;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuildIfStale();
+        synchronize();
+    }
+
+    // 다른 레플리카가 재구성한 base를 읽어 온다. 세대가 그대로면 다시 역직렬화하지 않는다.
+    @Scheduled(initialDelayString = "${analysis.percentile.sync-interval:10000}",
+            fixedDelayString = "${analysis.percentile.sync-interval:10000}")
+    public void synchronize() {
+        try {
+            List<Checkpoint> checkpoints = statSketchStore.findBase();
+            long current = checkpoints.stream().mapToLong(Checkpoint::generation).max().orElse(0L);
+            if (current == generation) {
+                return;
+            }
+
+            Map<String, KllSketch> next = new HashMap<>();
+            for (Checkpoint checkpoint : checkpoints) {
+                if (checkpoint.generation() == current) {
+                    next.put(checkpoint.category(), KllSketch.fromBytes(checkpoint.sketch()));
+                }
+            }
+            sketches = next;
+            generation = current;
+        } catch (RuntimeException e) {
+            logger.warn("백분위 스케치 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    // 여러 레플리카 중 하나만 advisory lock을 잡고 전체 사용자 값으로 base를 다시 만든다
+    @Scheduled(initialDelayString = "${analysis.percentile.rebuild-check-interval:300000}",
+            fixedDelayString = "${analysis.percentile.rebuild-check-interval:300000}")
+    public void rebuildIfStale() {
+        try {
+            LocalDateTime lastRebuiltAt = statSketchStore.findLastRebuiltAt();
+            if (lastRebuiltAt != null && lastRebuiltAt.isAfter(LocalDateTime.now().minus(rebuildInterval))) {
+                return;
+            }
+            rebuildTimer.record(() -> transactionTemplate.executeWithoutResult(status -> {
+                if (!statSketchStore.tryLockRebuild()) {
+                    return;
+                }
+                long nextGeneration = System.currentTimeMillis();
+                Map<String, KllSketch> rebuilt = new HashMap<>();
+                long[] rows = { 0L };
+                statSketchStore.streamUserValues(rs -> {
+                    rebuilt.computeIfAbsent(rs.getString(1), category -> new KllSketch(k)).update(rs.getInt(2));
+                    rows[0]++;
+                });
+
+                Map<String, byte[]> encoded = new HashMap<>();
+                rebuilt.forEach((category, sketch) -> encoded.put(category, sketch.toBytes()));
+                statSketchStore.saveAll(StatSketchStore.BASE_OWNER, nextGeneration, encoded);
+                statSketchStore.deleteOlderThan(nextGeneration);
+                logger.info("백분위 스케치 재구성 완료 - categories: {}, rows: {}", rebuilt.size(), rows[0]);
+            }));
+        } catch (RuntimeException e) {
+            logger.warn("백분위 스케치 재구성 실패: {}", e.getMessage());
+        }
+    }
+}
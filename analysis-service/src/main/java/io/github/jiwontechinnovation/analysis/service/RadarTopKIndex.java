@@ -0,0 +1,143 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.GlobalStatsReplacedEvent;
+import io.github.jiwontechinnovation.analysis.event.ReplicaStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.repository.CategoryValue;
+import io.github.jiwontechinnovation.analysis.repository.DashboardStatRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+// 사용자별 상위 K개 카테고리를 메모리에 유지. 조회는 O(K)이고 카테고리 수와 무관하다.
+// 캐시에 없으면 인덱스 기반 top-N 쿼리로 채우고, 이후에는 커밋된 변경만 반영한다.
+// 다른 레플리카의 변경은 StatsChangeRelay로 받아 같은 방식으로 반영하며, TTL은 알림 유실에 대한 상한이다.
+@Component
+public class RadarTopKIndex {
+    public static final int RADAR_SIZE = 6;
+    // 전체 통계(user_id IS NULL)용 키
+    private static final UUID GLOBAL = new UUID(0L, 0L);
+    private static final Comparator<CategoryValue> BY_VALUE_DESC =
+            Comparator.comparing(CategoryValue::value, Comparator.reverseOrder());
+
+    private final DashboardStatRepository dashboardStatRepository;
+    private final Cache<UUID, List<CategoryValue>> topK;
+
+    public RadarTopKIndex(DashboardStatRepository dashboardStatRepository, MeterRegistry meterRegistry,
+            @Value("${analysis.radar-index.maximum-size:50000}") long maximumSize,
+            @Value("${analysis.radar-index.ttl:2m}") Duration ttl) {
+        this.dashboardStatRepository = dashboardStatRepository;
+        this.topK = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, topK, "analysis.radar-topk");
+    }
+
+    public List<CategoryValue> top(UUID userId) {
+        return topK.get(key(userId), key -> load(userId));
+    }
+
+    private List<CategoryValue> load(UUID userId) {
+        Limit limit = Limit.of(RADAR_SIZE);
+        return List.copyOf(userId != null
+                ? dashboardStatRepository.findByUserIdOrderByValueDesc(userId, limit)
+                : dashboardStatRepository.findByUserIdIsNullOrderByValueDesc(limit));
+    }
+
+    // SSE 등 다른 리스너가 갱신된 top-K를 읽도록 가장 먼저 실행
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(DashboardStatsChangedEvent event) {
+        applyChanges(event.changes());
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGlobalStatsReplaced(GlobalStatsReplacedEvent event) {
+        invalidate(null);
+    }
+
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @EventListener
+    public void onReplicaStatsChanged(ReplicaStatsChangedEvent event) {
+        if (event.resync()) {
+            invalidateAll();
+            return;
+        }
+        if (event.globalReplaced()) {
+            invalidate(null);
+            return;
+        }
+        applyChanges(event.changes());
+    }
+
+    private void applyChanges(List<DashboardStatsChangedEvent.StatChange> changes) {
+        for (DashboardStatsChangedEvent.StatChange change : changes) {
+            // 캐시에 있는 사용자만 갱신. 로딩 중인 키는 로딩이 끝난 뒤 적용된다.
+            topK.asMap().computeIfPresent(key(change.userId()),
+                    (key, current) -> apply(current, new CategoryValue(change.category(), change.value())));
+        }
+    }
+
+    public void invalidate(UUID userId) {
+        topK.invalidate(key(userId));
+    }
+
+    public void invalidateAll() {
+        topK.invalidateAll();
+    }
+
+    // null을 반환하면 항목이 제거되어 다음 조회 때 DB에서 다시 채운다
+    private static List<CategoryValue> apply(List<CategoryValue> current, CategoryValue changed) {
+        List<CategoryValue> next = new ArrayList<>(current.size() + 1);
+        CategoryValue previous = null;
+        for (CategoryValue entry : current) {
+            if (entry.category().equals(changed.category())) {
+                previous = entry;
+            } else {
+                next.add(entry);
+            }
+        }
+
+        boolean full = current.size() >= RADAR_SIZE;
+        if (previous != null) {
+            // 상위 K개 안의 값이 줄어들면 밖에 있던 카테고리가 올라올 수 있으므로 다시 로드
+            if (full && changed.value() < previous.value()) {
+                return null;
+            }
+            next.add(changed);
+        } else if (!full) {
+            // 로드 시점에 K개 미만이었다면 사용자의 전체 카테고리를 들고 있는 것
+            next.add(changed);
+        } else {
+            CategoryValue min = current.get(current.size() - 1);
+            if (changed.value() <= min.value()) {
+                return current;
+            }
+            next.remove(min);
+            next.add(changed);
+        }
+        next.sort(BY_VALUE_DESC);
+        return List.copyOf(next);
+    }
+
+    private static UUID key(UUID userId) {
+        return userId != null ? userId : GLOBAL;
+    }
+}
@@ -0,0 +1,112 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.entity.HistoryGranularity;
+import io.github.jiwontechinnovation.analysis.repository.StatHistoryWriter;
+import io.github.jiwontechinnovation.analysis.repository.StatHistoryWriter.ArchivedMonth;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+
+// 일별 버킷을 주/월 버킷으로 집계하고, 오래된 일별 버킷은 월 단위로 압축 보관한다
+@Component
+public class StatHistoryMaintenanceJob {
+    private static final Logger logger = LoggerFactory.getLogger(StatHistoryMaintenanceJob.class);
+    private static final int ARCHIVE_BATCH_SIZE = 500;
+
+    private final StatHistoryWriter statHistoryWriter;
+    private final TransactionTemplate transactionTemplate;
+    private final int hotDays;
+    // 마지막 집계 시작 시각. 재시작 직후에는 rollupLookback만큼 되돌아가 다시 집계한다.
+    private LocalDateTime rolledUpUntil;
+
+    public StatHistoryMaintenanceJob(StatHistoryWriter statHistoryWriter, TransactionTemplate transactionTemplate,
+            @Value("${analysis.history.hot-days:90}") int hotDays,
+            @Value("${analysis.history.rollup-lookback-hours:48}") int rollupLookbackHours) {
+        this.statHistoryWriter = statHistoryWriter;
+        this.transactionTemplate = transactionTemplate;
+        this.hotDays = hotDays;
+        this.rolledUpUntil = LocalDateTime.now().minusHours(rollupLookbackHours);
+    }
+
+    @Scheduled(fixedDelayString = "${analysis.history.rollup-interval:60000}")
+    public void rollup() {
+        // 쓰기와 겹치는 구간을 놓치지 않도록 시작 시각 약간 이전부터 다시 본다
+        LocalDateTime startedAt = LocalDateTime.now().minusSeconds(5);
+        try {
+            int weeks = statHistoryWriter.rollup(HistoryGranularity.WEEK, rolledUpUntil);
+            int months = statHistoryWriter.rollup(HistoryGranularity.MONTH, rolledUpUntil);
+            rolledUpUntil = startedAt;
+            if (weeks + months > 0) {
+                logger.debug("통계 이력 집계 - 주: {}, 월: {}", weeks, months);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("통계 이력 집계 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(cron = "${analysis.history.compaction-cron:0 30 3 * * *}")
+    public void compact() {
+        // 한 달 전체가 hot 구간을 벗어난 경우에만 압축
+        LocalDate cutoff = LocalDate.now().minusDays(hotDays);
+        LocalDate oldest = statHistoryWriter.findOldestDailyBucket();
+        if (oldest == null) {
+            return;
+        }
+        for (LocalDate month = oldest.withDayOfMonth(1); !month.plusMonths(1).isAfter(cutoff);
+                month = month.plusMonths(1)) {
+            LocalDate monthStart = month;
+            try {
+                Integer deleted = transactionTemplate.execute(status -> compactMonth(monthStart));
+                logger.info("통계 이력 압축 완료 - {}: 일별 버킷 {}건", monthStart, deleted);
+            } catch (RuntimeException e) {
+                logger.warn("통계 이력 압축 실패 - {}: {}", monthStart, e.getMessage());
+                return;
+            }
+        }
+    }
+
+    private int compactMonth(LocalDate monthStart) {
+        List<ArchivedMonth> archives = new ArrayList<>(ARCHIVE_BATCH_SIZE);
+        List<DeltaVarintCodec.DailyValue> series = new ArrayList<>(31);
+        Object[] currentKey = new Object[2];
+
+        statHistoryWriter.streamDailyValues(monthStart, rs -> {
+            UUID userId = rs.getObject("user_id", UUID.class);
+            String category = rs.getString("category");
+            if (!series.isEmpty() && !(userId.equals(currentKey[0]) && Objects.equals(category, currentKey[1]))) {
+                archives.add(encode(currentKey, monthStart, series));
+                if (archives.size() >= ARCHIVE_BATCH_SIZE) {
+                    statHistoryWriter.saveArchives(archives);
+                    archives.clear();
+                }
+            }
+            currentKey[0] = userId;
+            currentKey[1] = category;
+            series.add(new DeltaVarintCodec.DailyValue(rs.getDate("bucket_start").toLocalDate(), rs.getInt("value")));
+        });
+        if (!series.isEmpty()) {
+            archives.add(encode(currentKey, monthStart, series));
+        }
+        if (!archives.isEmpty()) {
+            statHistoryWriter.saveArchives(archives);
+        }
+        return statHistoryWriter.deleteDailyBuckets(monthStart);
+    }
+
+    private static ArchivedMonth encode(Object[] key, LocalDate monthStart, List<DeltaVarintCodec.DailyValue> series) {
+        ArchivedMonth archived = new ArchivedMonth((UUID) key[0], (String) key[1], monthStart,
+                DeltaVarintCodec.encode(monthStart, series));
+        series.clear();
+        return archived;
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.dto.StatHistoryResponse;
+import io.github.jiwontechinnovation.analysis.dto.StatHistoryResponse.HistoryPoint;
+import io.github.jiwontechinnovation.analysis.entity.HistoryGranularity;
+import io.github.jiwontechinnovation.analysis.entity.StatHistoryArchive;
+import io.github.jiwontechinnovation.analysis.entity.StatHistoryBucket;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.repository.StatHistoryArchiveRepository;
+import io.github.jiwontechinnovation.analysis.repository.StatHistoryBucketRepository;
+import io.github.jiwontechinnovation.analysis.repository.StatHistoryWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+public class StatHistoryService {
+    private static final Logger logger = LoggerFactory.getLogger(StatHistoryService.class);
+
+    private final StatHistoryWriter statHistoryWriter;
+    private final StatHistoryBucketRepository statHistoryBucketRepository;
+    private final StatHistoryArchiveRepository statHistoryArchiveRepository;
+
+    public StatHistoryService(StatHistoryWriter statHistoryWriter,
+            StatHistoryBucketRepository statHistoryBucketRepository,
+            StatHistoryArchiveRepository statHistoryArchiveRepository) {
+        this.statHistoryWriter = statHistoryWriter;
+        this.statHistoryBucketRepository = statHistoryBucketRepository;
+        this.statHistoryArchiveRepository = statHistoryArchiveRepository;
+    }
+
+    // 커밋된 변경만 오늘 일별 버킷에 반영. 주/월 버킷은 StatHistoryMaintenanceJob이 집계한다.
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(DashboardStatsChangedEvent event) {
+        if (event.changes().isEmpty()) {
+            return;
+        }
+        try {
+            statHistoryWriter.recordDaily(event.changes(), LocalDate.now());
+        } catch (RuntimeException e) {
+            // 이력 기록 실패가 통계 저장을 실패시키지 않도록 로그만 남긴다
+            logger.warn("통계 이력 기록 실패 - {}건: {}", event.changes().size(), e.getMessage());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public StatHistoryResponse getHistory(UUID userId, LocalDate from, LocalDate to, HistoryGranularity granularity) {
+        UUID key = userId != null ? userId : StatHistoryBucket.GLOBAL_USER_ID;
+        LocalDate bucketFrom = granularity.bucketStart(from);
+
+        List<HistoryPoint> points = new ArrayList<>();
+        statHistoryBucketRepository
+                .findByUserIdAndGranularityAndBucketStartBetweenOrderByBucketStartAsc(key, granularity, bucketFrom, to)
+                .forEach(bucket -> points.add(new HistoryPoint(bucket.getCategory(), bucket.getBucketStart(),
+                        bucket.getValue(), bucket.getMinValue(), bucket.getMaxValue())));
+
+        // 일별 조회만 압축 보관분을 함께 읽는다. 주/월 버킷은 압축하지 않는다.
+        if (granularity == HistoryGranularity.DAY) {
+            List<StatHistoryArchive> archives = statHistoryArchiveRepository
+                    .findByUserIdAndMonthStartBetweenOrderByMonthStartAsc(key, from.withDayOfMonth(1), to);
+            for (StatHistoryArchive archive : archives) {
+                for (DeltaVarintCodec.DailyValue daily : DeltaVarintCodec.decode(archive.getMonthStart(),
+                        archive.getEncoded())) {
+                    if (!daily.day().isBefore(from) && !daily.day().isAfter(to)) {
+                        points.add(new HistoryPoint(archive.getCategory(), daily.day(), daily.value(),
+                                daily.value(), daily.value()));
+                    }
+                }
+            }
+            points.sort(Comparator.comparing(HistoryPoint::bucketStart).thenComparing(HistoryPoint::category));
+        }
+
+        return new StatHistoryResponse(granularity, from, to, points);
+    }
+}
@@ -0,0 +1,241 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent.StatChange;
+import io.github.jiwontechinnovation.analysis.repository.DashboardStatBatchWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 클라이언트가 자주 보내는 작은 증분을 (user, category)별로 메모리에 모았다가
+// 주기적으로(또는 키 수가 임계치를 넘으면) 한 번의 batch upsert로 반영한다.
+@Component
+public class StatIncrementBuffer implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(StatIncrementBuffer.class);
+
+    private record Key(UUID userId, String category) {
+    }
+
+    // 증분 추가는 read lock으로 동시에, flush 시 맵 교체만 write lock으로 처리
+    private static final class Shard {
+        private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+        private Map<Key, LongAdder> counters = new ConcurrentHashMap<>();
+        private final AtomicLong oldestPendingNanos = new AtomicLong();
+    }
+
+    private final DashboardStatBatchWriter dashboardStatBatchWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Shard[] shards;
+    private final int flushThreshold;
+    private final int chunkSize;
+    private final LongAdder pendingKeys = new LongAdder();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+    private final ExecutorService flushExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("stat-flush-"));
+
+    private final Counter flushedRows;
+    private final Counter failedRows;
+    private final Counter droppedRows;
+    private final Timer flushTimer;
+
+    public StatIncrementBuffer(DashboardStatBatchWriter dashboardStatBatchWriter,
+            ApplicationEventPublisher eventPublisher, MeterRegistry meterRegistry,
+            @Value("${analysis.stats.buffer.shards:16}") int shardCount,
+            @Value("${analysis.stats.buffer.flush-threshold:5000}") int flushThreshold,
+            @Value("${analysis.stats.batch-size:1000}") int chunkSize) {
+        this.dashboardStatBatchWriter = dashboardStatBatchWriter;
+        this.eventPublisher = eventPublisher;
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard();
+        }
+        this.flushThreshold = flushThreshold;
+        this.chunkSize = chunkSize;
+
+        Gauge.builder("analysis.stats.buffer.size", pendingKeys, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("analysis.stats.buffer.lag", this, StatIncrementBuffer::lagSeconds)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        this.flushedRows = Counter.builder("analysis.stats.buffer.flushed").register(meterRegistry);
+        this.failedRows = Counter.builder("analysis.stats.buffer.failed").register(meterRegistry);
+        this.droppedRows = Counter.builder("analysis.stats.buffer.dropped").register(meterRegistry);
+        this.flushTimer = Timer.builder("analysis.stats.buffer.flush").register(meterRegistry);
+    }
+
+    public void add(UUID userId, String category, int delta) {
+        if (delta == 0)
+            return;
+        Key key = new Key(userId, category);
+        Shard shard = shards[Math.floorMod(key.hashCode(), shards.length)];
+        shard.lock.readLock().lock();
+        try {
+            shard.counters.computeIfAbsent(key, k -> {
+                pendingKeys.increment();
+                return new LongAdder();
+            }).add(delta);
+            shard.oldestPendingNanos.compareAndSet(0L, System.nanoTime());
+        } finally {
+            shard.lock.readLock().unlock();
+        }
+
+        if (pendingKeys.sum() >= flushThreshold && flushRequested.compareAndSet(false, true)) {
+            try {
+                flushExecutor.execute(this::flush);
+            } catch (RejectedExecutionException e) {
+                // 종료 중에는 destroy()에서 반영
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${analysis.stats.buffer.flush-interval:1000}")
+    public void scheduledFlush() {
+        flush();
+    }
+
+    public void flush() {
+        if (!flushLock.tryLock())
+            return;
+        try {
+            flushRequested.set(false);
+            List<StatChange> deltas = drain();
+            if (deltas.isEmpty())
+                return;
+            flushTimer.record(() -> write(deltas, false));
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private List<StatChange> drain() {
+        List<StatChange> deltas = new ArrayList<>();
+        for (Shard shard : shards) {
+            Map<Key, LongAdder> snapshot;
+            shard.lock.writeLock().lock();
+            try {
+                snapshot = shard.counters;
+                if (snapshot.isEmpty())
+                    continue;
+                shard.counters = new ConcurrentHashMap<>();
+                shard.oldestPendingNanos.set(0L);
+            } finally {
+                shard.lock.writeLock().unlock();
+            }
+            pendingKeys.add(-snapshot.size());
+            snapshot.forEach((key, adder) -> deltas.add(new StatChange(key.userId(), key.category(), toInt(adder.sum()))));
+        }
+        return deltas;
+    }
+
+    private void write(List<StatChange> deltas, boolean shuttingDown) {
+        for (int from = 0; from < deltas.size(); from += chunkSize) {
+            writeChunk(deltas.subList(from, Math.min(from + chunkSize, deltas.size())), shuttingDown);
+        }
+    }
+
+    // DB 장애처럼 일시적인 오류는 chunk 전체를 다시 버퍼에 넣고,
+    // 특정 행 때문에 실패한 경우는 반으로 나눠 재시도해 그 행만 골라낸다.
+    private void writeChunk(List<StatChange> chunk, boolean shuttingDown) {
+        List<StatChange> applied;
+        try {
+            applied = dashboardStatBatchWriter.addDeltas(chunk);
+        } catch (RuntimeException e) {
+            failedRows.increment(chunk.size());
+            if (isTransient(e)) {
+                if (shuttingDown) {
+                    deadLetter(chunk, e);
+                } else {
+                    logger.warn("통계 증분 반영 실패, 재시도 예정 - rows: {}", chunk.size(), e);
+                    chunk.forEach(delta -> add(delta.userId(), delta.category(), delta.value()));
+                }
+            } else if (chunk.size() == 1) {
+                deadLetter(chunk, e);
+            } else {
+                int middle = chunk.size() / 2;
+                writeChunk(chunk.subList(0, middle), shuttingDown);
+                writeChunk(chunk.subList(middle, chunk.size()), shuttingDown);
+            }
+            return;
+        }
+
+        flushedRows.increment(applied.size());
+        // 이미 커밋된 증분이므로 리스너가 실패해도 다시 버퍼에 넣지 않는다 (두 번 더해짐)
+        try {
+            eventPublisher.publishEvent(new DashboardStatsChangedEvent(applied));
+        } catch (RuntimeException e) {
+            logger.warn("통계 변경 이벤트 처리 실패 - rows: {}", applied.size(), e);
+        }
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException || e instanceof DataAccessResourceFailureException;
+    }
+
+    // 반영할 수 없는 증분은 버리지 않고 행 단위로 남겨 수동으로 복구할 수 있게 한다
+    private void deadLetter(List<StatChange> chunk, RuntimeException e) {
+        droppedRows.increment(chunk.size());
+        logger.error("통계 증분 반영 포기 - rows: {}", chunk.size(), e);
+        chunk.forEach(delta -> logger.error("반영되지 않은 통계 증분 - userId: {}, category: {}, delta: {}",
+                delta.userId(), delta.category(), delta.value()));
+    }
+
+    private double lagSeconds() {
+        long now = System.nanoTime();
+        long oldest = 0L;
+        for (Shard shard : shards) {
+            long pendingSince = shard.oldestPendingNanos.get();
+            if (pendingSince != 0L && (oldest == 0L || pendingSince < oldest)) {
+                oldest = pendingSince;
+            }
+        }
+        return oldest == 0L ? 0.0 : (now - oldest) / 1_000_000_000.0;
+    }
+
+    private static int toInt(long value) {
+        return (int) Math.max(Integer.MIN_VALUE, Math.min(Integer.MAX_VALUE, value));
+    }
+
+    // 정상 종료 시 남은 증분을 모두 반영
+    @Override
+    public void destroy() throws InterruptedException {
+        flushExecutor.shutdown();
+        flushExecutor.awaitTermination(10, TimeUnit.SECONDS);
+        flushLock.lock();
+        try {
+            List<StatChange> deltas = drain();
+            if (!deltas.isEmpty()) {
+                write(deltas, true);
+                logger.info("종료 전 통계 증분 반영 - rows: {}", deltas.size());
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.GlobalStatsReplacedEvent;
+import io.github.jiwontechinnovation.analysis.event.ReplicaStatsChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.sql.DataSource;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.UUID;
+
+// 레플리카 간 통계 변경 전파. 커밋된 변경을 PostgreSQL NOTIFY로 보내고, 다른 레플리카가 보낸 변경은
+// 전용 LISTEN 연결로 받아 ReplicaStatsChangedEvent로 다시 발행한다 (별도 메시지 브로커 없이 기존 DB만 사용).
+// NOTIFY는 커밋된 뒤에만 보내므로 받는 쪽이 DB를 다시 읽어도 변경이 보인다.
+@Component
+@ConditionalOnProperty(name = "analysis.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class StatsChangeRelay implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(StatsChangeRelay.class);
+    static final String CHANNEL = "analysis_stats_changed";
+    // NOTIFY payload 한도는 8000바이트. 넘으면 변경 목록을 나눠서 보낸다
+    private static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final long MAX_RECONNECT_DELAY_MS = 30000L;
+
+    record Message(String origin, List<DashboardStatsChangedEvent.StatChange> changes, boolean globalReplaced) {
+    }
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final JsonMapper jsonMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long pollTimeoutMillis;
+    private final String replicaId = UUID.randomUUID().toString();
+    private final Thread listener;
+    private final Counter sent;
+    private final Counter received;
+    private volatile boolean running = true;
+
+    public StatsChangeRelay(DataSource dataSource, JsonMapper jsonMapper, ApplicationEventPublisher eventPublisher,
+            MeterRegistry meterRegistry,
+            @Value("${analysis.relay.poll-timeout:1000}") long pollTimeoutMillis) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jsonMapper = jsonMapper;
+        this.eventPublisher = eventPublisher;
+        this.pollTimeoutMillis = pollTimeoutMillis;
+        this.listener = new CustomizableThreadFactory("stats-relay-").newThread(this::listen);
+        this.listener.setDaemon(true);
+        this.sent = Counter.builder("analysis.relay.notifications").tag("direction", "sent").register(meterRegistry);
+        this.received = Counter.builder("analysis.relay.notifications").tag("direction", "received")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        listener.start();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStatsChanged(DashboardStatsChangedEvent event) {
+        if (event.changes().isEmpty())
+            return;
+        try {
+            send(event.changes());
+        } catch (RuntimeException e) {
+            // 전파 실패는 다른 레플리카 캐시의 TTL까지 지연될 뿐이므로 요청은 실패시키지 않는다
+            logger.warn("통계 변경 전파 실패 - changes: {}, error: {}", event.changes().size(), e.getMessage());
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onGlobalStatsReplaced(GlobalStatsReplacedEvent event) {
+        try {
+            pgNotify(jsonMapper.writeValueAsString(new Message(replicaId, List.of(), true)));
+        } catch (RuntimeException e) {
+            logger.warn("전체 통계 교체 전파 실패: {}", e.getMessage());
+        }
+    }
+
+    private void send(List<DashboardStatsChangedEvent.StatChange> changes) {
+        String payload = jsonMapper.writeValueAsString(new Message(replicaId, changes, false));
+        if (payload.getBytes(StandardCharsets.UTF_8).length > MAX_PAYLOAD_BYTES && changes.size() > 1) {
+            int half = changes.size() / 2;
+            send(changes.subList(0, half));
+            send(changes.subList(half, changes.size()));
+            return;
+        }
+        pgNotify(payload);
+    }
+
+    private void pgNotify(String payload) {
+        jdbcTemplate.query("SELECT pg_notify(?, ?)", rs -> {
+        }, CHANNEL, payload);
+        sent.increment();
+    }
+
+    private void listen() {
+        long reconnectDelay = 1000L;
+        while (running) {
+            try (Connection connection = dataSource.getConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try (Statement statement = connection.createStatement()) {
+                    statement.execute("LISTEN " + CHANNEL);
+                }
+                // 연결 전(또는 끊긴 동안)의 변경은 받을 수 없으므로 캐시를 비우고 시작
+                eventPublisher.publishEvent(ReplicaStatsChangedEvent.resyncAll());
+                reconnectDelay = 1000L;
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications((int) pollTimeoutMillis);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (!running)
+                    return;
+                logger.warn("통계 변경 LISTEN 연결 실패, {}ms 후 재연결: {}", reconnectDelay, e.getMessage());
+                try {
+                    Thread.sleep(reconnectDelay);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                reconnectDelay = Math.min(reconnectDelay * 2, MAX_RECONNECT_DELAY_MS);
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        Message message;
+        try {
+            message = jsonMapper.readValue(payload, Message.class);
+        } catch (JacksonException e) {
+            logger.warn("알 수 없는 통계 변경 알림 무시: {}", e.getMessage());
+            return;
+        }
+        if (replicaId.equals(message.origin()) || (message.changes() == null && !message.globalReplaced()))
+            return;
+        received.increment();
+        try {
+            eventPublisher.publishEvent(message.globalReplaced()
+                    ? ReplicaStatsChangedEvent.globalRowsReplaced()
+                    : ReplicaStatsChangedEvent.of(message.changes()));
+        } catch (RuntimeException e) {
+            logger.warn("통계 변경 알림 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        listener.interrupt();
+        listener.join(pollTimeoutMillis * 2);
+    }
+}
@@ -0,0 +1,34 @@
+-- 전체 통계(user_id IS NULL)는 일반 unique 제약으로 중복을 막을 수 없어 부분 인덱스를 둔다.
+-- 인덱스 도입 전 read-modify-write로 생긴 중복 행은 카테고리별로 가장 최근에 갱신된 행만 남긴다
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes
+                   WHERE tablename = 'dashboard_stats' AND indexname = 'uk_dashboard_stats_global_category') THEN
+        DELETE FROM dashboard_stats
+        WHERE id IN (SELECT id
+                     FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY category
+                                                         ORDER BY updated_at DESC NULLS LAST, id) AS rn
+                           FROM dashboard_stats
+                           WHERE user_id IS NULL) ranked
+                     WHERE rn > 1);
+        CREATE UNIQUE INDEX uk_dashboard_stats_global_category
+            ON dashboard_stats (category) WHERE user_id IS NULL;
+    END IF;
+END $$@@
+
+-- (user_id, category) unique 제약 도입 전의 중복 행 정리. 가장 최근에 갱신된 행만 남긴다.
+-- 인덱스가 이미 있으면 아무것도 하지 않는다 (재시작마다 전체 스캔하지 않음)
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_indexes
+                   WHERE tablename = 'dashboard_stats' AND indexname = 'uk_dashboard_stats_user_category') THEN
+        DELETE FROM dashboard_stats
+        WHERE id IN (SELECT id
+                     FROM (SELECT id, ROW_NUMBER() OVER (PARTITION BY user_id, category
+                                                         ORDER BY updated_at DESC NULLS LAST, id) AS rn
+                           FROM dashboard_stats
+                           WHERE user_id IS NOT NULL) ranked
+                     WHERE rn > 1);
+        CREATE UNIQUE INDEX uk_dashboard_stats_user_category ON dashboard_stats (user_id, category);
+    END IF;
+END $$@@
@@ -0,0 +1,121 @@
+package io.github.jiwontechinnovation.analysis.client;
+
+import io.github.jiwontechinnovation.analysis.exception.UserLookupException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserServiceClientTest {
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final UserServiceClient client = new UserServiceClient(restTemplate, new SimpleMeterRegistry(), 100,
+            Duration.ofHours(1), Duration.ofSeconds(5));
+
+    @Test
+    void concurrentLookupsForSameUserShareOneCall() throws Exception {
+        UUID userId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(UserServiceClient.UserResponse.class))).thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return ResponseEntity.ok(new UserServiceClient.UserResponse(userId, "user", null, null, null));
+                });
+
+        List<CompletableFuture<UUID>> lookups = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            lookups.add(CompletableFuture.supplyAsync(() -> client.getUserIdByUsername("user", "token")));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (CompletableFuture<UUID> lookup : lookups) {
+            assertEquals(userId, lookup.get(5, TimeUnit.SECONDS));
+        }
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(UserServiceClient.UserResponse.class));
+    }
+
+    @Test
+    void slowLookupDoesNotBlockOtherUsers() throws Exception {
+        UUID otherId = UUID.randomUUID();
+        CountDownLatch release = new CountDownLatch(1);
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), argThat(authorizedAs("slow")),
+                eq(UserServiceClient.UserResponse.class))).thenAnswer(invocation -> {
+                    release.await(5, TimeUnit.SECONDS);
+                    return ResponseEntity.ok(new UserServiceClient.UserResponse(UUID.randomUUID(), "slow", null, null,
+                            null));
+                });
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), argThat(authorizedAs("fast")),
+                eq(UserServiceClient.UserResponse.class)))
+                .thenReturn(ResponseEntity.ok(new UserServiceClient.UserResponse(otherId, "fast", null, null, null)));
+
+        CompletableFuture<UUID> slow = CompletableFuture.supplyAsync(() -> client.getUserIdByUsername("slow", "slow"));
+        Thread.sleep(50);
+        try {
+            assertEquals(otherId, CompletableFuture.supplyAsync(() -> client.getUserIdByUsername("fast", "fast"))
+                    .get(2, TimeUnit.SECONDS));
+            assertFalse(slow.isDone());
+        } finally {
+            release.countDown();
+        }
+        slow.get(5, TimeUnit.SECONDS);
+    }
+
+    @Test
+    void failureIsCachedBriefly() {
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(UserServiceClient.UserResponse.class))).thenThrow(new ResourceAccessException("down"));
+
+        assertThrows(UserLookupException.class, () -> client.getUserIdByUsername("user", "token"));
+        assertThrows(UserLookupException.class, () -> client.getUserIdByUsername("user", "token"));
+        verify(restTemplate, times(1)).exchange(anyString(), eq(HttpMethod.GET), any(HttpEntity.class),
+                eq(UserServiceClient.UserResponse.class));
+    }
+
+    @Test
+    void clientErrorIsNotCachedForOtherCallers() {
+        UUID userId = UUID.randomUUID();
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), argThat(authorizedAs("expired")),
+                eq(UserServiceClient.UserResponse.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.UNAUTHORIZED, "Unauthorized", null, null, null));
+        when(restTemplate.exchange(anyString(), eq(HttpMethod.GET), argThat(authorizedAs("valid")),
+                eq(UserServiceClient.UserResponse.class)))
+                .thenReturn(ResponseEntity.ok(new UserServiceClient.UserResponse(userId, "user", null, null, null)));
+
+        HttpClientErrorException error = assertThrows(HttpClientErrorException.class,
+                () -> client.getUserIdByUsername("user", "expired"));
+        assertEquals(HttpStatus.UNAUTHORIZED, error.getStatusCode());
+        // 다른 세션은 만료된 토큰의 실패를 보지 않는다
+        assertEquals(userId, client.getUserIdByUsername("user", "valid"));
+    }
+
+    private static ArgumentMatcher<HttpEntity<?>> authorizedAs(String token) {
+        return entity -> entity != null && ("Bearer " + token).equals(entity.getHeaders().getFirst("Authorization"));
+    }
+}
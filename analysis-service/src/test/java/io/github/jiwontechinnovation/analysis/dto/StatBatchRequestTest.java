@@ -0,0 +1,67 @@
+package io.github.jiwontechinnovation.analysis.dto;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatBatchRequestTest {
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void validRequestPasses() {
+        StatBatchRequest request = new StatBatchRequest(List.of(
+                new StatBatchRequest.StatEntry(UUID.randomUUID(), "focus", 3),
+                new StatBatchRequest.StatEntry(null, "focus", 30)));
+
+        assertTrue(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    void emptyOrOversizedBatchIsRejected() {
+        assertEquals(1, validator.validate(new StatBatchRequest(List.of())).size());
+        assertEquals(1, validator.validate(new StatBatchRequest(null)).size());
+
+        List<StatBatchRequest.StatEntry> tooMany = new ArrayList<>(Collections.nCopies(StatBatchRequest.MAX_ITEMS + 1,
+                new StatBatchRequest.StatEntry(null, "focus", 1)));
+        assertEquals(1, validator.validate(new StatBatchRequest(tooMany)).size());
+    }
+
+    @Test
+    void invalidEntriesAreRejected() {
+        StatBatchRequest request = new StatBatchRequest(Arrays.asList(
+                new StatBatchRequest.StatEntry(null, " ", 1),
+                new StatBatchRequest.StatEntry(null, "x".repeat(51), 1),
+                new StatBatchRequest.StatEntry(null, "focus", null),
+                null));
+
+        Set<ConstraintViolation<StatBatchRequest>> violations = validator.validate(request);
+
+        assertEquals(4, violations.size());
+    }
+}
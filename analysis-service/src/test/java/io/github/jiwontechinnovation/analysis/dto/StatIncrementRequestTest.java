@@ -0,0 +1,49 @@
+package io.github.jiwontechinnovation.analysis.dto;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatIncrementRequestTest {
+    private static ValidatorFactory factory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        factory = Validation.buildDefaultValidatorFactory();
+        validator = factory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        factory.close();
+    }
+
+    @Test
+    void deltaWithinLimitPasses() {
+        StatIncrementRequest request = new StatIncrementRequest(List.of(
+                new StatIncrementRequest.Increment("focus", StatIncrementRequest.MAX_DELTA),
+                new StatIncrementRequest.Increment("focus", -StatIncrementRequest.MAX_DELTA)));
+
+        assertTrue(validator.validate(request).isEmpty());
+    }
+
+    @Test
+    void oversizedDeltaOrBlankCategoryIsRejected() {
+        StatIncrementRequest request = new StatIncrementRequest(List.of(
+                new StatIncrementRequest.Increment("focus", Integer.MAX_VALUE),
+                new StatIncrementRequest.Increment("focus", Integer.MIN_VALUE),
+                new StatIncrementRequest.Increment("", 1)));
+
+        assertEquals(3, validator.validate(request).size());
+        assertEquals(1, validator.validate(new StatIncrementRequest(List.of())).size());
+    }
+}
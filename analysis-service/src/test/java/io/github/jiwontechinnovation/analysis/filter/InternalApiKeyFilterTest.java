@@ -0,0 +1,50 @@
+package io.github.jiwontechinnovation.analysis.filter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class InternalApiKeyFilterTest {
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void matchingKeyGrantsInternalRole() throws Exception {
+        Authentication authentication = filter("secret-key", "secret-key");
+
+        assertEquals("ROLE_INTERNAL", authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority).findFirst().orElseThrow());
+    }
+
+    @Test
+    void wrongOrMissingKeyGrantsNothing() throws Exception {
+        assertNull(filter("secret-key", "guess"));
+        assertNull(filter("secret-key", null));
+    }
+
+    @Test
+    void unconfiguredKeyRejectsEveryone() throws Exception {
+        assertNull(filter("", ""));
+    }
+
+    private static Authentication filter(String configuredKey, String presentedKey) throws Exception {
+        SecurityContextHolder.clearContext();
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/stats/batch");
+        if (presentedKey != null) {
+            request.addHeader(InternalApiKeyFilter.HEADER_NAME, presentedKey);
+        }
+        new InternalApiKeyFilter(configuredKey).doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+}
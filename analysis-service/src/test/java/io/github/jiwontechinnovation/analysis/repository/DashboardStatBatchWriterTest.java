@@ -0,0 +1,130 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent.StatChange;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// schema.sql 마이그레이션과 ON CONFLICT upsert를 실제 PostgreSQL에서 확인
+class DashboardStatBatchWriterTest {
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final DashboardStatBatchWriter writer = new DashboardStatBatchWriter(jdbcTemplate, 2);
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS dashboard_stats");
+        // Hibernate가 만든 unique 제약이 없는 기존 테이블 상태
+        jdbcTemplate.execute("""
+                CREATE TABLE dashboard_stats (
+                    id UUID PRIMARY KEY, user_id UUID, category VARCHAR(50) NOT NULL, value INTEGER NOT NULL,
+                    created_at TIMESTAMP, updated_at TIMESTAMP)
+                """);
+    }
+
+    @Test
+    void migrationRemovesDuplicatesAndAddsConstraint() {
+        UUID userId = UUID.randomUUID();
+        insert(userId, "focus", 1, "2026-01-01 00:00:00");
+        insert(userId, "focus", 7, "2026-01-03 00:00:00");
+        insert(userId, "focus", 3, "2026-01-02 00:00:00");
+        insert(userId, "sleep", 5, "2026-01-01 00:00:00");
+        insert(null, "focus", 100, "2026-01-02 00:00:00");
+        insert(null, "focus", 120, "2026-01-04 00:00:00");
+        insert(null, "sleep", 50, "2026-01-01 00:00:00");
+
+        applySchema();
+        applySchema();
+
+        assertEquals(List.of(7), jdbcTemplate.queryForList(
+                "SELECT value FROM dashboard_stats WHERE user_id = ? AND category = 'focus'", Integer.class, userId));
+        assertEquals(List.of(120), jdbcTemplate.queryForList(
+                "SELECT value FROM dashboard_stats WHERE user_id IS NULL AND category = 'focus'", Integer.class));
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dashboard_stats", Integer.class));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM pg_indexes WHERE tablename = "
+                + "'dashboard_stats' AND indexname LIKE 'uk_dashboard_stats_%'", Integer.class));
+    }
+
+    @Test
+    void upsertAllResolvesConflictsWithLastValue() {
+        applySchema();
+        UUID userId = UUID.randomUUID();
+        writer.upsertAll(List.of(new StatChange(userId, "focus", 1), new StatChange(null, "focus", 10)));
+
+        List<StatChange> applied = writer.upsertAll(List.of(
+                new StatChange(userId, "focus", 2),
+                new StatChange(userId, "sleep", 4),
+                new StatChange(userId, "focus", 3),
+                new StatChange(null, "focus", 11)));
+
+        assertEquals(List.of(new StatChange(userId, "focus", 3), new StatChange(userId, "sleep", 4),
+                new StatChange(null, "focus", 11)), applied);
+        assertEquals(3, jdbcTemplate.queryForObject(
+                "SELECT value FROM dashboard_stats WHERE user_id = ? AND category = 'focus'", Integer.class, userId));
+        assertEquals(11, jdbcTemplate.queryForObject(
+                "SELECT value FROM dashboard_stats WHERE user_id IS NULL AND category = 'focus'", Integer.class));
+        assertEquals(3, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM dashboard_stats", Integer.class));
+    }
+
+    @Test
+    void addDeltasAccumulatesAndReturnsNewValues() {
+        applySchema();
+        UUID userId = UUID.randomUUID();
+        writer.addDeltas(List.of(new StatChange(userId, "focus", 5)));
+
+        List<StatChange> applied = writer.addDeltas(List.of(new StatChange(userId, "focus", 3),
+                new StatChange(userId, "sleep", 2)));
+
+        assertTrue(applied.contains(new StatChange(userId, "focus", 8)));
+        assertTrue(applied.contains(new StatChange(userId, "sleep", 2)));
+    }
+
+    @Test
+    void addDeltasClampsInsteadOfOverflowing() {
+        applySchema();
+        UUID userId = UUID.randomUUID();
+        writer.addDeltas(List.of(new StatChange(userId, "focus", Integer.MAX_VALUE - 1),
+                new StatChange(userId, "sleep", Integer.MIN_VALUE + 1)));
+
+        List<StatChange> applied = writer.addDeltas(List.of(new StatChange(userId, "focus", 10),
+                new StatChange(userId, "sleep", -10)));
+
+        assertTrue(applied.contains(new StatChange(userId, "focus", Integer.MAX_VALUE)));
+        assertTrue(applied.contains(new StatChange(userId, "sleep", Integer.MIN_VALUE)));
+    }
+
+    private static void applySchema() {
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("schema.sql"));
+        populator.setSeparator("@@");
+        populator.execute(postgres.getPostgresDatabase());
+    }
+
+    private static void insert(UUID userId, String category, int value, String updatedAt) {
+        jdbcTemplate.update("INSERT INTO dashboard_stats VALUES (gen_random_uuid(), ?, ?, ?, now(), ?::timestamp)",
+                userId, category, value, updatedAt);
+    }
+}
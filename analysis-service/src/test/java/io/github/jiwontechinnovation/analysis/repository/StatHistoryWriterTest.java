@@ -0,0 +1,101 @@
+package io.github.jiwontechinnovation.analysis.repository;
+
+import io.github.jiwontechinnovation.analysis.entity.HistoryGranularity;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent.StatChange;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// 롤업 SQL을 실제 PostgreSQL에서 실행해 확인
+class StatHistoryWriterTest {
+    private static EmbeddedPostgres postgres;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final StatHistoryWriter writer = new StatHistoryWriter(jdbcTemplate);
+    private final UUID userId = UUID.randomUUID();
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        jdbcTemplate = new JdbcTemplate(postgres.getPostgresDatabase());
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void createTable() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS dashboard_stat_history");
+        jdbcTemplate.execute("""
+                CREATE TABLE dashboard_stat_history (
+                    id BIGSERIAL PRIMARY KEY, user_id UUID NOT NULL, category VARCHAR(50) NOT NULL,
+                    granularity VARCHAR(10) NOT NULL, bucket_start DATE NOT NULL, value INTEGER NOT NULL,
+                    min_value INTEGER NOT NULL, max_value INTEGER NOT NULL, samples INTEGER NOT NULL,
+                    updated_at TIMESTAMP NOT NULL,
+                    CONSTRAINT uk_stat_history_bucket UNIQUE (user_id, category, granularity, bucket_start))
+                """);
+    }
+
+    @Test
+    void recordDailyKeepsLastValueAndRange() {
+        LocalDate day = LocalDate.of(2026, 3, 2);
+        writer.recordDaily(List.of(new StatChange(userId, "focus", 5)), day);
+        writer.recordDaily(List.of(new StatChange(userId, "focus", 2)), day);
+        writer.recordDaily(List.of(new StatChange(userId, "focus", 4)), day);
+
+        assertEquals(List.of(4, 2, 5, 3), bucket(HistoryGranularity.DAY, day));
+    }
+
+    @Test
+    void rollupAggregatesDailyBucketsIntoWeeksAndMonths() {
+        LocalDateTime before = LocalDateTime.now().minusMinutes(1);
+        // 2026-03-02는 월요일: 2~8일은 첫째 주, 9~10일은 둘째 주
+        int[] values = { 3, 9, 1, 7, 2, 2, 4, 6, 5 };
+        for (int i = 0; i < values.length; i++) {
+            writer.recordDaily(List.of(new StatChange(userId, "focus", values[i])), LocalDate.of(2026, 3, 2 + i));
+        }
+
+        assertEquals(2, writer.rollup(HistoryGranularity.WEEK, before));
+        assertEquals(1, writer.rollup(HistoryGranularity.MONTH, before));
+
+        assertEquals(List.of(4, 1, 9, 7), bucket(HistoryGranularity.WEEK, LocalDate.of(2026, 3, 2)));
+        assertEquals(List.of(5, 5, 6, 2), bucket(HistoryGranularity.WEEK, LocalDate.of(2026, 3, 9)));
+        assertEquals(List.of(5, 1, 9, 9), bucket(HistoryGranularity.MONTH, LocalDate.of(2026, 3, 1)));
+    }
+
+    @Test
+    void rollupRecomputesOnlyRecentlyChangedBuckets() {
+        writer.recordDaily(List.of(new StatChange(userId, "focus", 3)), LocalDate.of(2026, 3, 2));
+        writer.rollup(HistoryGranularity.WEEK, LocalDateTime.now().minusMinutes(1));
+
+        writer.recordDaily(List.of(new StatChange(userId, "focus", 8)), LocalDate.of(2026, 3, 3));
+        assertEquals(0, writer.rollup(HistoryGranularity.WEEK, LocalDateTime.now().plusMinutes(1)));
+        assertEquals(1, writer.rollup(HistoryGranularity.WEEK, LocalDateTime.now().minusMinutes(1)));
+
+        assertEquals(List.of(8, 3, 8, 2), bucket(HistoryGranularity.WEEK, LocalDate.of(2026, 3, 2)));
+    }
+
+    // [value, min, max, samples]
+    private List<Integer> bucket(HistoryGranularity granularity, LocalDate bucketStart) {
+        Map<String, Object> row = jdbcTemplate.queryForMap("""
+                SELECT value, min_value, max_value, samples FROM dashboard_stat_history
+                WHERE user_id = ? AND category = 'focus' AND granularity = ? AND bucket_start = ?
+                """, userId, granularity.name(), bucketStart);
+        return List.of((Integer) row.get("value"), (Integer) row.get("min_value"), (Integer) row.get("max_value"),
+                (Integer) row.get("samples"));
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.dto.DashboardStatsResponse;
+import io.github.jiwontechinnovation.analysis.dto.RadarStatDto;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent.StatChange;
+import io.github.jiwontechinnovation.analysis.event.ReplicaStatsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+// 다른 레플리카에서 커밋된 변경도 이 레플리카의 구독자에게 전달되는지 확인
+class DashboardStreamRegistryTest {
+    private final AnalysisService analysisService = mock(AnalysisService.class);
+    private final DashboardStreamRegistry registry = new DashboardStreamRegistry(analysisService,
+            new SimpleMeterRegistry(), 2, Duration.ofMinutes(1), 5);
+    private final UUID subscribedUser = UUID.randomUUID();
+    private final UUID otherUser = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        registry.destroy();
+    }
+
+    @Test
+    void replicaChangeNotifiesOnlyTouchedSubscribers() {
+        AtomicInteger focus = new AtomicInteger(10);
+        when(analysisService.getDashboardStats(any())).thenAnswer(invocation ->
+                new DashboardStatsResponse(List.of(new RadarStatDto("focus", focus.get(), null))));
+        registry.subscribe(subscribedUser);
+        registry.subscribe(otherUser);
+        verify(analysisService, timeout(2000)).getDashboardStats(subscribedUser);
+        verify(analysisService, timeout(2000)).getDashboardStats(otherUser);
+
+        focus.set(20);
+        registry.onReplicaStatsChanged(ReplicaStatsChangedEvent.of(List.of(new StatChange(subscribedUser, "focus", 20))));
+
+        verify(analysisService, timeout(2000).times(2)).getDashboardStats(subscribedUser);
+        verify(analysisService, after(200).times(1)).getDashboardStats(otherUser);
+    }
+
+    @Test
+    void resyncNotifiesEverySubscriber() {
+        when(analysisService.getDashboardStats(any())).thenReturn(
+                new DashboardStatsResponse(List.of(new RadarStatDto("focus", 10, null))));
+        registry.subscribe(subscribedUser);
+        registry.subscribe(otherUser);
+        verify(analysisService, timeout(2000)).getDashboardStats(subscribedUser);
+        verify(analysisService, timeout(2000)).getDashboardStats(otherUser);
+
+        registry.onReplicaStatsChanged(ReplicaStatsChangedEvent.resyncAll());
+
+        verify(analysisService, timeout(2000).times(2)).getDashboardStats(subscribedUser);
+        verify(analysisService, timeout(2000).times(2)).getDashboardStats(otherUser);
+    }
+
+    @Test
+    void globalReplacementDoesNotTouchUserStreams() {
+        when(analysisService.getDashboardStats(any())).thenReturn(
+                new DashboardStatsResponse(List.of(new RadarStatDto("focus", 10, null))));
+        registry.subscribe(subscribedUser);
+        verify(analysisService, timeout(2000)).getDashboardStats(subscribedUser);
+
+        registry.onReplicaStatsChanged(ReplicaStatsChangedEvent.globalRowsReplaced());
+
+        verify(analysisService, after(200).times(1)).getDashboardStats(subscribedUser);
+    }
+}
@@ -0,0 +1,238 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.event.GlobalStatsReplacedEvent;
+import io.github.jiwontechinnovation.analysis.repository.GlobalRecomputeStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataRetrievalFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class GlobalStatsRecomputeJobTest {
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    private final List<Object> published = new CopyOnWriteArrayList<>();
+    private GlobalStatsRecomputeJob job;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void createTables() {
+        jdbcTemplate.execute("""
+                DROP TABLE IF EXISTS dashboard_stats, global_recompute_runs, global_recompute_partitions,
+                    global_recompute_partials
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE dashboard_stats (
+                    id UUID PRIMARY KEY, user_id UUID, category VARCHAR(50) NOT NULL, value INTEGER NOT NULL,
+                    created_at TIMESTAMP, updated_at TIMESTAMP)
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE global_recompute_runs (
+                    id BIGSERIAL PRIMARY KEY, status VARCHAR(20) NOT NULL, owner VARCHAR(100), lease_until TIMESTAMP,
+                    partitions INTEGER NOT NULL, rows_processed BIGINT, passes INTEGER,
+                    started_at TIMESTAMP NOT NULL, finished_at TIMESTAMP)
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE global_recompute_partitions (
+                    id BIGSERIAL PRIMARY KEY, run_id BIGINT NOT NULL, partition_no INTEGER NOT NULL, lower_id UUID,
+                    upper_id UUID, done BOOLEAN NOT NULL, rows_processed BIGINT, duration_ms BIGINT, attempts INTEGER,
+                    CONSTRAINT uk_global_recompute_partition UNIQUE (run_id, partition_no))
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE global_recompute_partials (
+                    id BIGSERIAL PRIMARY KEY, run_id BIGINT NOT NULL, partition_no INTEGER NOT NULL,
+                    category VARCHAR(50) NOT NULL, total BIGINT NOT NULL, samples BIGINT NOT NULL,
+                    CONSTRAINT uk_global_recompute_partial UNIQUE (run_id, partition_no, category))
+                """);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (job != null) {
+            job.destroy();
+        }
+    }
+
+    @Test
+    void recomputeReplacesGlobalRowsFromAllPartitions() {
+        for (int value : new int[] { 10, 20, 30, 40, 50 }) {
+            insert(UUID.randomUUID(), "focus", value);
+        }
+        insert(UUID.randomUUID(), "sleep", 7);
+        // 사용자 값이 더 이상 없는 카테고리의 전체 통계는 사라져야 한다
+        insert(null, "removed", 99);
+        job = job(new GlobalRecomputeStore(jdbcTemplate), new SimpleMeterRegistry());
+
+        job.recompute();
+        awaitRunStatus("COMPLETED");
+
+        Map<String, Integer> globalRows = jdbcTemplate.queryForList(
+                        "SELECT category, value FROM dashboard_stats WHERE user_id IS NULL").stream()
+                .collect(Collectors.toMap(row -> (String) row.get("category"), row -> (Integer) row.get("value")));
+        assertEquals(Map.of("focus", 30, "sleep", 7), globalRows);
+        assertEquals(4, jdbcTemplate.queryForObject("SELECT partitions FROM global_recompute_runs", Integer.class));
+        assertTrue(published.stream().anyMatch(GlobalStatsReplacedEvent.class::isInstance));
+        // 끝난 작업의 구간/중간 결과는 남기지 않는다
+        assertEquals(0, count("global_recompute_partitions"));
+        assertEquals(0, count("global_recompute_partials"));
+    }
+
+    @Test
+    void finishedRunsOlderThanRetentionArePurged() {
+        jdbcTemplate.update("""
+                INSERT INTO global_recompute_runs (status, partitions, started_at, finished_at)
+                VALUES ('COMPLETED', 1, now() - interval '30 days', now() - interval '30 days'),
+                       ('FAILED', 1, now() - interval '1 day', now() - interval '1 day')
+                """);
+        jdbcTemplate.update("""
+                INSERT INTO global_recompute_partitions (run_id, partition_no, done) VALUES (1, 0, true), (2, 0, false)
+                """);
+        insert(UUID.randomUUID(), "focus", 10);
+        job = job(new GlobalRecomputeStore(jdbcTemplate), new SimpleMeterRegistry());
+
+        job.recompute();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!statuses().equals(List.of("FAILED", "COMPLETED")) && System.nanoTime() < deadline) {
+            sleep(20);
+        }
+
+        assertEquals(List.of("FAILED", "COMPLETED"), statuses());
+        assertEquals(0, count("global_recompute_partitions"));
+    }
+
+    @Test
+    void runFailsAfterPartitionKeepsFailing() {
+        for (int i = 0; i < 6; i++) {
+            insert(UUID.randomUUID(), "focus", 10);
+        }
+        insert(null, "focus", 99);
+        GlobalRecomputeStore store = spy(new GlobalRecomputeStore(jdbcTemplate));
+        doThrow(new DataRetrievalFailureException("boom"))
+                .when(store).aggregate(argThat(partition -> partition.partitionNo() == 1));
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        job = job(store, meterRegistry);
+
+        // 실패한 구간은 다음 실행에서 다시 시도되고, 한도(2회)에 닿으면 작업이 끝난다
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!statuses().contains("FAILED") && System.nanoTime() < deadline) {
+            job.recompute();
+            sleep(50);
+        }
+
+        assertEquals("FAILED", jdbcTemplate.queryForObject(
+                "SELECT status FROM global_recompute_runs ORDER BY id LIMIT 1", String.class));
+        assertEquals(1.0, meterRegistry.get("analysis.global-recompute.failed").counter().count());
+        verify(store, times(2)).aggregate(argThat(partition -> partition.partitionNo() == 1));
+        // 전체 통계는 건드리지 않고, 다음 주기에는 새 작업을 만든다
+        assertEquals(99, jdbcTemplate.queryForObject(
+                "SELECT value FROM dashboard_stats WHERE user_id IS NULL", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM global_recompute_partitions WHERE run_id = 1", Integer.class));
+        assertNull(store.findRunningRun());
+    }
+
+    @Test
+    void schedulerThreadIsNotBlockedByRunningRecompute() throws InterruptedException {
+        GlobalRecomputeStore store = mock(GlobalRecomputeStore.class);
+        CountDownLatch release = new CountDownLatch(1);
+        when(store.findRunningRun()).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return 1L;
+        });
+        job = new GlobalStatsRecomputeJob(store, mock(TransactionTemplate.class), published::add,
+                new SimpleMeterRegistry(), 1, 10, Duration.ofMinutes(5), 3, 5, Duration.ofDays(7));
+
+        long startedAt = System.nanoTime();
+        job.recompute();
+        // 이전 실행이 끝나지 않았으면 두 번째 호출은 건너뛴다
+        job.recompute();
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt) < 1000);
+
+        release.countDown();
+        verify(store, timeout(5000)).claimRun(eq(1L), anyString(), any());
+        verify(store, times(1)).findRunningRun();
+    }
+
+    // 파티션 크기 2, 구간 실패 2회 또는 이어받기 3회면 중단, 끝난 작업은 7일 보관
+    private GlobalStatsRecomputeJob job(GlobalRecomputeStore store, SimpleMeterRegistry meterRegistry) {
+        return new GlobalStatsRecomputeJob(store, new TransactionTemplate(new DataSourceTransactionManager(dataSource)),
+                published::add, meterRegistry, 2, 2, Duration.ofMinutes(5), 2, 3, Duration.ofDays(7));
+    }
+
+    private static void awaitRunStatus(String status) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            if (statuses().contains(status)) {
+                return;
+            }
+            sleep(20);
+        }
+        throw new AssertionError("재계산이 " + status + " 상태가 되지 않음");
+    }
+
+    private static List<String> statuses() {
+        return jdbcTemplate.queryForList("SELECT status FROM global_recompute_runs ORDER BY id", String.class);
+    }
+
+    private static int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM " + table, Integer.class);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void insert(UUID userId, String category, int value) {
+        jdbcTemplate.update("INSERT INTO dashboard_stats VALUES (gen_random_uuid(), ?, ?, ?, now(), now())",
+                userId, category, value);
+    }
+}
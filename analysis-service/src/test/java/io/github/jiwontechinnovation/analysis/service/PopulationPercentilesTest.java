@@ -0,0 +1,119 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.repository.StatSketchStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class PopulationPercentilesTest {
+    private static EmbeddedPostgres postgres;
+    private static DataSource dataSource;
+    private static JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+        dataSource = postgres.getPostgresDatabase();
+        jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void createTables() {
+        jdbcTemplate.execute("DROP TABLE IF EXISTS dashboard_stats, stat_sketch_checkpoints");
+        jdbcTemplate.execute("""
+                CREATE TABLE dashboard_stats (
+                    id UUID PRIMARY KEY DEFAULT gen_random_uuid(), user_id UUID, category VARCHAR(50) NOT NULL,
+                    value INTEGER NOT NULL)
+                """);
+        jdbcTemplate.execute("""
+                CREATE TABLE stat_sketch_checkpoints (
+                    id BIGSERIAL PRIMARY KEY, owner VARCHAR(100) NOT NULL, category VARCHAR(50) NOT NULL,
+                    generation BIGINT NOT NULL, sketch BYTEA NOT NULL, updated_at TIMESTAMP NOT NULL,
+                    CONSTRAINT uk_stat_sketch_owner_category UNIQUE (owner, category))
+                """);
+    }
+
+    @Test
+    void distributionCountsEachUserOnceFromTheRebuild() {
+        for (int value = 1; value <= 10; value++) {
+            insert(UUID.randomUUID(), value);
+        }
+        // 전체 통계 행은 분포에 포함하지 않는다
+        jdbcTemplate.update("INSERT INTO dashboard_stats (user_id, category, value) VALUES (NULL, 'focus', 1000)");
+        PopulationPercentiles percentiles = newReplica(Duration.ZERO);
+
+        percentiles.initialize();
+
+        assertEquals(50.0, percentiles.percentile("focus", 5));
+        assertEquals(100.0, percentiles.percentile("focus", 10));
+        assertNull(percentiles.percentile("sleep", 5));
+    }
+
+    @Test
+    void frequentWritesDoNotSkewUntilNextRebuild() {
+        UUID busyUser = UUID.randomUUID();
+        insert(busyUser, 1);
+        for (int value = 2; value <= 10; value++) {
+            insert(UUID.randomUUID(), value);
+        }
+        PopulationPercentiles percentiles = newReplica(Duration.ZERO);
+        percentiles.initialize();
+
+        // 한 사용자의 값이 여러 번 바뀌어도 다음 재구성에서는 현재 값 하나만 집계된다
+        for (int value = 20; value <= 100; value += 20) {
+            jdbcTemplate.update("UPDATE dashboard_stats SET value = ? WHERE user_id = ?", value, busyUser);
+        }
+        assertEquals(10.0, percentiles.percentile("focus", 1));
+
+        percentiles.rebuildIfStale();
+        percentiles.synchronize();
+
+        assertEquals(0.0, percentiles.percentile("focus", 1));
+        assertEquals(90.0, percentiles.percentile("focus", 10));
+    }
+
+    @Test
+    void otherReplicaReadsTheSharedRebuild() {
+        for (int value = 1; value <= 4; value++) {
+            insert(UUID.randomUUID(), value);
+        }
+        PopulationPercentiles rebuilder = newReplica(Duration.ZERO);
+        PopulationPercentiles reader = newReplica(Duration.ofHours(1));
+
+        rebuilder.rebuildIfStale();
+        reader.initialize();
+
+        assertEquals(50.0, reader.percentile("focus", 2));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM stat_sketch_checkpoints", Integer.class));
+    }
+
+    private static PopulationPercentiles newReplica(Duration rebuildInterval) {
+        return new PopulationPercentiles(new StatSketchStore(dataSource),
+                new TransactionTemplate(new DataSourceTransactionManager(dataSource)), new SimpleMeterRegistry(),
+                200, rebuildInterval);
+    }
+
+    private static void insert(UUID userId, int value) {
+        jdbcTemplate.update("INSERT INTO dashboard_stats (user_id, category, value) VALUES (?, 'focus', ?)",
+                userId, value);
+    }
+}
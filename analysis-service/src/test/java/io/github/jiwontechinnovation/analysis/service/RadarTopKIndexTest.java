@@ -0,0 +1,70 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.ReplicaStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.repository.CategoryValue;
+import io.github.jiwontechinnovation.analysis.repository.DashboardStatRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RadarTopKIndexTest {
+    private final DashboardStatRepository repository = mock(DashboardStatRepository.class);
+    private final RadarTopKIndex index = new RadarTopKIndex(repository, new SimpleMeterRegistry(), 100,
+            Duration.ofMinutes(2));
+    private final UUID userId = UUID.randomUUID();
+
+    @Test
+    void replicaChangeUpdatesCachedTopK() {
+        when(repository.findByUserIdOrderByValueDesc(eq(userId), any(Limit.class)))
+                .thenReturn(List.of(new CategoryValue("focus", 10), new CategoryValue("sleep", 5)));
+        index.top(userId);
+
+        index.onReplicaStatsChanged(ReplicaStatsChangedEvent.of(
+                List.of(new DashboardStatsChangedEvent.StatChange(userId, "sleep", 20))));
+
+        assertEquals(List.of(new CategoryValue("sleep", 20), new CategoryValue("focus", 10)), index.top(userId));
+        verify(repository, times(1)).findByUserIdOrderByValueDesc(eq(userId), any(Limit.class));
+    }
+
+    @Test
+    void resyncDropsCachedEntries() {
+        when(repository.findByUserIdOrderByValueDesc(eq(userId), any(Limit.class)))
+                .thenReturn(List.of(new CategoryValue("focus", 10)));
+        index.top(userId);
+
+        index.onReplicaStatsChanged(ReplicaStatsChangedEvent.resyncAll());
+        index.top(userId);
+
+        verify(repository, times(2)).findByUserIdOrderByValueDesc(eq(userId), any(Limit.class));
+    }
+
+    @Test
+    void globalReplacementReloadsOnlyGlobalEntry() {
+        when(repository.findByUserIdOrderByValueDesc(eq(userId), any(Limit.class)))
+                .thenReturn(List.of(new CategoryValue("focus", 10)));
+        when(repository.findByUserIdIsNullOrderByValueDesc(any(Limit.class)))
+                .thenReturn(List.of(new CategoryValue("focus", 30), new CategoryValue("removed", 20)))
+                .thenReturn(List.of(new CategoryValue("focus", 31)));
+        index.top(userId);
+        index.top(null);
+
+        index.onReplicaStatsChanged(ReplicaStatsChangedEvent.globalRowsReplaced());
+
+        assertEquals(List.of(new CategoryValue("focus", 31)), index.top(null));
+        index.top(userId);
+        verify(repository, times(1)).findByUserIdOrderByValueDesc(eq(userId), any(Limit.class));
+    }
+}
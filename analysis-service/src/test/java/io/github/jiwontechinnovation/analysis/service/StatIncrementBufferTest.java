@@ -0,0 +1,119 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent.StatChange;
+import io.github.jiwontechinnovation.analysis.repository.DashboardStatBatchWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class StatIncrementBufferTest {
+    private final DashboardStatBatchWriter writer = mock(DashboardStatBatchWriter.class);
+    private final List<StatChange> published = new ArrayList<>();
+    private final ApplicationEventPublisher eventPublisher =
+            event -> published.addAll(((DashboardStatsChangedEvent) event).changes());
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final StatIncrementBuffer buffer =
+            new StatIncrementBuffer(writer, eventPublisher, meterRegistry, 4, 10_000, 8);
+
+    @Test
+    void failingRowIsIsolatedFromItsChunk() {
+        when(writer.addDeltas(anyList())).thenAnswer(invocation -> {
+            List<StatChange> chunk = invocation.getArgument(0);
+            if (chunk.stream().anyMatch(delta -> delta.category().equals("broken"))) {
+                throw new DataIntegrityViolationException("bad row");
+            }
+            return List.copyOf(chunk);
+        });
+        UUID userId = UUID.randomUUID();
+        for (int i = 0; i < 5; i++) {
+            buffer.add(userId, "category-" + i, 1);
+        }
+        buffer.add(userId, "broken", 1);
+
+        buffer.flush();
+
+        assertEquals(5, published.size());
+        assertTrue(published.stream().noneMatch(delta -> delta.category().equals("broken")));
+        assertEquals(1.0, meterRegistry.counter("analysis.stats.buffer.dropped").count());
+        assertEquals(0.0, meterRegistry.get("analysis.stats.buffer.size").gauge().value());
+    }
+
+    @Test
+    void transientFailureIsRetriedOnNextFlush() {
+        UUID userId = UUID.randomUUID();
+        when(writer.addDeltas(anyList()))
+                .thenThrow(new QueryTimeoutException("timeout"))
+                .thenAnswer(invocation -> List.copyOf(invocation.<List<StatChange>>getArgument(0)));
+        buffer.add(userId, "focus", 3);
+
+        buffer.flush();
+        assertTrue(published.isEmpty());
+        assertEquals(1.0, meterRegistry.get("analysis.stats.buffer.size").gauge().value());
+
+        buffer.add(userId, "focus", 2);
+        buffer.flush();
+
+        assertEquals(List.of(new StatChange(userId, "focus", 5)), published);
+        assertEquals(0.0, meterRegistry.counter("analysis.stats.buffer.dropped").count());
+    }
+
+    @Test
+    void shutdownRecordsIncrementsItCannotWrite() throws InterruptedException {
+        when(writer.addDeltas(anyList())).thenThrow(new CannotGetJdbcConnectionException("down"));
+        buffer.add(UUID.randomUUID(), "focus", 1);
+        buffer.add(UUID.randomUUID(), "sleep", 1);
+
+        buffer.destroy();
+
+        verify(writer, times(1)).addDeltas(anyList());
+        assertEquals(2.0, meterRegistry.counter("analysis.stats.buffer.dropped").count());
+        assertEquals(0.0, meterRegistry.get("analysis.stats.buffer.size").gauge().value());
+    }
+
+    @Test
+    void listenerFailureDoesNotReapplyCommittedDeltas() {
+        when(writer.addDeltas(anyList())).thenAnswer(invocation -> List.copyOf(invocation.<List<StatChange>>getArgument(0)));
+        MeterRegistry registry = new SimpleMeterRegistry();
+        StatIncrementBuffer failingListenerBuffer = new StatIncrementBuffer(writer, event -> {
+            throw new IllegalStateException("listener failed");
+        }, registry, 4, 10_000, 8);
+        failingListenerBuffer.add(UUID.randomUUID(), "focus", 1);
+        failingListenerBuffer.add(UUID.randomUUID(), "sleep", 1);
+
+        failingListenerBuffer.flush();
+        failingListenerBuffer.flush();
+
+        verify(writer, times(1)).addDeltas(anyList());
+        assertEquals(0.0, registry.counter("analysis.stats.buffer.dropped").count());
+        assertEquals(0.0, registry.get("analysis.stats.buffer.size").gauge().value());
+    }
+
+    @Test
+    void summedDeltaIsClampedToIntegerRange() {
+        when(writer.addDeltas(anyList())).thenAnswer(invocation -> List.copyOf(invocation.<List<StatChange>>getArgument(0)));
+        UUID userId = UUID.randomUUID();
+        buffer.add(userId, "focus", Integer.MAX_VALUE);
+        buffer.add(userId, "focus", Integer.MAX_VALUE);
+
+        buffer.flush();
+
+        assertEquals(List.of(new StatChange(userId, "focus", Integer.MAX_VALUE)), published);
+    }
+}
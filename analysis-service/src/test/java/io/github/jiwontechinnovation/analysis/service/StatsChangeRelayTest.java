@@ -0,0 +1,115 @@
+package io.github.jiwontechinnovation.analysis.service;
+
+import io.github.jiwontechinnovation.analysis.event.DashboardStatsChangedEvent;
+import io.github.jiwontechinnovation.analysis.event.GlobalStatsReplacedEvent;
+import io.github.jiwontechinnovation.analysis.event.ReplicaStatsChangedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.zonky.test.db.postgres.embedded.EmbeddedPostgres;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// 같은 DB를 쓰는 두 레플리카 사이에 NOTIFY로 변경이 전달되는지 확인
+class StatsChangeRelayTest {
+    private static EmbeddedPostgres postgres;
+
+    private final BlockingQueue<ReplicaStatsChangedEvent> receivedByA = new LinkedBlockingQueue<>();
+    private final BlockingQueue<ReplicaStatsChangedEvent> receivedByB = new LinkedBlockingQueue<>();
+    private StatsChangeRelay replicaA;
+    private StatsChangeRelay replicaB;
+
+    @BeforeAll
+    static void startPostgres() throws IOException {
+        postgres = EmbeddedPostgres.start();
+    }
+
+    @AfterAll
+    static void stopPostgres() throws IOException {
+        postgres.close();
+    }
+
+    @BeforeEach
+    void setUp() throws InterruptedException {
+        replicaA = relay(receivedByA);
+        replicaB = relay(receivedByB);
+        replicaA.start();
+        replicaB.start();
+        // LISTEN이 걸리면 resync 이벤트가 먼저 온다
+        assertTrue(receivedByA.poll(5, TimeUnit.SECONDS).resync());
+        assertTrue(receivedByB.poll(5, TimeUnit.SECONDS).resync());
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        replicaA.destroy();
+        replicaB.destroy();
+    }
+
+    @Test
+    void committedChangesReachOtherReplicaOnly() throws InterruptedException {
+        UUID userId = UUID.randomUUID();
+        replicaA.onStatsChanged(new DashboardStatsChangedEvent(List.of(
+                new DashboardStatsChangedEvent.StatChange(userId, "focus", 12),
+                new DashboardStatsChangedEvent.StatChange(null, "focus", 340))));
+
+        ReplicaStatsChangedEvent event = receivedByB.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertFalse(event.resync());
+        assertEquals(List.of(new DashboardStatsChangedEvent.StatChange(userId, "focus", 12),
+                new DashboardStatsChangedEvent.StatChange(null, "focus", 340)), event.changes());
+        assertNull(receivedByA.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void globalReplacementReachesOtherReplica() throws InterruptedException {
+        replicaA.onGlobalStatsReplaced(new GlobalStatsReplacedEvent());
+
+        ReplicaStatsChangedEvent event = receivedByB.poll(5, TimeUnit.SECONDS);
+        assertNotNull(event);
+        assertTrue(event.globalReplaced());
+        assertFalse(event.resync());
+        assertNull(receivedByA.poll(300, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void largeBatchesAreSplitUnderPayloadLimit() throws InterruptedException {
+        List<DashboardStatsChangedEvent.StatChange> changes = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            changes.add(new DashboardStatsChangedEvent.StatChange(UUID.randomUUID(), "category-" + i, i));
+        }
+        replicaA.onStatsChanged(new DashboardStatsChangedEvent(changes));
+
+        List<DashboardStatsChangedEvent.StatChange> received = new ArrayList<>();
+        while (received.size() < changes.size()) {
+            ReplicaStatsChangedEvent event = receivedByB.poll(5, TimeUnit.SECONDS);
+            assertNotNull(event, "received " + received.size() + " of " + changes.size());
+            received.addAll(event.changes());
+        }
+        assertEquals(changes, received);
+    }
+
+    private static StatsChangeRelay relay(BlockingQueue<ReplicaStatsChangedEvent> received) {
+        return new StatsChangeRelay(postgres.getPostgresDatabase(), JsonMapper.builder().build(), event -> {
+            if (event instanceof ReplicaStatsChangedEvent replicaEvent) {
+                received.add(replicaEvent);
+            }
+        }, new SimpleMeterRegistry(), 100);
+    }
+}
@@ -28,11 +28,13 @@ dependencies {
 	implementation("org.springframework.cloud:spring-cloud-starter-netflix-eureka-client")
 	implementation("org.springdoc:springdoc-openapi-starter-webmvc-ui:3.0.0")
 	implementation("org.apache.commons:commons-lang3")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 
-	// implementation("org.springframework.boot:spring-boot-starter-data-redis")
+	implementation("org.springframework.boot:spring-boot-starter-data-redis")
 	// implementation("com.bucket4j:bucket4j-core:8.10.1")
 	// implementation("com.bucket4j:bucket4j-redis:8.10.1")
 
 	testImplementation("org.springframework.boot:spring-boot-starter-test")
+	testImplementation("com.icegreen:greenmail-junit5:2.1.8")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 }
@@ -6,6 +6,7 @@ import org.springframework.boot.persistence.autoconfigure.EntityScan;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @ComponentScan(
@@ -14,6 +15,7 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 )
 @EntityScan(basePackages = {"io.github.jiwontechinnovation.auth.entity", "io.github.jiwontechinnovation.user.entity"})
 @EnableJpaRepositories(basePackages = {"io.github.jiwontechinnovation.auth.repository", "io.github.jiwontechinnovation.user.repository"})
+@EnableScheduling
 class AuthApplication {
 
     public static void main(String[] args) {
@@ -0,0 +1,56 @@
+package io.github.jiwontechinnovation.auth.availability;
+
+import io.github.jiwontechinnovation.user.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Service;
+
+@Service
+public class AvailabilityService {
+    private final UserRepository userRepository;
+    private final TakenIdentifierFilter takenIdentifierFilter;
+    private final Counter filterMisses;
+    private final Counter databaseChecks;
+
+    public AvailabilityService(UserRepository userRepository, TakenIdentifierFilter takenIdentifierFilter,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.takenIdentifierFilter = takenIdentifierFilter;
+        this.filterMisses = Counter.builder("auth.availability.checks").tag("source", "filter").register(meterRegistry);
+        this.databaseChecks = Counter.builder("auth.availability.checks").tag("source", "db").register(meterRegistry);
+    }
+
+    // 화면용 중복 확인. 필터에 없으면 사용 가능으로 본다 (다른 레플리카의 최근 가입은 재구성 전까지 놓칠 수 있음)
+    public boolean isUsernameAvailable(String username) {
+        if (Boolean.FALSE.equals(takenIdentifierFilter.mightContainUsername(username))) {
+            filterMisses.increment();
+            return true;
+        }
+        databaseChecks.increment();
+        return !userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailAvailable(String email) {
+        if (Boolean.FALSE.equals(takenIdentifierFilter.mightContainEmail(email))) {
+            filterMisses.increment();
+            return true;
+        }
+        databaseChecks.increment();
+        return !userRepository.existsByEmail(email);
+    }
+
+    // 인증 메일 발송, 가입처럼 실제 동작을 바꾸는 판단은 레플리카별 필터를 믿지 않고 항상 DB로 확인
+    public boolean isUsernameTaken(String username) {
+        databaseChecks.increment();
+        return userRepository.existsByUsername(username);
+    }
+
+    public boolean isEmailTaken(String email) {
+        databaseChecks.increment();
+        return userRepository.existsByEmail(email);
+    }
+
+    public void registerTaken(String username, String email) {
+        takenIdentifierFilter.add(username, email);
+    }
+}
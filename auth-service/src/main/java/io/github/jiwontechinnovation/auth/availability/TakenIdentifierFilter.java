@@ -0,0 +1,101 @@
+package io.github.jiwontechinnovation.auth.availability;
+
+import io.github.jiwontechinnovation.common.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 사용 중인 username/email의 Bloom 필터. 다른 레플리카에서 가입한 값은 주기적 재구성 때 반영된다.
+// 그 사이에는 '없음'이 틀릴 수 있으므로 화면용 중복 확인에만 쓰고, 발송/가입 판단은 AvailabilityService가 DB로 한다.
+@Component
+public class TakenIdentifierFilter {
+    private static final Logger logger = LoggerFactory.getLogger(TakenIdentifierFilter.class);
+    private static final String USERNAME_PREFIX = "u:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long minimumCapacity;
+    private final double falsePositiveRate;
+    private final AtomicLong entries = new AtomicLong();
+    private volatile BloomFilter filter;
+    // 직전 교체 이후 add()된 값. 재구성 커서가 아직 커밋되지 않은 가입을 못 볼 수 있으므로 교체 직전에 다시 넣는다
+    private final Object swapLock = new Object();
+    private List<String> journal = new ArrayList<>();
+
+    public TakenIdentifierFilter(DataSource dataSource, MeterRegistry meterRegistry,
+            @Value("${auth.availability.minimum-capacity:100000}") long minimumCapacity,
+            @Value("${auth.availability.false-positive-rate:0.01}") double falsePositiveRate) {
+        // 전체를 메모리에 올리지 않고 커서로 흘려 읽는다 (PostgreSQL은 트랜잭션 안에서만 fetch size 적용)
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(1000);
+        this.minimumCapacity = minimumCapacity;
+        this.falsePositiveRate = falsePositiveRate;
+        Gauge.builder("auth.availability.filter.entries", entries, AtomicLong::get).register(meterRegistry);
+    }
+
+    // 필터가 아직 없으면 null (호출 측에서 DB로 확인)
+    public Boolean mightContainUsername(String username) {
+        BloomFilter current = filter;
+        return current == null ? null : current.mightContain(USERNAME_PREFIX + username);
+    }
+
+    public Boolean mightContainEmail(String email) {
+        BloomFilter current = filter;
+        return current == null ? null : current.mightContain(EMAIL_PREFIX + email);
+    }
+
+    public void add(String username, String email) {
+        synchronized (swapLock) {
+            BloomFilter current = filter;
+            if (current != null) {
+                current.put(USERNAME_PREFIX + username);
+                current.put(EMAIL_PREFIX + email);
+            }
+            journal.add(USERNAME_PREFIX + username);
+            journal.add(EMAIL_PREFIX + email);
+        }
+        entries.addAndGet(2);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${auth.availability.rebuild-interval:600000}",
+            fixedDelayString = "${auth.availability.rebuild-interval:600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        try {
+            Long userCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Long.class);
+            long capacity = Math.max(minimumCapacity, (userCount != null ? userCount : 0L) * 4);
+            BloomFilter next = new BloomFilter(capacity, falsePositiveRate);
+            AtomicLong count = new AtomicLong();
+            jdbcTemplate.query("SELECT username, email FROM users", rs -> {
+                next.put(USERNAME_PREFIX + rs.getString(1));
+                next.put(EMAIL_PREFIX + rs.getString(2));
+                count.addAndGet(2);
+            });
+
+            synchronized (swapLock) {
+                journal.forEach(next::put);
+                count.addAndGet(journal.size());
+                filter = next;
+                journal = new ArrayList<>();
+            }
+            entries.set(count.get());
+            logger.info("가입 식별자 Bloom 필터 구성 - entries: {}, bits: {}", count.get(), next.bitSize());
+        } catch (RuntimeException e) {
+            logger.warn("가입 식별자 Bloom 필터 구성 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.jiwontechinnovation.auth.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.github.jiwontechinnovation.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Component
+public class UserExistenceCache {
+    private final UserRepository userRepository;
+    private final Cache<String, Boolean> cache;
+
+    public UserExistenceCache(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${auth.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.user-cache.ttl:5m}") Duration ttl,
+            @Value("${auth.user-cache.negative-ttl:30s}") Duration negativeTtl) {
+        this.userRepository = userRepository;
+        // W-TinyLFU 기반 크기 제한 캐시, 존재하지 않는 사용자는 짧게만 캐시
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, Boolean>() {
+                    @Override
+                    public long expireAfterCreate(String username, Boolean exists, long currentTime) {
+                        return (exists ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String username, Boolean exists, long currentTime,
+                            long currentDuration) {
+                        return (exists ? ttl : negativeTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String username, Boolean exists, long currentTime,
+                            long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "auth.user-existence");
+    }
+
+    // 같은 사용자에 대한 동시 조회는 한 번의 DB 조회로 합쳐짐
+    public boolean exists(String username) {
+        return cache.get(username, key -> userRepository.findByUsername(key).isPresent());
+    }
+
+    // 계정 삭제, 비밀번호 재설정, 회원가입 시 호출
+    public void invalidate(String username) {
+        cache.invalidate(username);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.jiwontechinnovation.auth.config;
+
+import io.github.jiwontechinnovation.common.jwt.JwtVerifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration("authJwtConfig")
+public class JwtConfig {
+
+    @Bean
+    public JwtVerifier jwtVerifier(@Value("${jwt.secret}") String secretKeyString,
+                                   @Value("${jwt.verifier-cache-size:10000}") long cacheSize) {
+        return new JwtVerifier(secretKeyString, cacheSize);
+    }
+}
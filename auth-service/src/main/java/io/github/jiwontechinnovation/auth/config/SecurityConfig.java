@@ -1,5 +1,9 @@
 package io.github.jiwontechinnovation.auth.config;
 
+import io.github.jiwontechinnovation.auth.crypto.BCryptStrengthCalibrator;
+import io.github.jiwontechinnovation.auth.crypto.BoundedPasswordEncoder;
+import io.github.jiwontechinnovation.auth.crypto.PasswordHashingExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
@@ -7,8 +11,12 @@ import org.springframework.security.config.annotation.web.configuration.EnableWe
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Duration;
+import java.util.Map;
+
 @EnableWebSecurity
 @Configuration("authSecurityConfig")
 public class SecurityConfig {
@@ -28,7 +36,18 @@ public class SecurityConfig {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${auth.password.strength:0}") int strength,
+            @Value("${auth.password.target-hash-time:250ms}") Duration targetHashTime,
+            @Value("${auth.password.min-strength:10}") int minStrength,
+            @Value("${auth.password.max-strength:14}") int maxStrength) {
+        int bcryptStrength = strength > 0 ? strength
+                : BCryptStrengthCalibrator.calibrate(targetHashTime, minStrength, maxStrength);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(bcryptStrength);
+
+        // {bcrypt}$2a$<cost>$... 형식으로 알고리즘과 cost를 해시마다 기록, 접두사 없는 기존 해시도 검증 가능
+        DelegatingPasswordEncoder delegating = new DelegatingPasswordEncoder("bcrypt", Map.of("bcrypt", bcrypt));
+        delegating.setDefaultPasswordEncoderForMatches(bcrypt);
+        return new BoundedPasswordEncoder(delegating, passwordHashingExecutor);
     }
 }
@@ -2,9 +2,11 @@ package io.github.jiwontechinnovation.auth.controller;
 
 import io.github.jiwontechinnovation.auth.dto.*;
 import io.github.jiwontechinnovation.auth.service.PasswordService;
+import io.github.jiwontechinnovation.auth.throttle.AuthThrottle;
 import io.github.jiwontechinnovation.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,14 +15,18 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "비밀번호", description = "비밀번호 찾기/재설정 API")
 public class PasswordController {
     private final PasswordService passwordService;
+    private final AuthThrottle authThrottle;
 
-    public PasswordController(PasswordService passwordService) {
+    public PasswordController(PasswordService passwordService, AuthThrottle authThrottle) {
         this.passwordService = passwordService;
+        this.authThrottle = authThrottle;
     }
 
     @PostMapping("/find-password")
     @Operation(summary = "비밀번호 찾기")
-    public ApiResponse<Void> findPassword(@Valid @RequestBody FindPasswordRequest request) {
+    public ApiResponse<Void> findPassword(@Valid @RequestBody FindPasswordRequest request,
+            HttpServletRequest httpRequest) {
+        authThrottle.checkFindPassword(httpRequest.getRemoteAddr(), request.email());
         passwordService.sendPasswordResetCode(request.email());
         return ApiResponse.success("비밀번호 재설정 인증 코드가 이메일로 전송되었습니다", null);
     }
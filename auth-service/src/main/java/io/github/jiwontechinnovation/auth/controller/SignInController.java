@@ -3,10 +3,13 @@ package io.github.jiwontechinnovation.auth.controller;
 import io.github.jiwontechinnovation.auth.dto.AuthResponse;
 import io.github.jiwontechinnovation.auth.dto.RefreshTokenRequest;
 import io.github.jiwontechinnovation.auth.dto.SignInRequest;
+import io.github.jiwontechinnovation.auth.exception.PasswordHashingRejectedException;
 import io.github.jiwontechinnovation.auth.service.SignInService;
+import io.github.jiwontechinnovation.auth.throttle.AuthThrottle;
 import io.github.jiwontechinnovation.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.core.env.Environment;
@@ -21,17 +24,30 @@ import java.util.Arrays;
 @Tag(name = "로그인", description = "로그인/로그아웃/토큰 갱신 API")
 public class SignInController {
     private final SignInService signInService;
+    private final AuthThrottle authThrottle;
     private final boolean isProduction;
 
-    public SignInController(SignInService signInService, Environment environment) {
+    public SignInController(SignInService signInService, AuthThrottle authThrottle, Environment environment) {
         this.signInService = signInService;
+        this.authThrottle = authThrottle;
         this.isProduction = Arrays.asList(environment.getActiveProfiles()).contains("prod");
     }
 
     @PostMapping("/signin")
     @Operation(summary = "로그인")
-    public ApiResponse<AuthResponse> signIn(@Valid @RequestBody SignInRequest request, HttpServletResponse response) {
-        SignInService.TokenPair tokenPair = signInService.signIn(request);
+    public ApiResponse<AuthResponse> signIn(@Valid @RequestBody SignInRequest request, HttpServletRequest httpRequest,
+            HttpServletResponse response) {
+        String clientIp = httpRequest.getRemoteAddr();
+        AuthThrottle.Attempt attempt = authThrottle.checkSignIn(clientIp, request.usernameOrEmail());
+        SignInService.TokenPair tokenPair;
+        try {
+            tokenPair = signInService.signIn(request);
+        } catch (PasswordHashingRejectedException e) {
+            // 과부하로 처리하지 못한 시도는 실패로 세지 않는다
+            authThrottle.refundSignIn(attempt);
+            throw e;
+        }
+        authThrottle.refundSignIn(attempt);
         setRefreshTokenCookie(response, tokenPair.refreshToken());
         return ApiResponse.success("로그인 성공", new AuthResponse(tokenPair.accessToken(), tokenPair.refreshToken()));
     }
@@ -54,7 +70,14 @@ public class SignInController {
 
     @PostMapping("/signout")
     @Operation(summary = "로그아웃")
-    public ApiResponse<Void> signOut(HttpServletResponse response) {
+    public ApiResponse<Void> signOut(
+            @CookieValue(value = "refreshToken", required = false) String refreshTokenFromCookie,
+            @RequestBody(required = false) RefreshTokenRequest request,
+            HttpServletResponse response) {
+        String refreshToken = refreshTokenFromCookie != null ? refreshTokenFromCookie
+                : (request != null ? request.refreshToken() : null);
+        if (refreshToken != null)
+            signInService.signOut(refreshToken);
         clearRefreshTokenCookie(response);
         return ApiResponse.success("로그아웃되었습니다", null);
     }
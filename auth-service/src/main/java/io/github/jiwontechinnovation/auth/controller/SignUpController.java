@@ -1,10 +1,13 @@
 package io.github.jiwontechinnovation.auth.controller;
 
+import io.github.jiwontechinnovation.auth.availability.AvailabilityService;
 import io.github.jiwontechinnovation.auth.dto.*;
 import io.github.jiwontechinnovation.auth.service.SignUpService;
+import io.github.jiwontechinnovation.auth.throttle.AuthThrottle;
 import io.github.jiwontechinnovation.common.response.ApiResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.web.bind.annotation.*;
 
@@ -13,13 +16,30 @@ import org.springframework.web.bind.annotation.*;
 @Tag(name = "회원가입", description = "회원가입/이메일 인증 API")
 public class SignUpController {
     private final SignUpService signUpService;
-    public SignUpController(SignUpService signUpService) {
+    private final AuthThrottle authThrottle;
+    private final AvailabilityService availabilityService;
+
+    public SignUpController(SignUpService signUpService, AuthThrottle authThrottle,
+            AvailabilityService availabilityService) {
         this.signUpService = signUpService;
+        this.authThrottle = authThrottle;
+        this.availabilityService = availabilityService;
+    }
+
+    @GetMapping("/availability")
+    @Operation(summary = "아이디/이메일 사용 가능 여부 확인")
+    public ApiResponse<AvailabilityResponse> checkAvailability(@RequestParam(required = false) String username,
+            @RequestParam(required = false) String email) {
+        Boolean usernameAvailable = username != null ? availabilityService.isUsernameAvailable(username) : null;
+        Boolean emailAvailable = email != null ? availabilityService.isEmailAvailable(email) : null;
+        return ApiResponse.success(new AvailabilityResponse(usernameAvailable, emailAvailable));
     }
 
     @PostMapping("/send-verification-code")
     @Operation(summary = "이메일 인증 코드 전송")
-    public ApiResponse<Void> sendVerificationCode(@Valid @RequestBody SendVerificationCodeRequest request) {
+    public ApiResponse<Void> sendVerificationCode(@Valid @RequestBody SendVerificationCodeRequest request,
+            HttpServletRequest httpRequest) {
+        authThrottle.checkVerificationCode(httpRequest.getRemoteAddr(), request.email());
         signUpService.sendVerificationCode(request.email());
         return ApiResponse.success("인증 코드가 이메일로 전송되었습니다", null);
     }
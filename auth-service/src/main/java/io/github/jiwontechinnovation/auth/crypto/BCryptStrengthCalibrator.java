@@ -0,0 +1,49 @@
+package io.github.jiwontechinnovation.auth.crypto;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+// 기동 시 현재 노드에서 해시 시간을 측정해 목표 지연 시간 안에 드는 최대 cost를 선택
+public final class BCryptStrengthCalibrator {
+    private static final Logger logger = LoggerFactory.getLogger(BCryptStrengthCalibrator.class);
+    private static final String SAMPLE_PASSWORD = "calibration-Sample-1!";
+    private static final int SAMPLES = 3;
+
+    private BCryptStrengthCalibrator() {
+    }
+
+    public static int calibrate(Duration target, int minStrength, int maxStrength) {
+        // JIT 워밍업
+        new BCryptPasswordEncoder(4).encode(SAMPLE_PASSWORD);
+
+        int chosen = minStrength;
+        for (int strength = minStrength; strength <= maxStrength; strength++) {
+            long elapsedMs = measure(strength);
+            logger.info("BCrypt cost {} 측정 - {}ms", strength, elapsedMs);
+            if (elapsedMs > target.toMillis()) {
+                break;
+            }
+            chosen = strength;
+            // cost가 1 오를 때마다 시간이 두 배가 되므로 다음 단계가 목표를 넘으면 측정 생략
+            if (elapsedMs * 2 > target.toMillis()) {
+                break;
+            }
+        }
+        logger.info("BCrypt cost 결정 - strength: {}, target: {}ms", chosen, target.toMillis());
+        return chosen;
+    }
+
+    private static long measure(int strength) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(strength);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(SAMPLE_PASSWORD);
+            best = Math.min(best, (System.nanoTime() - startedAt) / 1_000_000L);
+        }
+        return best;
+    }
+}
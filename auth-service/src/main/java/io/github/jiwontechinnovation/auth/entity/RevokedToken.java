@@ -0,0 +1,40 @@
+package io.github.jiwontechinnovation.auth.entity;
+
+import jakarta.persistence.*;
+import java.time.Instant;
+
+// id는 리프레시 토큰의 jti, 또는 사용자 단위 폐기일 때 "sub:{username}"
+@Entity
+@Table(name = "revoked_tokens", indexes = @Index(name = "idx_revoked_tokens_revoked_at", columnList = "revoked_at"))
+public class RevokedToken {
+    @Id
+    @Column(length = 320)
+    private String id;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+
+    protected RevokedToken() {
+    }
+
+    public RevokedToken(String id, Instant revokedAt, Instant expiresAt) {
+        this.id = id;
+        this.revokedAt = revokedAt;
+        this.expiresAt = expiresAt;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Instant getRevokedAt() {
+        return revokedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+}
@@ -0,0 +1,5 @@
+package io.github.jiwontechinnovation.auth.event;
+
+// outbox에 메일이 적재됐음을 알림. 커밋 후 dispatcher가 대기 중이면 바로 깨운다
+public record MailQueuedEvent(String recipient) {
+}
@@ -0,0 +1,16 @@
+package io.github.jiwontechinnovation.auth.exception;
+
+import io.github.jiwontechinnovation.common.exception.BusinessException;
+
+public class PasswordHashingRejectedException extends BusinessException {
+    private final long retryAfterSeconds;
+
+    public PasswordHashingRejectedException(long retryAfterSeconds) {
+        super("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
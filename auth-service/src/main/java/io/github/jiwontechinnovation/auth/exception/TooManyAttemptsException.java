@@ -0,0 +1,16 @@
+package io.github.jiwontechinnovation.auth.exception;
+
+import io.github.jiwontechinnovation.common.exception.BusinessException;
+
+public class TooManyAttemptsException extends BusinessException {
+    private final long retryAfterSeconds;
+
+    public TooManyAttemptsException(long retryAfterSeconds) {
+        super("요청 횟수를 초과했습니다. 잠시 후 다시 시도해주세요");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
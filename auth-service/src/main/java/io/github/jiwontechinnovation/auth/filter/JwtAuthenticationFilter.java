@@ -1,11 +1,14 @@
 package io.github.jiwontechinnovation.auth.filter;
 
-import io.github.jiwontechinnovation.auth.jwt.JwtTokenProvider;
-import io.github.jiwontechinnovation.user.repository.UserRepository;
+import io.github.jiwontechinnovation.auth.cache.UserExistenceCache;
+import io.github.jiwontechinnovation.common.jwt.JwtVerifier;
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.github.jiwontechinnovation.common.security.TrustedIdentityHeaders;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -16,55 +19,43 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 @Component
 @Order(2)
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
-    private static final long CACHE_EXPIRY_MS = 300_000L;
-    private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
-    private final Map<String, CachedUser> userCache = new ConcurrentHashMap<>();
+    private final JwtVerifier jwtVerifier;
+    private final UserExistenceCache userExistenceCache;
+    private final TrustedIdentityHeaders trustedIdentityHeaders;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider, UserRepository userRepository) {
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.userRepository = userRepository;
-    }
-
-    private record CachedUser(String username, long timestamp) {
-        boolean isExpired(long now) {
-            return now - timestamp > CACHE_EXPIRY_MS;
-        }
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier, UserExistenceCache userExistenceCache,
+            @Value("${jwt.trusted-header.secret}") String trustedHeaderSecret,
+            @Value("${jwt.trusted-header.enabled:false}") boolean trustedHeaderEnabled) {
+        this.jwtVerifier = jwtVerifier;
+        this.userExistenceCache = userExistenceCache;
+        this.trustedIdentityHeaders = trustedHeaderEnabled ? new TrustedIdentityHeaders(trustedHeaderSecret) : null;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
-        String token = extractToken(request);
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            String username = jwtTokenProvider.getUsernameFromToken(token);
-            if (isUserExists(username)) {
-                var auth = new UsernamePasswordAuthenticationToken(username, null,
-                        List.of(new SimpleGrantedAuthority("ROLE_USER")));
-                auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(auth);
-            }
+        String username = resolveUsername(request);
+        if (username != null && userExistenceCache.exists(username)) {
+            var auth = new UsernamePasswordAuthenticationToken(username, null,
+                    List.of(new SimpleGrantedAuthority("ROLE_USER")));
+            auth.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            SecurityContextHolder.getContext().setAuthentication(auth);
         }
         filterChain.doFilter(request, response);
     }
 
-    private boolean isUserExists(String username) {
-        long now = System.currentTimeMillis();
-        CachedUser cached = userCache.get(username);
-        if (cached != null && !cached.isExpired(now))
-            return true;
-        boolean exists = userRepository.findByUsername(username).isPresent();
-        if (exists)
-            userCache.put(username, new CachedUser(username, now));
-        else
-            userCache.remove(username);
-        return exists;
+    // 게이트웨이가 서명한 신원 헤더가 있으면 JWT 파싱 없이 사용
+    private String resolveUsername(HttpServletRequest request) {
+        if (trustedIdentityHeaders != null) {
+            var trustedIdentity = trustedIdentityHeaders.resolve(request);
+            if (trustedIdentity.isPresent())
+                return trustedIdentity.get().username();
+        }
+        return jwtVerifier.verifyAccessToken(extractToken(request)).map(VerifiedClaims::subject).orElse(null);
     }
 
     private String extractToken(HttpServletRequest request) {
@@ -1,17 +1,14 @@
 package io.github.jiwontechinnovation.auth.jwt;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.security.Keys;
-import io.jsonwebtoken.security.SignatureException;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.Date;
+import java.util.UUID;
 
 @Component
 public class JwtTokenProvider {
@@ -28,55 +25,32 @@ public class JwtTokenProvider {
         this.refreshTokenValidityInMs = refreshTokenValidityInMs;
     }
 
-    public String createAccessToken(String identifier) {
-        return createToken(identifier, "access", accessTokenValidityInMs);
+    // uid 클레임이 있으면 다른 서비스가 사용자 조회 없이 UUID를 바로 사용할 수 있다
+    public String createAccessToken(String identifier, UUID userId) {
+        return createToken(identifier, userId, "access", accessTokenValidityInMs, null);
     }
 
-    public String createRefreshToken(String identifier) {
-        return createToken(identifier, "refresh", refreshTokenValidityInMs);
+    // 리프레시 토큰은 jti로 개별 폐기할 수 있게 한다
+    public String createRefreshToken(String identifier, UUID userId) {
+        return createToken(identifier, userId, "refresh", refreshTokenValidityInMs, UUID.randomUUID().toString());
     }
 
-    private String createToken(String identifier, String type, long validityInMs) {
+    public long getRefreshTokenValidityInMs() {
+        return refreshTokenValidityInMs;
+    }
+
+    private String createToken(String identifier, UUID userId, String type, long validityInMs, String tokenId) {
         Date now = new Date();
         Date expiry = new Date(now.getTime() + validityInMs);
 
         return Jwts.builder()
+                .id(tokenId)
                 .subject(identifier)
                 .claim("type", type)
+                .claim("uid", userId != null ? userId.toString() : null)
                 .issuedAt(now)
                 .expiration(expiry)
                 .signWith(key)
                 .compact();
     }
-
-    public boolean validateToken(String token) {
-        return validateTokenType(token, "access");
-    }
-
-    public boolean validateRefreshToken(String token) {
-        return validateTokenType(token, "refresh");
-    }
-
-    private boolean validateTokenType(String token, String expectedType) {
-        try {
-            Claims claims = getClaims(token);
-            return claims.get("type").equals(expectedType) && claims.getExpiration().after(new Date());
-        } catch (ExpiredJwtException | MalformedJwtException | SignatureException e) {
-            return false;
-        } catch (Exception e) {
-            return false;
-        }
-    }
-
-    public String getUsernameFromToken(String token) {
-        return getClaims(token).getSubject();
-    }
-
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(key)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-    }
 }
@@ -0,0 +1,148 @@
+package io.github.jiwontechinnovation.auth.jwt;
+
+import io.github.jiwontechinnovation.auth.entity.RevokedToken;
+import io.github.jiwontechinnovation.auth.repository.RevokedTokenRepository;
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.github.jiwontechinnovation.common.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 폐기된 리프레시 토큰 목록. Bloom 필터에 없으면 I/O 없이 바로 통과하고,
+// 있을 수도 있는 경우에만 정확한 Map으로 확인한다. 원본은 revoked_tokens 테이블.
+@Component
+public class RefreshTokenDenylist {
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenDenylist.class);
+    private static final String SUBJECT_PREFIX = "sub:";
+    // 다른 레플리카와의 시계 차이를 고려해 동기화 구간을 겹치게 잡는다
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private record Revocation(Instant revokedAt, Instant expiresAt) {
+    }
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final Duration refreshTokenValidity;
+    private final long minimumCapacity;
+    private final Map<String, Revocation> revocations = new ConcurrentHashMap<>();
+    private final Counter revokedHits;
+    private volatile BloomFilter filter;
+    private volatile Instant lastSyncedAt = Instant.EPOCH;
+
+    public RefreshTokenDenylist(RevokedTokenRepository revokedTokenRepository, JwtTokenProvider jwtTokenProvider,
+            MeterRegistry meterRegistry,
+            @Value("${auth.token-denylist.minimum-capacity:10000}") long minimumCapacity) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.refreshTokenValidity = Duration.ofMillis(jwtTokenProvider.getRefreshTokenValidityInMs());
+        this.minimumCapacity = minimumCapacity;
+        this.filter = new BloomFilter(minimumCapacity, 0.001);
+        Gauge.builder("auth.token.denylist.size", revocations, Map::size).register(meterRegistry);
+        this.revokedHits = Counter.builder("auth.token.denylist.hits").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void load() {
+        Instant now = Instant.now();
+        List<RevokedToken> active = revokedTokenRepository.findByExpiresAtAfter(now);
+        active.forEach(this::remember);
+        lastSyncedAt = now;
+        rebuildFilter();
+        logger.info("리프레시 토큰 폐기 목록 로드: {}개", active.size());
+    }
+
+    public boolean isRevoked(VerifiedClaims claims) {
+        BloomFilter current = filter;
+        if (claims.tokenId() != null && current.mightContain(claims.tokenId())
+                && revocations.containsKey(claims.tokenId())) {
+            revokedHits.increment();
+            return true;
+        }
+
+        // 비밀번호 재설정 등으로 사용자 단위 폐기된 경우, 그 이전에 발급된 토큰은 모두 무효.
+        // iat는 초 단위이므로 폐기 시각도 초 단위로 내려 비교한다 (폐기 직후 같은 초에 발급된 토큰은 유효)
+        String subjectKey = SUBJECT_PREFIX + claims.subject();
+        if (current.mightContain(subjectKey)) {
+            Revocation revocation = revocations.get(subjectKey);
+            if (revocation != null && (claims.issuedAt() == null
+                    || claims.issuedAt().isBefore(revocation.revokedAt().truncatedTo(ChronoUnit.SECONDS)))) {
+                revokedHits.increment();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public void revoke(VerifiedClaims claims) {
+        if (claims.tokenId() == null)
+            return;
+        persist(new RevokedToken(claims.tokenId(), Instant.now(), claims.expiresAt()));
+    }
+
+    // 리프레시 토큰은 한 번만 사용한다. jti를 PK로 먼저 기록한 요청만 성공하므로 레플리카 간에도 중복 사용이 막힌다
+    public boolean consume(VerifiedClaims claims) {
+        if (claims.tokenId() == null)
+            return true;
+        RevokedToken revokedToken = new RevokedToken(claims.tokenId(), Instant.now(), claims.expiresAt());
+        boolean first = revokedTokenRepository.insertIfAbsent(revokedToken.getId(), revokedToken.getRevokedAt(),
+                revokedToken.getExpiresAt()) > 0;
+        remember(revokedToken);
+        return first;
+    }
+
+    public void revokeAllIssuedBefore(String username, Instant cutoff) {
+        persist(new RevokedToken(SUBJECT_PREFIX + username, cutoff, cutoff.plus(refreshTokenValidity)));
+    }
+
+    private void persist(RevokedToken revokedToken) {
+        revokedTokenRepository.save(revokedToken);
+        remember(revokedToken);
+    }
+
+    // 필터 교체와 겹치면 비트가 유실될 수 있으므로 같은 락에서 처리
+    private synchronized void remember(RevokedToken revokedToken) {
+        revocations.put(revokedToken.getId(), new Revocation(revokedToken.getRevokedAt(), revokedToken.getExpiresAt()));
+        filter.put(revokedToken.getId());
+    }
+
+    // 다른 레플리카에서 폐기한 토큰을 주기적으로 가져온다
+    @Scheduled(fixedDelayString = "${auth.token-denylist.sync-interval:30000}")
+    public void sync() {
+        Instant now = Instant.now();
+        try {
+            revokedTokenRepository.findByRevokedAtAfter(lastSyncedAt.minus(SYNC_OVERLAP)).forEach(this::remember);
+            lastSyncedAt = now;
+        } catch (RuntimeException e) {
+            logger.warn("리프레시 토큰 폐기 목록 동기화 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedRate = 3600000)
+    @Transactional
+    public void prune() {
+        Instant now = Instant.now();
+        revocations.values().removeIf(revocation -> revocation.expiresAt().isBefore(now));
+        rebuildFilter();
+        int deleted = revokedTokenRepository.deleteExpired(now);
+        if (deleted > 0)
+            logger.info("만료된 토큰 폐기 기록 정리: {}개 삭제", deleted);
+    }
+
+    private synchronized void rebuildFilter() {
+        BloomFilter next = new BloomFilter(Math.max(minimumCapacity, revocations.size() * 2L), 0.001);
+        revocations.keySet().forEach(next::put);
+        filter = next;
+    }
+}
@@ -0,0 +1,227 @@
+package io.github.jiwontechinnovation.auth.mail;
+
+import io.github.jiwontechinnovation.auth.event.MailQueuedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class MailOutboxDispatcher implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(MailOutboxDispatcher.class);
+
+    private final MailOutboxService mailOutboxService;
+    private final SmtpTransportPool transportPool;
+    private final JavaMailSenderImpl mailSender;
+    private final String from;
+    private final int workers;
+    private final int batchSize;
+    private final long pollInterval;
+    private final long maxIdleInterval;
+    private final Duration failedRetention;
+    private final ExecutorService executor;
+    private final AtomicInteger activeWorkers = new AtomicInteger();
+    private final AtomicLong oldestPendingAgeSeconds = new AtomicLong();
+    // 연속으로 빈 배치를 본 횟수와 다음 폴링 시각. 쉬는 동안은 DB를 조회하지 않는다
+    private final AtomicInteger idleStreak = new AtomicInteger();
+    private final AtomicLong nextPollAt = new AtomicLong();
+
+    private final Counter sentCounter;
+    private final Counter retryCounter;
+    private final Counter deadCounter;
+    private final Timer deliveryLag;
+    private final Timer batchTimer;
+
+    public MailOutboxDispatcher(MailOutboxService mailOutboxService, SmtpTransportPool transportPool,
+            JavaMailSenderImpl mailSender, MeterRegistry meterRegistry,
+            @Value("${auth.mail.from:${spring.mail.username:}}") String from,
+            @Value("${auth.mail.workers:2}") int workers,
+            @Value("${auth.mail.batch-size:50}") int batchSize,
+            @Value("${auth.mail.poll-interval:1000}") long pollInterval,
+            @Value("${auth.mail.max-idle-interval:30000}") long maxIdleInterval,
+            @Value("${auth.mail.failed-retention:7d}") Duration failedRetention) {
+        this.mailOutboxService = mailOutboxService;
+        this.transportPool = transportPool;
+        this.mailSender = mailSender;
+        this.from = from;
+        this.workers = Math.max(workers, 1);
+        this.batchSize = batchSize;
+        this.pollInterval = Math.max(pollInterval, 1L);
+        this.maxIdleInterval = Math.max(maxIdleInterval, this.pollInterval);
+        this.failedRetention = failedRetention;
+        this.executor = Executors.newFixedThreadPool(this.workers, new CustomizableThreadFactory("mail-outbox-"));
+
+        Gauge.builder("auth.mail.outbox.oldest.age", oldestPendingAgeSeconds, AtomicLong::get)
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("auth.mail.outbox.workers.active", activeWorkers, AtomicInteger::get)
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("auth.mail.outbox.sent").register(meterRegistry);
+        this.retryCounter = Counter.builder("auth.mail.outbox.retry").register(meterRegistry);
+        this.deadCounter = Counter.builder("auth.mail.outbox.dead").register(meterRegistry);
+        this.deliveryLag = Timer.builder("auth.mail.outbox.delivery.lag").register(meterRegistry);
+        this.batchTimer = Timer.builder("auth.mail.outbox.batch").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${auth.mail.poll-interval:1000}")
+    public void poll() {
+        if (System.currentTimeMillis() < nextPollAt.get())
+            return;
+        refreshOldestPendingAge();
+        // 쉬고 있는 워커 수만큼만 드레인 작업을 띄운다
+        while (true) {
+            int current = activeWorkers.get();
+            if (current >= workers)
+                return;
+            if (activeWorkers.compareAndSet(current, current + 1)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    // 이 레플리카에서 적재한 메일은 커밋 직후 바로 보낸다 (다른 레플리카 적재분은 최대 max-idle-interval 지연)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMailQueued(MailQueuedEvent event) {
+        idleStreak.set(0);
+        nextPollAt.set(0L);
+    }
+
+    private void drain() {
+        try {
+            List<MailOutboxService.OutboundMail> batch;
+            boolean claimedAny = false;
+            do {
+                batch = mailOutboxService.claimBatch(batchSize);
+                if (!batch.isEmpty()) {
+                    claimedAny = true;
+                    List<MailOutboxService.OutboundMail> claimed = batch;
+                    batchTimer.record(() -> deliver(claimed));
+                }
+            } while (batch.size() == batchSize);
+            if (claimedAny) {
+                idleStreak.set(0);
+            } else {
+                backOffWhileIdle();
+            }
+        } catch (Exception e) {
+            logger.error("메일 outbox 처리 실패", e);
+        } finally {
+            activeWorkers.decrementAndGet();
+        }
+    }
+
+    // 빈 배치가 이어지면 폴링 간격을 두 배씩 늘린다 (max-idle-interval까지)
+    private void backOffWhileIdle() {
+        int streak = idleStreak.incrementAndGet();
+        long delay = Math.min(pollInterval << Math.min(streak, 16), maxIdleInterval);
+        nextPollAt.accumulateAndGet(System.currentTimeMillis() + delay, Math::max);
+    }
+
+    private void deliver(List<MailOutboxService.OutboundMail> batch) {
+        List<Long> sent = new ArrayList<>(batch.size());
+        Transport transport = null;
+        try {
+            for (MailOutboxService.OutboundMail mail : batch) {
+                try {
+                    if (transport == null) {
+                        transport = transportPool.borrow();
+                    }
+                    MimeMessage message = toMimeMessage(mail);
+                    transport.sendMessage(message, message.getAllRecipients());
+                    sent.add(mail.id());
+                    deliveryLag.record(Duration.between(mail.createdAt(), LocalDateTime.now()));
+                } catch (MessagingException | RuntimeException e) {
+                    // 연결 상태를 알 수 없으므로 버리고 다음 메일은 새 연결로 보낸다
+                    if (transport != null) {
+                        transportPool.discard(transport);
+                        transport = null;
+                    }
+                    handleFailure(mail, e);
+                }
+            }
+        } finally {
+            if (transport != null) {
+                transportPool.release(transport);
+            }
+            if (!sent.isEmpty()) {
+                mailOutboxService.markSent(sent);
+                sentCounter.increment(sent.size());
+            }
+        }
+    }
+
+    private MimeMessage toMimeMessage(MailOutboxService.OutboundMail mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, "UTF-8");
+        if (from != null && !from.isBlank()) {
+            helper.setFrom(from);
+        }
+        helper.setTo(mail.recipient());
+        helper.setSubject(mail.subject());
+        helper.setText(mail.body());
+        message.saveChanges();
+        return message;
+    }
+
+    private void handleFailure(MailOutboxService.OutboundMail mail, Exception e) {
+        boolean dead = mailOutboxService.markFailed(mail.id(), e.getMessage());
+        if (dead) {
+            deadCounter.increment();
+            logger.error("메일 발송 최종 실패 - id: {}, email: {}", mail.id(), mail.recipient(), e);
+        } else {
+            retryCounter.increment();
+            logger.warn("메일 발송 실패, 재시도 예정 - id: {}, email: {}, error: {}", mail.id(), mail.recipient(),
+                    e.getMessage());
+        }
+    }
+
+    private void refreshOldestPendingAge() {
+        try {
+            LocalDateTime oldest = mailOutboxService.oldestPendingCreatedAt();
+            oldestPendingAgeSeconds.set(oldest == null ? 0L
+                    : Math.max(Duration.between(oldest, LocalDateTime.now()).toSeconds(), 0L));
+        } catch (RuntimeException e) {
+            logger.debug("메일 outbox 적체 조회 실패: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedRate = 3600000)
+    public void purgeFinished() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = mailOutboxService.purgeSentBefore(now.minusDays(1));
+        if (deleted > 0)
+            logger.info("발송 완료된 메일 정리: {}개 삭제", deleted);
+        int failed = mailOutboxService.purgeFailedBefore(now.minus(failedRetention));
+        if (failed > 0)
+            logger.info("최종 실패한 메일 정리: {}개 삭제 (보존 기간: {})", failed, failedRetention);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.jiwontechinnovation.auth.mail;
+
+import io.github.jiwontechinnovation.auth.entity.MailOutbox;
+import io.github.jiwontechinnovation.auth.repository.MailOutboxRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Service
+public class MailOutboxService {
+    private static final Duration MAX_BACKOFF = Duration.ofHours(1);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final Duration lease;
+    private final Duration retryBaseDelay;
+    private final int maxAttempts;
+
+    public MailOutboxService(MailOutboxRepository mailOutboxRepository,
+            @Value("${auth.mail.lease:2m}") Duration lease,
+            @Value("${auth.mail.retry-base-delay:30s}") Duration retryBaseDelay,
+            @Value("${auth.mail.max-attempts:8}") int maxAttempts) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.lease = lease;
+        this.retryBaseDelay = retryBaseDelay;
+        this.maxAttempts = maxAttempts;
+    }
+
+    public record OutboundMail(Long id, String recipient, String subject, String body, LocalDateTime createdAt) {
+    }
+
+    // 가져간 행은 lease 동안 다른 워커에게 보이지 않음. 발송 중 프로세스가 죽으면 lease 만료 후 재시도된다.
+    @Transactional
+    public List<OutboundMail> claimBatch(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> due = mailOutboxRepository.lockDueBatch(now, batchSize);
+        LocalDateTime leaseUntil = now.plus(lease);
+        return due.stream()
+                .map(mail -> {
+                    mail.lease(leaseUntil);
+                    return new OutboundMail(mail.getId(), mail.getRecipient(), mail.getSubject(), mail.getBody(),
+                            mail.getCreatedAt());
+                })
+                .toList();
+    }
+
+    @Transactional
+    public void markSent(Collection<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        mailOutboxRepository.findAllById(ids).forEach(mail -> mail.markSent(now));
+    }
+
+    // 반환값: 재시도 한도를 넘겨 FAILED로 확정됐는지 여부
+    @Transactional
+    public boolean markFailed(Long id, String error) {
+        MailOutbox mail = mailOutboxRepository.findById(id).orElse(null);
+        if (mail == null)
+            return false;
+        Duration backoff = retryBaseDelay.multipliedBy(1L << Math.min(mail.getAttempts(), 16));
+        if (backoff.compareTo(MAX_BACKOFF) > 0)
+            backoff = MAX_BACKOFF;
+        String message = error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+        mail.markFailed(message, LocalDateTime.now().plus(backoff), maxAttempts);
+        return mail.getStatus() == MailOutbox.Status.FAILED;
+    }
+
+    @Transactional(readOnly = true)
+    public LocalDateTime oldestPendingCreatedAt() {
+        return mailOutboxRepository.findOldestCreatedAtByStatus(MailOutbox.Status.PENDING);
+    }
+
+    @Transactional
+    public int purgeSentBefore(LocalDateTime before) {
+        return mailOutboxRepository.deleteByStatusAndSentAtBefore(MailOutbox.Status.SENT, before);
+    }
+
+    // FAILED 행은 sent_at이 없으므로 적재 시각 기준으로 보존 기간을 적용
+    @Transactional
+    public int purgeFailedBefore(LocalDateTime before) {
+        return mailOutboxRepository.deleteByStatusAndCreatedAtBefore(MailOutbox.Status.FAILED, before);
+    }
+}
@@ -0,0 +1,82 @@
+package io.github.jiwontechinnovation.auth.mail;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+// JavaMailSenderImpl.send()는 호출마다 SMTP 연결/STARTTLS/AUTH를 새로 하므로,
+// 연결된 Transport를 워커 간에 재사용한다.
+@Component
+public class SmtpTransportPool implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    private final JavaMailSenderImpl mailSender;
+    private final BlockingQueue<Transport> idle;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+            @Value("${auth.mail.workers:2}") int workers) {
+        this.mailSender = mailSender;
+        this.idle = new ArrayBlockingQueue<>(Math.max(workers, 1));
+    }
+
+    public Transport borrow() throws MessagingException {
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            // isConnected()는 SMTP NOOP으로 서버 쪽에서 끊긴 연결을 걸러낸다
+            if (transport.isConnected()) {
+                return transport;
+            }
+            close(transport);
+        }
+        return connect();
+    }
+
+    public void release(Transport transport) {
+        if (!transport.isConnected() || !idle.offer(transport)) {
+            close(transport);
+        }
+    }
+
+    public void discard(Transport transport) {
+        close(transport);
+    }
+
+    private Transport connect() throws MessagingException {
+        Transport transport = mailSender.getSession().getTransport(mailSender.getProtocol());
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+        transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        logger.debug("SMTP 연결 생성 - host: {}", mailSender.getHost());
+        return transport;
+    }
+
+    private void close(Transport transport) {
+        try {
+            transport.close();
+        } catch (MessagingException e) {
+            logger.debug("SMTP 연결 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        Transport transport;
+        while ((transport = idle.poll()) != null) {
+            close(transport);
+        }
+    }
+}
@@ -14,19 +14,25 @@ public interface EmailVerificationRepository extends JpaRepository<EmailVerifica
 
     Optional<EmailVerification> findByEmailAndVerifiedFalse(String email);
 
-    boolean existsByEmailAndVerifiedTrue(String email);
+    @Query("SELECT COUNT(e) > 0 FROM EmailVerification e WHERE e.email = :email AND e.verified = true AND e.expiresAt >= :now")
+    boolean existsVerifiedAndNotExpired(@Param("email") String email, @Param("now") LocalDateTime now);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM EmailVerification e WHERE e.email = :email AND e.verified = false")
     void deleteUnverifiedByEmail(@Param("email") String email);
 
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM EmailVerification e WHERE e.email = :email")
+    void deleteByEmail(@Param("email") String email);
+
     @Modifying(clearAutomatically = true, flushAutomatically = true)
     @Query("DELETE FROM EmailVerification e WHERE e.expiresAt < :now")
     int deleteExpiredVerifications(@Param("now") LocalDateTime now);
 
     @Modifying(clearAutomatically = true, flushAutomatically = true)
-    @Query("UPDATE EmailVerification e SET e.verified = true WHERE e.email = :email AND e.code = :code AND e.verified = false AND e.expiresAt >= :now")
-    int markAsVerified(@Param("email") String email, @Param("code") String code, @Param("now") LocalDateTime now);
+    @Query("UPDATE EmailVerification e SET e.verified = true, e.expiresAt = :verifiedUntil WHERE e.email = :email AND e.code = :code AND e.verified = false AND e.expiresAt >= :now")
+    int markAsVerified(@Param("email") String email, @Param("code") String code, @Param("now") LocalDateTime now,
+            @Param("verifiedUntil") LocalDateTime verifiedUntil);
 
     @Query("SELECT COUNT(e) > 0 FROM EmailVerification e WHERE e.email = :email AND e.code = :code AND e.verified = true AND e.expiresAt >= :now")
     boolean existsByEmailAndCodeAndVerifiedTrueAndNotExpired(@Param("email") String email, @Param("code") String code,
@@ -0,0 +1,31 @@
+package io.github.jiwontechinnovation.auth.repository;
+
+import io.github.jiwontechinnovation.auth.entity.MailOutbox;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+    // 여러 워커/레플리카가 같은 메일을 중복으로 가져가지 않도록 SKIP LOCKED 사용
+    @Query(value = "SELECT * FROM mail_outbox WHERE status = 'PENDING' AND next_attempt_at <= :now "
+            + "ORDER BY next_attempt_at LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<MailOutbox> lockDueBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    @Query("SELECT MIN(m.createdAt) FROM MailOutbox m WHERE m.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") MailOutbox.Status status);
+
+    long countByStatus(MailOutbox.Status status);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM MailOutbox m WHERE m.status = :status AND m.sentAt < :before")
+    int deleteByStatusAndSentAtBefore(@Param("status") MailOutbox.Status status, @Param("before") LocalDateTime before);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM MailOutbox m WHERE m.status = :status AND m.createdAt < :before")
+    int deleteByStatusAndCreatedAtBefore(@Param("status") MailOutbox.Status status,
+            @Param("before") LocalDateTime before);
+}
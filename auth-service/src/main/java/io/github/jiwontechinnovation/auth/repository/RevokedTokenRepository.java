@@ -0,0 +1,29 @@
+package io.github.jiwontechinnovation.auth.repository;
+
+import io.github.jiwontechinnovation.auth.entity.RevokedToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, String> {
+    List<RevokedToken> findByExpiresAtAfter(Instant now);
+
+    List<RevokedToken> findByRevokedAtAfter(Instant since);
+
+    // 이미 있으면 0을 반환 (동시에 같은 jti를 기록하면 한쪽만 1)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO revoked_tokens (id, revoked_at, expires_at) VALUES (:id, :revokedAt, :expiresAt) "
+            + "ON CONFLICT (id) DO NOTHING", nativeQuery = true)
+    int insertIfAbsent(@Param("id") String id, @Param("revokedAt") Instant revokedAt,
+            @Param("expiresAt") Instant expiresAt);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("DELETE FROM RevokedToken r WHERE r.expiresAt < :now")
+    int deleteExpired(@Param("now") Instant now);
+}
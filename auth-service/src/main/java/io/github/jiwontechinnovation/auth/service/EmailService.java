@@ -1,21 +1,25 @@
 package io.github.jiwontechinnovation.auth.service;
 
+import io.github.jiwontechinnovation.auth.entity.MailOutbox;
+import io.github.jiwontechinnovation.auth.event.MailQueuedEvent;
+import io.github.jiwontechinnovation.auth.repository.MailOutboxRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.function.Function;
 
 @Service
 public class EmailService {
     private static final Logger log = LoggerFactory.getLogger(EmailService.class);
-    private final JavaMailSender mailSender;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public EmailService(JavaMailSender mailSender) {
-        this.mailSender = mailSender;
+    public EmailService(MailOutboxRepository mailOutboxRepository, ApplicationEventPublisher eventPublisher) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.eventPublisher = eventPublisher;
     }
 
     public enum EmailType {
@@ -71,27 +75,19 @@ public class EmailService {
         }
     }
 
-    @Async("emailTaskExecutor")
+    // 메일은 호출한 트랜잭션 안에서 outbox에 적재만 하고, 실제 발송은 MailOutboxDispatcher가 담당
+    @Transactional
     public void sendEmail(String email, String code, EmailType emailType) {
-        try {
-            // 개발 환경: 로그 출력
-            log.info("========================================");
-            log.info("📧 [DEV] Email Verification Code");
-            log.info("To: {}", email);
-            log.info("Code: {}", code);
-            log.info("========================================");
-            
-            // 실제 메일 발송
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setTo(email);
-            message.setSubject(emailType.getSubject());
-            message.setText(emailType.getBody(code));
-            mailSender.send(message);
-            
-            log.info("{} - email: {}, code: {}", emailType.getSuccessLog(), email, code);
-        } catch (Exception e) {
-            log.error("{} - email: {}", emailType.getErrorLog(), email, e);
-        }
+        // 개발 환경: 로그 출력
+        log.info("========================================");
+        log.info("📧 [DEV] Email Verification Code");
+        log.info("To: {}", email);
+        log.info("Code: {}", code);
+        log.info("========================================");
+
+        mailOutboxRepository.save(new MailOutbox(email, emailType.getSubject(), emailType.getBody(code)));
+        eventPublisher.publishEvent(new MailQueuedEvent(email));
+        log.info("메일 발송 대기열 등록 - subject: {}, email: {}", emailType.getSubject(), email);
     }
 
     public void sendVerificationCode(String email, String code) {
@@ -1,46 +1,46 @@
 package io.github.jiwontechinnovation.auth.service;
 
-import io.github.jiwontechinnovation.auth.entity.EmailVerification;
-import io.github.jiwontechinnovation.auth.repository.EmailVerificationRepository;
+import io.github.jiwontechinnovation.auth.verification.VerificationCodeStore;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.Random;
 
 @Service
 public class EmailVerificationService {
     private static final Logger log = LoggerFactory.getLogger(EmailVerificationService.class);
-    private static final long EXPIRATION_MINUTES = 10L;
 
-    private final EmailVerificationRepository emailVerificationRepository;
+    private final VerificationCodeStore verificationCodeStore;
     private final EmailService emailService;
+    private final Duration codeTtl;
+    private final Duration verifiedTtl;
 
-    public EmailVerificationService(EmailVerificationRepository emailVerificationRepository,
-            EmailService emailService) {
-        this.emailVerificationRepository = emailVerificationRepository;
+    public EmailVerificationService(VerificationCodeStore verificationCodeStore, EmailService emailService,
+            @Value("${auth.verification.code-ttl:10m}") Duration codeTtl,
+            @Value("${auth.verification.verified-ttl:30m}") Duration verifiedTtl) {
+        this.verificationCodeStore = verificationCodeStore;
         this.emailService = emailService;
+        this.codeTtl = codeTtl;
+        this.verifiedTtl = verifiedTtl;
     }
 
+    // 트랜잭션은 메일 outbox 적재용. 코드 자체는 VerificationCodeStore에 저장된다.
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public String sendVerificationCode(String email) {
-        emailVerificationRepository.deleteUnverifiedByEmail(email);
         String code = generateVerificationCode();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(EXPIRATION_MINUTES);
-        emailVerificationRepository.save(new EmailVerification(email, code, expiresAt));
+        verificationCodeStore.issue(email, code, codeTtl);
         emailService.sendVerificationCode(email, code);
         log.info("이메일 인증 코드 생성 및 전송 - email: {}", email);
         return code;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public boolean verifyCode(String email, String code) {
-        int updated = emailVerificationRepository.markAsVerified(email, code, LocalDateTime.now());
-        if (updated > 0) {
+        if (verificationCodeStore.markVerified(email, code, verifiedTtl)) {
             log.info("이메일 인증 성공 - email: {}", email);
             return true;
         }
@@ -48,9 +48,8 @@ public class EmailVerificationService {
         return false;
     }
 
-    @Transactional(readOnly = true)
     public boolean checkEmailVerified(String email) {
-        return emailVerificationRepository.existsByEmailAndVerifiedTrue(email);
+        return verificationCodeStore.isVerified(email);
     }
 
     private String generateVerificationCode() {
@@ -59,29 +58,20 @@ public class EmailVerificationService {
 
     @Transactional(propagation = Propagation.REQUIRES_NEW)
     public String sendPasswordResetCode(String email) {
-        emailVerificationRepository.deleteUnverifiedByEmail(email);
         String code = generateVerificationCode();
-        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(EXPIRATION_MINUTES);
-        emailVerificationRepository.save(new EmailVerification(email, code, expiresAt));
+        verificationCodeStore.issue(email, code, codeTtl);
         emailService.sendPasswordResetCode(email, code);
         log.info("비밀번호 재설정 인증 코드 생성 및 전송 - email: {}", email);
         return code;
     }
 
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public boolean verifyPasswordResetCode(String email, String code) {
-        LocalDateTime now = LocalDateTime.now();
-        int updated = emailVerificationRepository.markAsVerified(email, code, now);
-        if (updated > 0)
-            return true;
-        return emailVerificationRepository.existsByEmailAndCodeAndVerifiedTrueAndNotExpired(email, code, now);
+        return verificationCodeStore.markVerified(email, code, verifiedTtl)
+                || verificationCodeStore.isVerifiedWithCode(email, code);
     }
 
-    @Scheduled(fixedRate = 3600000)
-    @Transactional
-    public void cleanupExpiredVerifications() {
-        int deleted = emailVerificationRepository.deleteExpiredVerifications(LocalDateTime.now());
-        if (deleted > 0)
-            log.info("만료된 인증 코드 정리: {}개 삭제", deleted);
+    // 가입/재설정이 끝난 인증 상태는 재사용되지 않도록 제거
+    public void consume(String email) {
+        verificationCodeStore.invalidate(email);
     }
 }
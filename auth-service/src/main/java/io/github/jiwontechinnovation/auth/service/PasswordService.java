@@ -1,5 +1,7 @@
 package io.github.jiwontechinnovation.auth.service;
 
+import io.github.jiwontechinnovation.auth.cache.UserExistenceCache;
+import io.github.jiwontechinnovation.auth.jwt.RefreshTokenDenylist;
 import io.github.jiwontechinnovation.user.entity.User;
 import io.github.jiwontechinnovation.user.repository.UserRepository;
 import org.slf4j.Logger;
@@ -8,6 +10,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+
 @Service
 public class PasswordService {
     private static final Logger logger = LoggerFactory.getLogger(PasswordService.class);
@@ -15,12 +19,17 @@ public class PasswordService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailVerificationService emailVerificationService;
+    private final UserExistenceCache userExistenceCache;
+    private final RefreshTokenDenylist refreshTokenDenylist;
 
     public PasswordService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-            EmailVerificationService emailVerificationService) {
+            EmailVerificationService emailVerificationService, UserExistenceCache userExistenceCache,
+            RefreshTokenDenylist refreshTokenDenylist) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailVerificationService = emailVerificationService;
+        this.userExistenceCache = userExistenceCache;
+        this.refreshTokenDenylist = refreshTokenDenylist;
     }
 
     public void sendPasswordResetCode(String email) {
@@ -48,6 +57,10 @@ public class PasswordService {
 
         user.setPassword(passwordEncoder.encode(newPassword));
         userRepository.save(user);
+        userExistenceCache.invalidate(user.getUsername());
+        emailVerificationService.consume(email);
+        // 재설정 이전에 발급된 리프레시 토큰은 모두 무효화
+        refreshTokenDenylist.revokeAllIssuedBefore(user.getUsername(), Instant.now());
         logger.info("비밀번호 재설정 성공 - email: {}", email);
     }
 }
@@ -1,8 +1,13 @@
 package io.github.jiwontechinnovation.auth.service;
 
+import io.github.jiwontechinnovation.auth.cache.UserExistenceCache;
 import io.github.jiwontechinnovation.auth.dto.RefreshTokenRequest;
 import io.github.jiwontechinnovation.auth.dto.SignInRequest;
+import io.github.jiwontechinnovation.auth.exception.PasswordHashingRejectedException;
 import io.github.jiwontechinnovation.auth.jwt.JwtTokenProvider;
+import io.github.jiwontechinnovation.auth.jwt.RefreshTokenDenylist;
+import io.github.jiwontechinnovation.common.jwt.JwtVerifier;
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
 import io.github.jiwontechinnovation.user.entity.User;
 import io.github.jiwontechinnovation.user.repository.UserRepository;
 import org.slf4j.Logger;
@@ -12,6 +17,9 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.UUID;
+
 @Service
 public class SignInService {
     private static final Logger logger = LoggerFactory.getLogger(SignInService.class);
@@ -20,19 +28,26 @@ public class SignInService {
 
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerifier jwtVerifier;
     private final PasswordEncoder passwordEncoder;
+    private final RefreshTokenDenylist refreshTokenDenylist;
+    private final UserExistenceCache userExistenceCache;
 
-    public SignInService(UserRepository userRepository, JwtTokenProvider jwtTokenProvider,
-            PasswordEncoder passwordEncoder) {
+    public SignInService(UserRepository userRepository, JwtTokenProvider jwtTokenProvider, JwtVerifier jwtVerifier,
+            PasswordEncoder passwordEncoder, RefreshTokenDenylist refreshTokenDenylist,
+            UserExistenceCache userExistenceCache) {
         this.userRepository = userRepository;
         this.jwtTokenProvider = jwtTokenProvider;
+        this.jwtVerifier = jwtVerifier;
         this.passwordEncoder = passwordEncoder;
+        this.refreshTokenDenylist = refreshTokenDenylist;
+        this.userExistenceCache = userExistenceCache;
     }
 
     public record TokenPair(String accessToken, String refreshToken) {
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public TokenPair signIn(SignInRequest request) {
         User user = userRepository.findByUsernameOrEmail(request.usernameOrEmail())
                 .orElseThrow(() -> new BadCredentialsException(ERROR_INVALID_CREDENTIALS));
@@ -40,27 +55,58 @@ public class SignInService {
         if (!passwordEncoder.matches(request.password(), user.getPassword())) {
             throw new BadCredentialsException(ERROR_INVALID_CREDENTIALS);
         }
+        rehashIfOutdated(user, request.password());
 
         logger.info("로그인 성공 - username: {}", user.getUsername());
-        return createTokenPair(user.getUsername());
+        return createTokenPair(user.getUsername(), user.getId());
     }
 
-    @Transactional(readOnly = true)
+    // 폐기 여부와 사용자 존재 여부는 모두 메모리 캐시에서 확인 (일반적인 경우 DB 조회 없음)
     public TokenPair refreshToken(RefreshTokenRequest request) {
-        if (!jwtTokenProvider.validateRefreshToken(request.refreshToken())) {
+        VerifiedClaims claims = jwtVerifier.verifyRefreshToken(request.refreshToken())
+                .orElseThrow(() -> new BadCredentialsException(ERROR_INVALID_REFRESH_TOKEN));
+        if (refreshTokenDenylist.isRevoked(claims) || !userExistenceCache.exists(claims.subject())) {
             throw new BadCredentialsException(ERROR_INVALID_REFRESH_TOKEN);
         }
 
-        String username = jwtTokenProvider.getUsernameFromToken(request.refreshToken());
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new BadCredentialsException(ERROR_INVALID_REFRESH_TOKEN));
+        // uid 클레임이 없는 이전 토큰만 DB에서 조회
+        UUID userId = claims.userId() != null ? claims.userId()
+                : userRepository.findByUsername(claims.subject()).map(User::getId)
+                        .orElseThrow(() -> new BadCredentialsException(ERROR_INVALID_REFRESH_TOKEN));
+
+        // 사용한 리프레시 토큰은 폐기. 이미 사용된 토큰이 다시 오면 탈취로 보고 해당 사용자의 토큰을 모두 무효화
+        if (!refreshTokenDenylist.consume(claims)) {
+            refreshTokenDenylist.revokeAllIssuedBefore(claims.subject(), Instant.now());
+            logger.warn("사용된 리프레시 토큰 재사용 감지 - username: {}", claims.subject());
+            throw new BadCredentialsException(ERROR_INVALID_REFRESH_TOKEN);
+        }
 
-        logger.info("토큰 갱신 성공 - username: {}", username);
-        return createTokenPair(user.getUsername());
+        logger.info("토큰 갱신 성공 - username: {}", claims.subject());
+        return createTokenPair(claims.subject(), userId);
+    }
+
+    public void signOut(String refreshToken) {
+        jwtVerifier.verifyRefreshToken(refreshToken).ifPresent(claims -> {
+            refreshTokenDenylist.revoke(claims);
+            logger.info("로그아웃 - username: {}", claims.subject());
+        });
+    }
+
+    // 알고리즘이나 cost가 현재 설정과 다르면 로그인 성공 시점에 다시 해시해서 저장
+    private void rehashIfOutdated(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword()))
+            return;
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+            userRepository.save(user);
+            logger.info("비밀번호 해시 갱신 - username: {}", user.getUsername());
+        } catch (PasswordHashingRejectedException e) {
+            logger.warn("비밀번호 해시 갱신 보류 - username: {}", user.getUsername());
+        }
     }
 
-    private TokenPair createTokenPair(String username) {
-        return new TokenPair(jwtTokenProvider.createAccessToken(username),
-                jwtTokenProvider.createRefreshToken(username));
+    private TokenPair createTokenPair(String username, UUID userId) {
+        return new TokenPair(jwtTokenProvider.createAccessToken(username, userId),
+                jwtTokenProvider.createRefreshToken(username, userId));
     }
 }
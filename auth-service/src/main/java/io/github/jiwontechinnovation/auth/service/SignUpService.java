@@ -1,5 +1,7 @@
 package io.github.jiwontechinnovation.auth.service;
 
+import io.github.jiwontechinnovation.auth.availability.AvailabilityService;
+import io.github.jiwontechinnovation.auth.cache.UserExistenceCache;
 import io.github.jiwontechinnovation.auth.dto.SignUpRequest;
 import io.github.jiwontechinnovation.auth.dto.SignUpResponse;
 import io.github.jiwontechinnovation.auth.dto.VerifyEmailRequest;
@@ -7,6 +9,7 @@ import io.github.jiwontechinnovation.user.entity.User;
 import io.github.jiwontechinnovation.user.repository.UserRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -19,16 +22,21 @@ public class SignUpService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final EmailVerificationService emailVerificationService;
+    private final UserExistenceCache userExistenceCache;
+    private final AvailabilityService availabilityService;
 
     public SignUpService(UserRepository userRepository, PasswordEncoder passwordEncoder,
-            EmailVerificationService emailVerificationService) {
+            EmailVerificationService emailVerificationService, UserExistenceCache userExistenceCache,
+            AvailabilityService availabilityService) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
         this.emailVerificationService = emailVerificationService;
+        this.userExistenceCache = userExistenceCache;
+        this.availabilityService = availabilityService;
     }
 
     public void sendVerificationCode(String email) {
-        if (userRepository.existsByEmail(email)) {
+        if (availabilityService.isEmailTaken(email)) {
             throw new IllegalStateException("이미 사용 중인 이메일입니다");
         }
         emailVerificationService.sendVerificationCode(email);
@@ -41,19 +49,27 @@ public class SignUpService {
 
     @Transactional
     public SignUpResponse signUp(SignUpRequest request) {
-        if (userRepository.existsByUsername(request.username())) {
-            throw new IllegalStateException(ERROR_SIGNUP_FAILED);
-        }
-        if (userRepository.existsByEmail(request.email())) {
-            throw new IllegalStateException(ERROR_SIGNUP_FAILED);
-        }
         if (!emailVerificationService.checkEmailVerified(request.email())) {
             throw new IllegalStateException("이메일 인증이 완료되지 않았습니다");
         }
+        // 동시 가입 경합은 아래 unique 제약 위반으로 처리한다.
+        if (availabilityService.isUsernameTaken(request.username())
+                || availabilityService.isEmailTaken(request.email())) {
+            throw new IllegalStateException(ERROR_SIGNUP_FAILED);
+        }
 
         String encodedPassword = passwordEncoder.encode(request.password());
         User user = new User(request.username(), request.email(), encodedPassword, request.name());
-        User savedUser = userRepository.save(user);
+        User savedUser;
+        try {
+            savedUser = userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            logger.info("회원가입 중복 - username: {}, email: {}", request.username(), request.email());
+            throw new IllegalStateException(ERROR_SIGNUP_FAILED);
+        }
+        availabilityService.registerTaken(savedUser.getUsername(), savedUser.getEmail());
+        userExistenceCache.invalidate(savedUser.getUsername());
+        emailVerificationService.consume(savedUser.getEmail());
         logger.info("회원가입 성공 - username: {}, email: {}", savedUser.getUsername(), savedUser.getEmail());
         return new SignUpResponse(savedUser.getUsername(), savedUser.getEmail());
     }
@@ -0,0 +1,13 @@
+package io.github.jiwontechinnovation.auth.throttle;
+
+import java.time.Duration;
+
+public interface AttemptCounterStore {
+
+    // 시도를 기록하고 기록 후의 현재/직전 윈도우 카운트를 반환
+    SlidingWindowCounts increment(String key, Duration window);
+
+    // 기록한 시도를 되돌린다 (성공한 로그인, 한도 초과로 거절된 시도).
+    // windowStartMillis는 increment가 반환한 윈도우 시작 시각으로, 그 사이 윈도우가 넘어가도 같은 윈도우에서 뺀다
+    void decrement(String key, Duration window, long windowStartMillis);
+}
@@ -0,0 +1,122 @@
+package io.github.jiwontechinnovation.auth.throttle;
+
+import io.github.jiwontechinnovation.auth.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// DB 조회, BCrypt, SMTP 발송 이전에 계정/IP 단위로 시도 횟수를 제한
+@Component
+public class AuthThrottle {
+    private static final Logger logger = LoggerFactory.getLogger(AuthThrottle.class);
+
+    private final AttemptCounterStore attemptCounterStore;
+    private final MeterRegistry meterRegistry;
+    private final Duration window;
+    private final long signInPerAccount;
+    private final long signInPerIp;
+    private final long codePerEmail;
+    private final long codePerIp;
+
+    public AuthThrottle(AttemptCounterStore attemptCounterStore, MeterRegistry meterRegistry,
+            @Value("${auth.throttle.window:15m}") Duration window,
+            @Value("${auth.throttle.signin-per-account:10}") long signInPerAccount,
+            @Value("${auth.throttle.signin-per-ip:50}") long signInPerIp,
+            @Value("${auth.throttle.code-per-email:5}") long codePerEmail,
+            @Value("${auth.throttle.code-per-ip:20}") long codePerIp) {
+        this.attemptCounterStore = attemptCounterStore;
+        this.meterRegistry = meterRegistry;
+        this.window = window;
+        this.signInPerAccount = signInPerAccount;
+        this.signInPerIp = signInPerIp;
+        this.codePerEmail = codePerEmail;
+        this.codePerIp = codePerIp;
+    }
+
+    // 시도를 먼저 센다. 성공하면 refundSignIn으로 되돌려서 실패한 로그인만 한도에 남긴다
+    public Attempt checkSignIn(String clientIp, String account) {
+        return check("signin", List.of(new Scope("ip", clientIp, signInPerIp),
+                new Scope("account", normalize(account), signInPerAccount)));
+    }
+
+    public void refundSignIn(Attempt attempt) {
+        refund(attempt);
+    }
+
+    public void checkVerificationCode(String clientIp, String email) {
+        check("verification-code", List.of(new Scope("ip", clientIp, codePerIp),
+                new Scope("email", normalize(email), codePerEmail)));
+    }
+
+    public void checkFindPassword(String clientIp, String email) {
+        check("find-password", List.of(new Scope("ip", clientIp, codePerIp),
+                new Scope("email", normalize(email), codePerEmail)));
+    }
+
+    private record Scope(String name, String value, long limit) {
+    }
+
+    // 기록한 카운터 키와 그 시도가 들어간 윈도우. 되돌릴 때 윈도우가 넘어갔어도 같은 윈도우에서 뺀다
+    private record Recorded(String key, long windowStartMillis) {
+    }
+
+    public static final class Attempt {
+        private final List<Recorded> recorded;
+
+        private Attempt(List<Recorded> recorded) {
+            this.recorded = List.copyOf(recorded);
+        }
+    }
+
+    // 한 범위라도 한도를 넘으면 이번 시도는 모두 되돌리고 거절한다 (거절된 시도가 차단 시간을 늘리지 않게)
+    private Attempt check(String action, List<Scope> scopes) {
+        long now = System.currentTimeMillis();
+        long retryAfterMs = 0L;
+        String rejectedScope = null;
+        List<Recorded> recorded = new ArrayList<>(scopes.size());
+        for (Scope scope : scopes) {
+            if (scope.value() == null)
+                continue;
+            String key = key(action, scope);
+            SlidingWindowCounts counts = attemptCounterStore.increment(key, window);
+            recorded.add(new Recorded(key, counts.windowStartMillis()));
+            if (counts.estimate(now) > scope.limit()) {
+                SlidingWindowCounts withoutThisAttempt = new SlidingWindowCounts(counts.current() - 1,
+                        counts.previous(), counts.windowStartMillis(), counts.windowMillis());
+                retryAfterMs = Math.max(retryAfterMs, withoutThisAttempt.retryAfterMillis(now, scope.limit()));
+                if (rejectedScope == null) {
+                    rejectedScope = scope.name() + ": " + scope.value();
+                }
+                meterRegistry.counter("auth.throttle.rejected", "action", action, "scope", scope.name()).increment();
+            }
+        }
+        Attempt attempt = new Attempt(recorded);
+        if (rejectedScope != null) {
+            refund(attempt);
+            logger.warn("요청 제한 초과 - action: {}, {}, retry after: {}ms", action, rejectedScope, retryAfterMs);
+            throw new TooManyAttemptsException(Math.max(1L, (retryAfterMs + 999) / 1000));
+        }
+        return attempt;
+    }
+
+    private void refund(Attempt attempt) {
+        for (Recorded recorded : attempt.recorded) {
+            attemptCounterStore.decrement(recorded.key(), window, recorded.windowStartMillis());
+        }
+    }
+
+    private static String key(String action, Scope scope) {
+        return action + ":" + scope.name() + ":" + scope.value();
+    }
+
+    private String normalize(String value) {
+        return value != null ? value.trim().toLowerCase(Locale.ROOT) : null;
+    }
+}
@@ -0,0 +1,114 @@
+package io.github.jiwontechinnovation.auth.throttle;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+@ConditionalOnProperty(name = "auth.throttle.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAttemptCounterStore implements AttemptCounterStore {
+    private static final int STRIPES = 64;
+
+    private final Map<String, SlidingWindow> windows = new ConcurrentHashMap<>();
+    private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+    public InMemoryAttemptCounterStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    // 현재/직전 고정 윈도우 카운트 (추정은 SlidingWindowCounts)
+    private static final class SlidingWindow {
+        private final long sizeMs;
+        private long windowStart;
+        private long current;
+        private long previous;
+
+        private SlidingWindow(long sizeMs, long windowStart) {
+            this.sizeMs = sizeMs;
+            this.windowStart = windowStart;
+        }
+
+        private void roll(long now) {
+            long start = now - now % sizeMs;
+            if (start == windowStart)
+                return;
+            previous = (start - windowStart == sizeMs) ? current : 0L;
+            current = 0L;
+            windowStart = start;
+        }
+
+        private SlidingWindowCounts counts() {
+            return new SlidingWindowCounts(current, previous, windowStart, sizeMs);
+        }
+
+        private boolean isStale(long now) {
+            return now - windowStart >= 2 * sizeMs;
+        }
+    }
+
+    @Override
+    public SlidingWindowCounts increment(String key, Duration window) {
+        long now = System.currentTimeMillis();
+        long sizeMs = window.toMillis();
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            SlidingWindow slidingWindow = windows.computeIfAbsent(key,
+                    k -> new SlidingWindow(sizeMs, now - now % sizeMs));
+            slidingWindow.roll(now);
+            slidingWindow.current++;
+            return slidingWindow.counts();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void decrement(String key, Duration window, long windowStartMillis) {
+        ReentrantLock lock = lockFor(key);
+        lock.lock();
+        try {
+            SlidingWindow slidingWindow = windows.get(key);
+            if (slidingWindow != null) {
+                slidingWindow.roll(System.currentTimeMillis());
+                // 그보다 오래된 윈도우는 이미 추정에 쓰이지 않으므로 되돌릴 것이 없다
+                if (slidingWindow.windowStart == windowStartMillis) {
+                    if (slidingWindow.current > 0)
+                        slidingWindow.current--;
+                } else if (slidingWindow.windowStart - slidingWindow.sizeMs == windowStartMillis) {
+                    if (slidingWindow.previous > 0)
+                        slidingWindow.previous--;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelay = 60000)
+    public void evictStaleWindows() {
+        long now = System.currentTimeMillis();
+        windows.forEach((key, slidingWindow) -> {
+            ReentrantLock lock = lockFor(key);
+            lock.lock();
+            try {
+                if (slidingWindow.isStale(now))
+                    windows.remove(key, slidingWindow);
+            } finally {
+                lock.unlock();
+            }
+        });
+    }
+
+    private ReentrantLock lockFor(String key) {
+        int hash = key.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+    }
+}
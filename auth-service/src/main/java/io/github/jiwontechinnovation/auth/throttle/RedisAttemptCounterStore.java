@@ -0,0 +1,64 @@
+package io.github.jiwontechinnovation.auth.throttle;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 여러 레플리카가 카운터를 공유해야 할 때 사용 (auth.throttle.store=redis)
+@Component
+@ConditionalOnProperty(name = "auth.throttle.store", havingValue = "redis")
+public class RedisAttemptCounterStore implements AttemptCounterStore {
+    private static final String KEY_PREFIX = "auth:throttle:";
+
+    // INCR과 만료 설정을 한 번에 실행. TTL이 없는 키(이전 버전이 남긴 것 포함)는 여기서 만료를 건다
+    private static final RedisScript<List> INCREMENT = RedisScript.of("""
+            local current = redis.call('INCR', KEYS[1])
+            if redis.call('PTTL', KEYS[1]) < 0 then
+                redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            end
+            local previous = tonumber(redis.call('GET', KEYS[2])) or 0
+            return {current, previous}
+            """, List.class);
+
+    private static final RedisScript<Long> DECREMENT = RedisScript.of("""
+            local current = tonumber(redis.call('GET', KEYS[1]))
+            if current and current > 0 then
+                return redis.call('DECR', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisAttemptCounterStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public SlidingWindowCounts increment(String key, Duration window) {
+        long now = System.currentTimeMillis();
+        long sizeMs = window.toMillis();
+        long index = now / sizeMs;
+
+        List<?> result = redisTemplate.execute(INCREMENT,
+                List.of(windowKey(key, index), windowKey(key, index - 1)),
+                Long.toString(2 * sizeMs));
+        long current = result != null ? ((Number) result.get(0)).longValue() : 1L;
+        long previous = result != null ? ((Number) result.get(1)).longValue() : 0L;
+        return new SlidingWindowCounts(current, previous, index * sizeMs, sizeMs);
+    }
+
+    @Override
+    public void decrement(String key, Duration window, long windowStartMillis) {
+        long index = windowStartMillis / window.toMillis();
+        redisTemplate.execute(DECREMENT, List.of(windowKey(key, index)));
+    }
+
+    private static String windowKey(String key, long index) {
+        return KEY_PREFIX + key + ":" + index;
+    }
+}
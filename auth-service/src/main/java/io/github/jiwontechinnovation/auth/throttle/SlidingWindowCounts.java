@@ -0,0 +1,31 @@
+package io.github.jiwontechinnovation.auth.throttle;
+
+// 고정 윈도우 두 개(현재, 직전)의 카운트. 직전 윈도우는 현재 윈도우가 지난 비율만큼 덜 반영한다
+public record SlidingWindowCounts(long current, long previous, long windowStartMillis, long windowMillis) {
+
+    // 슬라이딩 윈도우 기준 추정 시도 횟수
+    public long estimate(long now) {
+        double previousWeight = Math.max(0.0, 1.0 - (double) (now - windowStartMillis) / windowMillis);
+        return current + (long) Math.ceil(previous * previousWeight);
+    }
+
+    // 추가 시도 1번이 limit 안에 들어올 때까지 남은 시간 (새 시도가 없다는 가정)
+    public long retryAfterMillis(long now, long limit) {
+        long allowed = limit - 1;
+        if (allowed < 0) {
+            return windowStartMillis + 2 * windowMillis - now;
+        }
+        if (current <= allowed) {
+            // 현재 윈도우 안에서 직전 윈도우 몫이 줄어들어 allowed 이하가 되는 시점
+            long room = allowed - current;
+            if (previous <= room) {
+                return 0L;
+            }
+            double elapsedRatio = 1.0 - (double) room / previous;
+            return Math.max(0L, windowStartMillis + (long) Math.ceil(elapsedRatio * windowMillis) - now);
+        }
+        // 다음 윈도우로 넘어가면 현재 카운트가 직전 몫이 된다
+        double elapsedRatio = 1.0 - (double) allowed / current;
+        return windowStartMillis + windowMillis + (long) Math.ceil(elapsedRatio * windowMillis) - now;
+    }
+}
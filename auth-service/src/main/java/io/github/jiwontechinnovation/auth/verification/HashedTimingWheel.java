@@ -0,0 +1,63 @@
+package io.github.jiwontechinnovation.auth.verification;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// 만료 작업을 tick 단위 버킷에 나눠 담아, 매 tick마다 해당 버킷만 확인한다.
+// 등록은 O(1)이고 전체 스캔이 없으므로 만료 정리 비용이 저장된 코드 수와 무관하다.
+class HashedTimingWheel {
+    private final long tickMillis;
+    private final int mask;
+    private final Queue<Timeout>[] buckets;
+    private final long startMillis;
+    private volatile long currentTick;
+
+    @SuppressWarnings("unchecked")
+    HashedTimingWheel(Duration tick, int wheelSize) {
+        if (Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("wheelSize must be a power of two");
+        }
+        this.tickMillis = tick.toMillis();
+        this.mask = wheelSize - 1;
+        this.buckets = new Queue[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            buckets[i] = new ConcurrentLinkedQueue<>();
+        }
+        this.startMillis = System.currentTimeMillis();
+    }
+
+    private record Timeout(long deadlineTick, Runnable task) {
+    }
+
+    void schedule(Duration delay, Runnable task) {
+        long deadline = System.currentTimeMillis() + delay.toMillis() - startMillis;
+        long deadlineTick = Math.max((deadline + tickMillis - 1) / tickMillis, currentTick);
+        buckets[(int) (deadlineTick & mask)].add(new Timeout(deadlineTick, task));
+    }
+
+    // 단일 스레드(스케줄러)에서만 호출
+    synchronized int advance() {
+        long targetTick = (System.currentTimeMillis() - startMillis) / tickMillis;
+        if (targetTick < currentTick)
+            return 0;
+
+        // 한 바퀴 이상 밀렸으면 모든 버킷을 한 번씩만 확인하면 된다
+        long ticks = Math.min(targetTick - currentTick + 1, buckets.length);
+        int expired = 0;
+        for (long i = 0; i < ticks; i++) {
+            Iterator<Timeout> iterator = buckets[(int) ((currentTick + i) & mask)].iterator();
+            while (iterator.hasNext()) {
+                Timeout timeout = iterator.next();
+                if (timeout.deadlineTick() <= targetTick) {
+                    iterator.remove();
+                    timeout.task().run();
+                    expired++;
+                }
+            }
+        }
+        currentTick = targetTick + 1;
+        return expired;
+    }
+}
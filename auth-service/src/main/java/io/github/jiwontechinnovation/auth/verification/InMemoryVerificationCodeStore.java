@@ -0,0 +1,79 @@
+package io.github.jiwontechinnovation.auth.verification;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 단일 레플리카용 기본 구현. 코드 발급/검증에 DB 쓰기가 없다.
+@Component
+@ConditionalOnProperty(name = "auth.verification.store", havingValue = "memory", matchIfMissing = true)
+public class InMemoryVerificationCodeStore implements VerificationCodeStore {
+    // 미인증 코드와 인증 완료 상태를 따로 둔다. 인증 후 코드를 다시 요청해도 인증 상태는 유지된다
+    private final Map<String, Entry> pending = new ConcurrentHashMap<>();
+    private final Map<String, Entry> verified = new ConcurrentHashMap<>();
+    private final HashedTimingWheel timingWheel = new HashedTimingWheel(Duration.ofSeconds(1), 1024);
+
+    public InMemoryVerificationCodeStore(MeterRegistry meterRegistry) {
+        Gauge.builder("auth.verification.codes", this, store -> store.pending.size() + store.verified.size())
+                .register(meterRegistry);
+    }
+
+    private record Entry(String code, long expiresAt) {
+        boolean isLive(long now) {
+            return expiresAt >= now;
+        }
+    }
+
+    @Override
+    public void issue(String email, String code, Duration ttl) {
+        Entry entry = new Entry(code, System.currentTimeMillis() + ttl.toMillis());
+        pending.put(email, entry);
+        timingWheel.schedule(ttl, () -> pending.remove(email, entry));
+    }
+
+    @Override
+    public boolean markVerified(String email, String code, Duration verifiedTtl) {
+        long now = System.currentTimeMillis();
+        Entry current = pending.get(email);
+        if (current == null || !current.code().equals(code) || !current.isLive(now)) {
+            return false;
+        }
+        // 같은 코드로 동시에 들어온 요청 중 하나만 성공
+        if (!pending.remove(email, current)) {
+            return false;
+        }
+        Entry entry = new Entry(code, now + verifiedTtl.toMillis());
+        verified.put(email, entry);
+        timingWheel.schedule(verifiedTtl, () -> verified.remove(email, entry));
+        return true;
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        Entry entry = verified.get(email);
+        return entry != null && entry.isLive(System.currentTimeMillis());
+    }
+
+    @Override
+    public boolean isVerifiedWithCode(String email, String code) {
+        Entry entry = verified.get(email);
+        return entry != null && entry.code().equals(code) && entry.isLive(System.currentTimeMillis());
+    }
+
+    @Override
+    public void invalidate(String email) {
+        pending.remove(email);
+        verified.remove(email);
+    }
+
+    @Scheduled(fixedRate = 1000)
+    public void expire() {
+        timingWheel.advance();
+    }
+}
@@ -0,0 +1,69 @@
+package io.github.jiwontechinnovation.auth.verification;
+
+import io.github.jiwontechinnovation.auth.entity.EmailVerification;
+import io.github.jiwontechinnovation.auth.repository.EmailVerificationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+// 기존 email_verifications 테이블 기반 구현 (auth.verification.store=jpa)
+@Component
+@ConditionalOnProperty(name = "auth.verification.store", havingValue = "jpa")
+public class JpaVerificationCodeStore implements VerificationCodeStore {
+    private static final Logger log = LoggerFactory.getLogger(JpaVerificationCodeStore.class);
+
+    private final EmailVerificationRepository emailVerificationRepository;
+
+    public JpaVerificationCodeStore(EmailVerificationRepository emailVerificationRepository) {
+        this.emailVerificationRepository = emailVerificationRepository;
+    }
+
+    @Override
+    @Transactional
+    public void issue(String email, String code, Duration ttl) {
+        emailVerificationRepository.deleteUnverifiedByEmail(email);
+        emailVerificationRepository.save(new EmailVerification(email, code, LocalDateTime.now().plus(ttl)));
+    }
+
+    // 읽기 전용 트랜잭션에서 호출되어도 갱신되도록 별도 트랜잭션으로 실행
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean markVerified(String email, String code, Duration verifiedTtl) {
+        LocalDateTime now = LocalDateTime.now();
+        return emailVerificationRepository.markAsVerified(email, code, now, now.plus(verifiedTtl)) > 0;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerified(String email) {
+        return emailVerificationRepository.existsVerifiedAndNotExpired(email, LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean isVerifiedWithCode(String email, String code) {
+        return emailVerificationRepository.existsByEmailAndCodeAndVerifiedTrueAndNotExpired(email, code,
+                LocalDateTime.now());
+    }
+
+    @Override
+    @Transactional
+    public void invalidate(String email) {
+        emailVerificationRepository.deleteByEmail(email);
+    }
+
+    @Scheduled(fixedRate = 3600000)
+    @Transactional
+    public void cleanupExpiredVerifications() {
+        int deleted = emailVerificationRepository.deleteExpiredVerifications(LocalDateTime.now());
+        if (deleted > 0)
+            log.info("만료된 인증 코드 정리: {}개 삭제", deleted);
+    }
+}
@@ -0,0 +1,61 @@
+package io.github.jiwontechinnovation.auth.verification;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 여러 레플리카가 인증 상태를 공유해야 할 때 사용 (auth.verification.store=redis)
+@Component
+@ConditionalOnProperty(name = "auth.verification.store", havingValue = "redis")
+public class RedisVerificationCodeStore implements VerificationCodeStore {
+    private static final String PENDING_PREFIX = "auth:verification:pending:";
+    private static final String VERIFIED_PREFIX = "auth:verification:verified:";
+
+    // 미인증 코드 확인, 삭제, 인증 상태 기록을 원자적으로 처리 (새 코드 발급이 인증 상태를 덮어쓰지 않게 키를 분리)
+    private static final RedisScript<Long> MARK_VERIFIED = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+                redis.call('DEL', KEYS[1])
+                redis.call('SET', KEYS[2], ARGV[1], 'PX', ARGV[2])
+                return 1
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public RedisVerificationCodeStore(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public void issue(String email, String code, Duration ttl) {
+        redisTemplate.opsForValue().set(PENDING_PREFIX + email, code, ttl);
+    }
+
+    @Override
+    public boolean markVerified(String email, String code, Duration verifiedTtl) {
+        Long updated = redisTemplate.execute(MARK_VERIFIED, List.of(PENDING_PREFIX + email, VERIFIED_PREFIX + email),
+                code, Long.toString(verifiedTtl.toMillis()));
+        return updated != null && updated == 1L;
+    }
+
+    @Override
+    public boolean isVerified(String email) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(VERIFIED_PREFIX + email));
+    }
+
+    @Override
+    public boolean isVerifiedWithCode(String email, String code) {
+        return code.equals(redisTemplate.opsForValue().get(VERIFIED_PREFIX + email));
+    }
+
+    @Override
+    public void invalidate(String email) {
+        redisTemplate.delete(List.of(PENDING_PREFIX + email, VERIFIED_PREFIX + email));
+    }
+}
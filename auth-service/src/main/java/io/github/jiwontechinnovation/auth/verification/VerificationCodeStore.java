@@ -0,0 +1,17 @@
+package io.github.jiwontechinnovation.auth.verification;
+
+import java.time.Duration;
+
+public interface VerificationCodeStore {
+    // 같은 이메일의 미인증 코드는 새 코드로 대체
+    void issue(String email, String code, Duration ttl);
+
+    // 코드가 일치하면 인증 완료로 바꾸고 verifiedTtl 동안 유지
+    boolean markVerified(String email, String code, Duration verifiedTtl);
+
+    boolean isVerified(String email);
+
+    boolean isVerifiedWithCode(String email, String code);
+
+    void invalidate(String email);
+}
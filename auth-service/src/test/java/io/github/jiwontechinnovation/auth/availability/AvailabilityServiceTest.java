@@ -0,0 +1,31 @@
+package io.github.jiwontechinnovation.auth.availability;
+
+import io.github.jiwontechinnovation.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AvailabilityServiceTest {
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final TakenIdentifierFilter filter = mock(TakenIdentifierFilter.class);
+    private final AvailabilityService service = new AvailabilityService(userRepository, filter,
+            new SimpleMeterRegistry());
+
+    @Test
+    void takenChecksIgnoreStaleFilter() {
+        // 다른 레플리카에서 방금 가입해 이 레플리카 필터에는 없는 경우
+        when(filter.mightContainEmail("user@example.com")).thenReturn(false);
+        when(filter.mightContainUsername("user")).thenReturn(false);
+        when(userRepository.existsByEmail("user@example.com")).thenReturn(true);
+        when(userRepository.existsByUsername("user")).thenReturn(true);
+
+        assertTrue(service.isEmailTaken("user@example.com"));
+        assertTrue(service.isUsernameTaken("user"));
+        verify(userRepository).existsByEmail("user@example.com");
+        verify(userRepository).existsByUsername("user");
+    }
+}
@@ -0,0 +1,66 @@
+package io.github.jiwontechinnovation.auth.availability;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TakenIdentifierFilterTest {
+    private EmbeddedDatabase database;
+    private TakenIdentifierFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).generateUniqueName(true).build();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(database);
+        jdbcTemplate.execute("CREATE TABLE users (username VARCHAR(50), email VARCHAR(100))");
+        for (int i = 0; i < 5000; i++) {
+            jdbcTemplate.update("INSERT INTO users VALUES (?, ?)", "user" + i, "user" + i + "@example.com");
+        }
+        filter = new TakenIdentifierFilter(database, new SimpleMeterRegistry(), 1000, 0.01);
+    }
+
+    @AfterEach
+    void tearDown() {
+        database.shutdown();
+    }
+
+    @Test
+    void rebuildLoadsExistingIdentifiers() {
+        assertNull(filter.mightContainUsername("user1"));
+
+        filter.rebuild();
+
+        assertEquals(Boolean.TRUE, filter.mightContainUsername("user1"));
+        assertEquals(Boolean.TRUE, filter.mightContainEmail("user4999@example.com"));
+    }
+
+    @Test
+    void addsDuringRebuildSurviveSwap() {
+        filter.rebuild();
+
+        // 재구성과 동시에 DB에 없는 값을 추가해도 교체 후 필터에 남아 있어야 한다
+        for (int round = 0; round < 20; round++) {
+            int base = round * 100;
+            CompletableFuture<Void> rebuild = CompletableFuture.runAsync(filter::rebuild);
+            for (int i = base; i < base + 100; i++) {
+                filter.add("new" + i, "new" + i + "@example.com");
+            }
+            rebuild.join();
+            for (int i = base; i < base + 100; i++) {
+                assertEquals(Boolean.TRUE, filter.mightContainUsername("new" + i), "new" + i);
+                assertTrue(filter.mightContainEmail("new" + i + "@example.com"));
+            }
+        }
+    }
+}
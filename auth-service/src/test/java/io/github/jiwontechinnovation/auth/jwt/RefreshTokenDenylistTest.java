@@ -0,0 +1,59 @@
+package io.github.jiwontechinnovation.auth.jwt;
+
+import io.github.jiwontechinnovation.auth.repository.RevokedTokenRepository;
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenDenylistTest {
+    private final RevokedTokenRepository repository = mock(RevokedTokenRepository.class);
+    private final RefreshTokenDenylist denylist = new RefreshTokenDenylist(repository,
+            new JwtTokenProvider("0123456789abcdef0123456789abcdef0123456789abcdef", 3600000, 604800000),
+            new SimpleMeterRegistry(), 1000);
+
+    @Test
+    void consumedTokenIsRevoked() {
+        VerifiedClaims claims = refreshToken("user", "jti-1", Instant.now());
+        when(repository.insertIfAbsent(eq("jti-1"), any(), any())).thenReturn(1);
+
+        assertFalse(denylist.isRevoked(claims));
+        assertTrue(denylist.consume(claims));
+        assertTrue(denylist.isRevoked(claims));
+    }
+
+    @Test
+    void consumeFailsWhenAnotherReplicaUsedTokenFirst() {
+        VerifiedClaims claims = refreshToken("user", "jti-2", Instant.now());
+        when(repository.insertIfAbsent(eq("jti-2"), any(), any())).thenReturn(0);
+
+        assertFalse(denylist.consume(claims));
+    }
+
+    @Test
+    void revokeAllComparesAtSecondPrecision() {
+        Instant revokedAt = Instant.parse("2026-01-01T00:00:10.700Z");
+        denylist.revokeAllIssuedBefore("user", revokedAt);
+
+        Instant sameSecond = revokedAt.truncatedTo(ChronoUnit.SECONDS);
+        assertTrue(denylist.isRevoked(refreshToken("user", "a", sameSecond.minusSeconds(1))));
+        assertFalse(denylist.isRevoked(refreshToken("user", "b", sameSecond)));
+        assertFalse(denylist.isRevoked(refreshToken("user", "c", sameSecond.plusSeconds(1))));
+        assertFalse(denylist.isRevoked(refreshToken("other", "d", sameSecond.minusSeconds(1))));
+    }
+
+    private static VerifiedClaims refreshToken(String subject, String tokenId, Instant issuedAt) {
+        return new VerifiedClaims(subject, "refresh", UUID.randomUUID(), tokenId, issuedAt,
+                issuedAt.plus(7, ChronoUnit.DAYS));
+    }
+}
@@ -0,0 +1,157 @@
+package io.github.jiwontechinnovation.auth.mail;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.github.jiwontechinnovation.auth.entity.MailOutbox;
+import io.github.jiwontechinnovation.auth.event.MailQueuedEvent;
+import io.github.jiwontechinnovation.auth.repository.MailOutboxRepository;
+import io.github.jiwontechinnovation.auth.service.EmailService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MailOutboxDispatcherTest {
+    @RegisterExtension
+    static final GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final MailOutboxService mailOutboxService = mock(MailOutboxService.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private SmtpTransportPool transportPool;
+    private MailOutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        if (dispatcher != null)
+            dispatcher.destroy();
+        if (transportPool != null)
+            transportPool.destroy();
+    }
+
+    @Test
+    void queuedVerificationCodeIsDeliveredOverSmtp() throws Exception {
+        MailOutboxRepository repository = mock(MailOutboxRepository.class);
+        ApplicationEventPublisher publisher = mock(ApplicationEventPublisher.class);
+        new EmailService(repository, publisher).sendVerificationCode("user@example.com", "123456");
+
+        ArgumentCaptor<MailOutbox> saved = ArgumentCaptor.forClass(MailOutbox.class);
+        verify(repository).save(saved.capture());
+        verify(publisher).publishEvent(any(MailQueuedEvent.class));
+        MailOutbox mail = saved.getValue();
+        when(mailOutboxService.claimBatch(anyInt()))
+                .thenReturn(List.of(new MailOutboxService.OutboundMail(1L, mail.getRecipient(), mail.getSubject(),
+                        mail.getBody(), LocalDateTime.now())))
+                .thenReturn(List.of());
+
+        dispatcher = dispatcher(mailSender(ServerSetupTest.SMTP.getPort()));
+        dispatcher.poll();
+
+        assertTrue(greenMail.waitForIncomingEmail(5000, 1));
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertEquals("이메일 인증 코드", received.getSubject());
+        assertEquals("user@example.com", received.getAllRecipients()[0].toString());
+        assertTrue(((String) received.getContent()).contains("인증 코드: 123456"));
+        verify(mailOutboxService, timeout(5000)).markSent(List.of(1L));
+        verify(mailOutboxService, never()).markFailed(any(), any());
+    }
+
+    @Test
+    void deliveryFailureSchedulesRetryInsteadOfMarkingSent() throws Exception {
+        when(mailOutboxService.claimBatch(anyInt()))
+                .thenReturn(List.of(new MailOutboxService.OutboundMail(7L, "user@example.com", "subject", "body",
+                        LocalDateTime.now())))
+                .thenReturn(List.of());
+
+        dispatcher = dispatcher(mailSender(unusedPort()));
+        dispatcher.poll();
+
+        verify(mailOutboxService, timeout(5000)).markFailed(eq(7L), anyString());
+        verify(mailOutboxService, never()).markSent(any());
+    }
+
+    @Test
+    void idleOutboxBacksOffUntilMailIsQueued() throws InterruptedException {
+        when(mailOutboxService.claimBatch(anyInt())).thenReturn(List.of());
+
+        dispatcher = dispatcher(mailSender(ServerSetupTest.SMTP.getPort()));
+        dispatcher.poll();
+        verify(mailOutboxService, timeout(5000)).claimBatch(anyInt());
+        awaitWorkersIdle();
+
+        // 빈 배치를 본 뒤에는 poll이 와도 DB를 조회하지 않는다
+        for (int i = 0; i < 5; i++) {
+            dispatcher.poll();
+        }
+        verify(mailOutboxService, after(300).times(1)).claimBatch(anyInt());
+        verify(mailOutboxService, times(1)).oldestPendingCreatedAt();
+
+        dispatcher.onMailQueued(new MailQueuedEvent("user@example.com"));
+        dispatcher.poll();
+        verify(mailOutboxService, timeout(5000).times(2)).claimBatch(anyInt());
+    }
+
+    @Test
+    void purgeRemovesFailedMailAfterRetention() {
+        dispatcher = dispatcher(mailSender(ServerSetupTest.SMTP.getPort()));
+
+        dispatcher.purgeFinished();
+
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(7);
+        verify(mailOutboxService).purgeFailedBefore(
+                argThat(before -> Math.abs(Duration.between(before, cutoff).toSeconds()) < 5));
+        verify(mailOutboxService).purgeSentBefore(any());
+    }
+
+    private MailOutboxDispatcher dispatcher(JavaMailSenderImpl mailSender) {
+        transportPool = new SmtpTransportPool(mailSender, 1);
+        return new MailOutboxDispatcher(mailOutboxService, transportPool, mailSender, meterRegistry,
+                "noreply@example.com", 1, 10, 1000, 30000, Duration.ofDays(7));
+    }
+
+    private void awaitWorkersIdle() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (meterRegistry.get("auth.mail.outbox.workers.active").gauge().value() > 0) {
+            assertTrue(System.currentTimeMillis() < deadline, "drain did not finish");
+            Thread.sleep(10);
+        }
+    }
+
+    private static JavaMailSenderImpl mailSender(int port) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(port);
+        mailSender.setProtocol("smtp");
+        return mailSender;
+    }
+
+    private static int unusedPort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.jiwontechinnovation.auth.throttle;
+
+import io.github.jiwontechinnovation.auth.exception.TooManyAttemptsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AuthThrottleTest {
+    private static final Duration WINDOW = Duration.ofMinutes(15);
+
+    private final AuthThrottle throttle = new AuthThrottle(new InMemoryAttemptCounterStore(),
+            new SimpleMeterRegistry(), WINDOW, 3, 100, 2, 100);
+
+    @Test
+    void failedSignInsAreLimitedPerAccount() {
+        for (int i = 0; i < 3; i++) {
+            throttle.checkSignIn("10.0.0." + i, "User@Example.com");
+        }
+
+        assertThrows(TooManyAttemptsException.class, () -> throttle.checkSignIn("10.0.0.9", " user@example.com "));
+    }
+
+    @Test
+    void successfulSignInsDoNotCountAgainstLimit() {
+        for (int i = 0; i < 10; i++) {
+            throttle.refundSignIn(throttle.checkSignIn("10.0.0.1", "user"));
+        }
+
+        assertDoesNotThrow(() -> throttle.checkSignIn("10.0.0.1", "user"));
+    }
+
+    @Test
+    void rejectedAttemptsDoNotExtendBlock() {
+        AuthThrottle.Attempt last = null;
+        for (int i = 0; i < 3; i++) {
+            last = throttle.checkSignIn("10.0.0.1", "user");
+        }
+        for (int i = 0; i < 5; i++) {
+            assertThrows(TooManyAttemptsException.class, () -> throttle.checkSignIn("10.0.0.1", "user"));
+        }
+
+        // 거절된 시도는 되돌렸으므로 성공 1번을 되돌리면 바로 다시 시도할 수 있다
+        throttle.refundSignIn(last);
+        assertDoesNotThrow(() -> throttle.checkSignIn("10.0.0.1", "user"));
+    }
+
+    @Test
+    void retryAfterIsRemainingTimeNotFullWindow() {
+        throttle.checkVerificationCode("10.0.0.1", "user@example.com");
+        throttle.checkVerificationCode("10.0.0.1", "user@example.com");
+
+        TooManyAttemptsException e = assertThrows(TooManyAttemptsException.class,
+                () -> throttle.checkVerificationCode("10.0.0.1", "user@example.com"));
+
+        assertTrue(e.getRetryAfterSeconds() >= 1);
+        assertTrue(e.getRetryAfterSeconds() <= WINDOW.toSeconds() * 3 / 2);
+    }
+}
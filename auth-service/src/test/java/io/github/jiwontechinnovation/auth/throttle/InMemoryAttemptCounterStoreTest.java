@@ -0,0 +1,48 @@
+package io.github.jiwontechinnovation.auth.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class InMemoryAttemptCounterStoreTest {
+    private final InMemoryAttemptCounterStore store = new InMemoryAttemptCounterStore();
+    private final Duration window = Duration.ofHours(1);
+
+    @Test
+    void incrementCountsPerKey() {
+        store.increment("a", window);
+        store.increment("a", window);
+        SlidingWindowCounts counts = store.increment("a", window);
+
+        assertEquals(3, counts.current());
+        assertEquals(1, store.increment("b", window).current());
+    }
+
+    @Test
+    void decrementRefundsAttemptButNeverGoesNegative() {
+        long windowStart = store.increment("a", window).windowStartMillis();
+        store.decrement("a", window, windowStart);
+        store.decrement("a", window, windowStart);
+        store.decrement("missing", window, windowStart);
+
+        assertEquals(1, store.increment("a", window).current());
+    }
+
+    @Test
+    void refundAfterWindowBoundaryHitsWindowOfIncrement() throws InterruptedException {
+        Duration shortWindow = Duration.ofMillis(300);
+        long firstStart = store.increment("a", shortWindow).windowStartMillis();
+        store.increment("a", shortWindow);
+        // 다음 윈도우가 시작된 직후로 이동
+        Thread.sleep(Math.max(0L, firstStart + shortWindow.toMillis() - System.currentTimeMillis()) + 20);
+
+        store.decrement("a", shortWindow, firstStart);
+        SlidingWindowCounts counts = store.increment("a", shortWindow);
+
+        assertEquals(firstStart + shortWindow.toMillis(), counts.windowStartMillis());
+        assertEquals(1, counts.previous());
+        assertEquals(1, counts.current());
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.jiwontechinnovation.auth.throttle;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SlidingWindowCountsTest {
+    private static final long WINDOW = 1000L;
+
+    @Test
+    void estimateWeightsPreviousWindowByRemainingRatio() {
+        SlidingWindowCounts counts = new SlidingWindowCounts(2, 10, 0L, WINDOW);
+
+        assertEquals(12, counts.estimate(0L));
+        assertEquals(7, counts.estimate(500L));
+        assertEquals(2, counts.estimate(1000L));
+    }
+
+    @Test
+    void retryAfterIsZeroWhenAnotherAttemptFits() {
+        SlidingWindowCounts counts = new SlidingWindowCounts(3, 0, 0L, WINDOW);
+
+        assertEquals(0L, counts.retryAfterMillis(100L, 5));
+    }
+
+    @Test
+    void retryAfterWaitsForPreviousWindowShareToDecay() {
+        // limit 5 -> 추정치가 4 이하가 되어야 한다. 2 + ceil(10 * w) <= 4 -> w <= 0.2 -> 800ms 시점
+        SlidingWindowCounts counts = new SlidingWindowCounts(2, 10, 0L, WINDOW);
+
+        long retryAfter = counts.retryAfterMillis(100L, 5);
+
+        assertEquals(700L, retryAfter);
+        assertTrue(counts.estimate(100L + retryAfter) <= 4);
+        assertTrue(counts.estimate(100L + retryAfter - 10) > 4);
+    }
+
+    @Test
+    void retryAfterRollsIntoNextWindowWhenCurrentWindowIsFull() {
+        // 현재 윈도우에 10번 -> 다음 윈도우에서 ceil(10 * w) <= 4 -> w <= 0.4 -> 다음 윈도우 600ms 시점
+        SlidingWindowCounts counts = new SlidingWindowCounts(10, 0, 0L, WINDOW);
+
+        long retryAfter = counts.retryAfterMillis(200L, 5);
+
+        assertEquals(1400L, retryAfter);
+        assertTrue(retryAfter < 2 * WINDOW);
+        SlidingWindowCounts next = new SlidingWindowCounts(0, 10, WINDOW, WINDOW);
+        assertTrue(next.estimate(200L + retryAfter) <= 4);
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.jiwontechinnovation.auth.verification;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryVerificationCodeStoreTest {
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    private final InMemoryVerificationCodeStore store = new InMemoryVerificationCodeStore(new SimpleMeterRegistry());
+
+    @Test
+    void codeCanBeVerifiedOnlyOnce() {
+        store.issue("user@example.com", "123456", TTL);
+
+        assertFalse(store.markVerified("user@example.com", "000000", TTL));
+        assertTrue(store.markVerified("user@example.com", "123456", TTL));
+        assertFalse(store.markVerified("user@example.com", "123456", TTL));
+        assertTrue(store.isVerifiedWithCode("user@example.com", "123456"));
+    }
+
+    @Test
+    void reissuingCodeKeepsVerifiedState() {
+        store.issue("user@example.com", "123456", TTL);
+        store.markVerified("user@example.com", "123456", TTL);
+
+        store.issue("user@example.com", "654321", TTL);
+
+        assertTrue(store.isVerified("user@example.com"));
+        assertTrue(store.isVerifiedWithCode("user@example.com", "123456"));
+        assertTrue(store.markVerified("user@example.com", "654321", TTL));
+        assertTrue(store.isVerifiedWithCode("user@example.com", "654321"));
+    }
+
+    @Test
+    void invalidateClearsPendingAndVerified() {
+        store.issue("user@example.com", "123456", TTL);
+        store.markVerified("user@example.com", "123456", TTL);
+        store.issue("user@example.com", "654321", TTL);
+
+        store.invalidate("user@example.com");
+
+        assertFalse(store.isVerified("user@example.com"));
+        assertFalse(store.markVerified("user@example.com", "654321", TTL));
+    }
+}
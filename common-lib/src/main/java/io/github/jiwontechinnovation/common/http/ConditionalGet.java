@@ -0,0 +1,89 @@
+package io.github.jiwontechinnovation.common.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Enumeration;
+import java.util.function.Supplier;
+
+// 조건부 GET 처리. 컨트롤러는 전체 응답 대신 싼 버전 값(updatedAt 등)만 먼저 넘기고,
+// If-None-Match가 일치하면 body를 만들지 않고 304를 반환한다.
+public final class ConditionalGet {
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    // version이 null이면 조건부 처리 없이 body를 그대로 반환
+    public static <T> ResponseEntity<T> respond(HttpServletRequest request, Object version, Supplier<T> body) {
+        return respond(request, version, null, body);
+    }
+
+    // 미리 직렬화한 byte[] 등 content type을 직접 지정해야 하는 응답용
+    public static <T> ResponseEntity<T> respond(HttpServletRequest request, Object version, MediaType contentType,
+            Supplier<T> body) {
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok();
+        if (version != null) {
+            String etag = weakETag(version);
+            if (matches(request, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(REVALIDATE)
+                        .varyBy(HttpHeaders.AUTHORIZATION)
+                        .build();
+            }
+            builder.eTag(etag).cacheControl(REVALIDATE).varyBy(HttpHeaders.AUTHORIZATION);
+        }
+        if (contentType != null) {
+            builder.contentType(contentType);
+        }
+        return builder.body(body.get());
+    }
+
+    // 버전 값의 해시로 만든 weak ETag. 레플리카가 달라도 같은 값이 나온다
+    public static String weakETag(Object version) {
+        return "W/\"" + digest(String.valueOf(version).getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    // 버전 값이 따로 없는 응답은 직렬화된 내용 자체를 버전으로 쓴다
+    public static String contentVersion(byte[] body) {
+        return digest(body);
+    }
+
+    private static String digest(byte[] value) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(value);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 16));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+
+    // If-None-Match는 weak 비교 (W/ 접두사 무시)
+    public static boolean matches(HttpServletRequest request, String etag) {
+        String expected = opaqueTag(etag);
+        Enumeration<String> headers = request.getHeaders(HttpHeaders.IF_NONE_MATCH);
+        while (headers != null && headers.hasMoreElements()) {
+            for (String candidate : headers.nextElement().split(",")) {
+                String trimmed = candidate.trim();
+                if (trimmed.equals("*") || opaqueTag(trimmed).equals(expected)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String opaqueTag(String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+}
@@ -0,0 +1,19 @@
+package io.github.jiwontechinnovation.common.http;
+
+import java.time.Duration;
+
+// 대상 서비스별 커넥션 풀 크기와 타임아웃
+public record HttpClientSettings(
+        int maxConnections,
+        int maxConnectionsPerRoute,
+        Duration connectTimeout,
+        Duration responseTimeout,
+        Duration connectionRequestTimeout,
+        Duration idleTimeout,
+        Duration timeToLive) {
+
+    public static HttpClientSettings defaults() {
+        return new HttpClientSettings(50, 20, Duration.ofSeconds(1), Duration.ofSeconds(3), Duration.ofMillis(500),
+                Duration.ofSeconds(30), Duration.ofMinutes(5));
+    }
+}
@@ -0,0 +1,110 @@
+package io.github.jiwontechinnovation.common.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+public class JwtVerifier {
+    private static final Logger logger = LoggerFactory.getLogger(JwtVerifier.class);
+
+    private final JwtParser parser;
+    private final Cache<ByteBuffer, VerifiedClaims> verifiedTokens;
+    private final ThreadLocal<MessageDigest> sha256 = ThreadLocal.withInitial(JwtVerifier::newSha256);
+
+    public JwtVerifier(String secretKeyString, long cacheSize) {
+        // 파서는 한 번만 생성해 재사용 (thread-safe)
+        this.parser = Jwts.parser()
+                .verifyWith(Keys.hmacShaKeyFor(secretKeyString.getBytes(StandardCharsets.UTF_8)))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedClaims>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer digest, VerifiedClaims claims, long currentTime) {
+                        long remainingMs = claims.expiresAt().toEpochMilli() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMs, 0L));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer digest, VerifiedClaims claims, long currentTime,
+                                                  long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer digest, VerifiedClaims claims, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+    }
+
+    public Optional<VerifiedClaims> verifyAccessToken(String token) {
+        return verify(token).filter(VerifiedClaims::isAccessToken);
+    }
+
+    public Optional<VerifiedClaims> verifyRefreshToken(String token) {
+        return verify(token).filter(VerifiedClaims::isRefreshToken);
+    }
+
+    // 서명 검증과 클레임 파싱을 한 번에 수행하고, 결과는 토큰 만료 시각까지 캐시
+    public Optional<VerifiedClaims> verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return Optional.empty();
+        }
+
+        ByteBuffer digest = ByteBuffer.wrap(sha256.get().digest(token.getBytes(StandardCharsets.UTF_8)));
+        VerifiedClaims cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        try {
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            if (claims.getExpiration() == null) {
+                return Optional.empty();
+            }
+            VerifiedClaims verified = new VerifiedClaims(
+                    claims.getSubject(),
+                    String.valueOf(claims.get("type")),
+                    parseUserId(claims.get("uid", String.class)),
+                    claims.getId(),
+                    claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                    claims.getExpiration().toInstant());
+            verifiedTokens.put(digest, verified);
+            return Optional.of(verified);
+        } catch (JwtException | IllegalArgumentException e) {
+            logger.debug("Token validation failed: {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private static UUID parseUserId(String uid) {
+        return uid != null ? UUID.fromString(uid) : null;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다", e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.jiwontechinnovation.common.jwt;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// tokenId(jti)는 리프레시 토큰에만 있으며, 이전에 발급된 토큰은 null
+public record VerifiedClaims(String subject, String type, UUID userId, String tokenId, Instant issuedAt,
+        Instant expiresAt) {
+    public boolean isAccessToken() {
+        return "access".equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(type);
+    }
+}
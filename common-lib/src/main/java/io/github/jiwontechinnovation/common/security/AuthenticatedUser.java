@@ -0,0 +1,17 @@
+package io.github.jiwontechinnovation.common.security;
+
+import java.security.Principal;
+import java.util.UUID;
+
+// SecurityContext principal. userId는 uid 클레임이 없는 이전 토큰이면 null
+public record AuthenticatedUser(String username, UUID userId) implements Principal {
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    @Override
+    public String toString() {
+        return username;
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.jiwontechinnovation.common.security;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+// 게이트웨이가 붙이는 X-User-* 헤더의 서명 형식. 서명(게이트웨이)과 검증(각 서비스)이 모두 이 클래스를 쓴다.
+// 서블릿/리액티브 어느 쪽에도 의존하지 않도록 헤더는 이름 -> 값 형태로만 다룬다
+public class IdentityHeaderCodec {
+    public static final String USER_NAME = "X-User-Name";
+    public static final String USER_ID = "X-User-Id";
+    public static final String EXPIRES = "X-User-Expires";
+    public static final String SIGNATURE = "X-User-Signature";
+    public static final List<String> HEADER_NAMES = List.of(USER_NAME, USER_ID, EXPIRES, SIGNATURE);
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+
+    // JWT 서명 키와는 다른 키를 써야 한다 (한쪽이 유출돼도 다른 쪽은 위조할 수 없게)
+    public IdentityHeaderCodec(String secretKeyString) {
+        if (secretKeyString == null || secretKeyString.isBlank()) {
+            throw new IllegalArgumentException("Identity header secret must not be empty");
+        }
+        this.key = new SecretKeySpec(secretKeyString.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+    }
+
+    public record TrustedIdentity(String username, UUID userId) {
+    }
+
+    public Map<String, String> encode(String username, UUID userId, long expiresAtEpochSecond) {
+        String id = userId != null ? userId.toString() : "";
+        Map<String, String> headers = new LinkedHashMap<>();
+        headers.put(USER_NAME, URLEncoder.encode(username, StandardCharsets.UTF_8));
+        if (!id.isEmpty()) {
+            headers.put(USER_ID, id);
+        }
+        headers.put(EXPIRES, Long.toString(expiresAtEpochSecond));
+        headers.put(SIGNATURE, Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sign(username, id, expiresAtEpochSecond)));
+        return headers;
+    }
+
+    // 서명이 맞고 만료되지 않은 경우에만 신원을 돌려준다
+    public Optional<TrustedIdentity> decode(Function<String, String> header) {
+        String encodedUsername = header.apply(USER_NAME);
+        String expires = header.apply(EXPIRES);
+        String signature = header.apply(SIGNATURE);
+        if (encodedUsername == null || expires == null || signature == null) {
+            return Optional.empty();
+        }
+
+        try {
+            long expiresAt = Long.parseLong(expires);
+            if (expiresAt * 1000L <= System.currentTimeMillis()) {
+                return Optional.empty();
+            }
+
+            String username = URLDecoder.decode(encodedUsername, StandardCharsets.UTF_8);
+            String userId = header.apply(USER_ID) != null ? header.apply(USER_ID) : "";
+            byte[] expected = sign(username, userId, expiresAt);
+            byte[] actual = Base64.getUrlDecoder().decode(signature);
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return Optional.empty();
+            }
+
+            return Optional.of(new TrustedIdentity(username, userId.isEmpty() ? null : UUID.fromString(userId)));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+    }
+
+    // 서명 대상 = username \n userId \n 만료(epoch seconds)
+    private byte[] sign(String username, String userId, long expiresAt) {
+        String payload = username + "\n" + userId + "\n" + expiresAt;
+        return mac.get().doFinal(payload.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC 초기화 실패", e);
+        }
+    }
+}
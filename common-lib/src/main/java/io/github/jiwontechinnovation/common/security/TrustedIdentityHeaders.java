@@ -0,0 +1,18 @@
+package io.github.jiwontechinnovation.common.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.Optional;
+
+public class TrustedIdentityHeaders {
+    private final IdentityHeaderCodec codec;
+
+    public TrustedIdentityHeaders(String secretKeyString) {
+        this.codec = new IdentityHeaderCodec(secretKeyString);
+    }
+
+    // 게이트웨이가 서명한 신원 헤더를 검증 (JWT 파싱 없이 HMAC 한 번으로 처리)
+    public Optional<IdentityHeaderCodec.TrustedIdentity> resolve(HttpServletRequest request) {
+        return codec.decode(request::getHeader);
+    }
+}
@@ -0,0 +1,179 @@
+package io.github.jiwontechinnovation.common.util;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+// KLL 분위수 스케치. 메모리는 O(k)로 고정이고, 다른 스케치와 병합해도 오차 범위가 유지된다.
+// 레벨 h의 항목은 원본 값 2^h개를 대표한다. 스레드 안전하지 않으므로 호출 측에서 동기화해야 한다.
+public class KllSketch {
+    private static final double DECAY = 2.0 / 3.0;
+    private static final int MIN_LEVEL_CAPACITY = 8;
+
+    private final int k;
+    private final List<Level> levels = new ArrayList<>();
+    private long count;
+
+    public KllSketch(int k) {
+        if (k < MIN_LEVEL_CAPACITY) {
+            throw new IllegalArgumentException("k must be at least " + MIN_LEVEL_CAPACITY);
+        }
+        this.k = k;
+        levels.add(new Level(k));
+    }
+
+    public void update(double value) {
+        levels.get(0).add(value);
+        count++;
+        compressIfNeeded();
+    }
+
+    public void merge(KllSketch other) {
+        for (int h = 0; h < other.levels.size(); h++) {
+            if (h == levels.size()) {
+                levels.add(new Level(MIN_LEVEL_CAPACITY));
+            }
+            Level source = other.levels.get(h);
+            Level target = levels.get(h);
+            for (int i = 0; i < source.size; i++) {
+                target.add(source.items[i]);
+            }
+        }
+        count += other.count;
+        compressIfNeeded();
+    }
+
+    // value 이하인 값의 비율 (0~1). 비어 있으면 NaN
+    public double cdf(double value) {
+        long atMost = 0L;
+        long total = 0L;
+        for (int h = 0; h < levels.size(); h++) {
+            Level level = levels.get(h);
+            long weight = 1L << h;
+            for (int i = 0; i < level.size; i++) {
+                if (level.items[i] <= value) {
+                    atMost += weight;
+                }
+            }
+            total += weight * level.size;
+        }
+        return total == 0L ? Double.NaN : (double) atMost / total;
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public boolean isEmpty() {
+        return count == 0L;
+    }
+
+    public byte[] toBytes() {
+        int items = 0;
+        for (Level level : levels) {
+            items += level.size;
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(4 + 8 + 4 + levels.size() * 4 + items * 8);
+        buffer.putInt(k).putLong(count).putInt(levels.size());
+        for (Level level : levels) {
+            buffer.putInt(level.size);
+            for (int i = 0; i < level.size; i++) {
+                buffer.putDouble(level.items[i]);
+            }
+        }
+        return buffer.array();
+    }
+
+    public static KllSketch fromBytes(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        KllSketch sketch = new KllSketch(buffer.getInt());
+        sketch.count = buffer.getLong();
+        int levelCount = buffer.getInt();
+        sketch.levels.clear();
+        for (int h = 0; h < levelCount; h++) {
+            int size = buffer.getInt();
+            Level level = new Level(Math.max(size, MIN_LEVEL_CAPACITY));
+            for (int i = 0; i < size; i++) {
+                level.add(buffer.getDouble());
+            }
+            sketch.levels.add(level);
+        }
+        return sketch;
+    }
+
+    private void compressIfNeeded() {
+        while (retainedItems() >= totalCapacity()) {
+            compactLowestFullLevel();
+        }
+    }
+
+    // 가득 찬 가장 낮은 레벨을 정렬한 뒤 짝수 또는 홀수 위치의 항목만 한 레벨 위로 올린다
+    private void compactLowestFullLevel() {
+        int height = levels.size();
+        for (int h = 0; h < height; h++) {
+            Level level = levels.get(h);
+            if (level.size < capacity(h, height)) {
+                continue;
+            }
+            if (h + 1 == levels.size()) {
+                levels.add(new Level(MIN_LEVEL_CAPACITY));
+            }
+            Level next = levels.get(h + 1);
+            Arrays.sort(level.items, 0, level.size);
+            // 항목 수가 홀수면 마지막 하나는 현재 레벨에 남긴다
+            int pairs = level.size / 2;
+            int offset = ThreadLocalRandom.current().nextBoolean() ? 1 : 0;
+            for (int i = 0; i < pairs; i++) {
+                next.add(level.items[2 * i + offset]);
+            }
+            double leftover = level.items[level.size - 1];
+            boolean odd = (level.size & 1) == 1;
+            level.size = 0;
+            if (odd) {
+                level.add(leftover);
+            }
+            return;
+        }
+    }
+
+    private int retainedItems() {
+        int items = 0;
+        for (Level level : levels) {
+            items += level.size;
+        }
+        return items;
+    }
+
+    private int totalCapacity() {
+        int height = levels.size();
+        int total = 0;
+        for (int h = 0; h < height; h++) {
+            total += capacity(h, height);
+        }
+        return total;
+    }
+
+    // 위 레벨일수록 큰 용량. 최상위 레벨이 k, 아래로 갈수록 2/3씩 줄어든다
+    private int capacity(int level, int height) {
+        int depth = height - 1 - level;
+        return Math.max(MIN_LEVEL_CAPACITY, (int) Math.ceil(k * Math.pow(DECAY, depth)));
+    }
+
+    private static final class Level {
+        private double[] items;
+        private int size;
+
+        private Level(int initialCapacity) {
+            this.items = new double[initialCapacity];
+        }
+
+        private void add(double value) {
+            if (size == items.length) {
+                items = Arrays.copyOf(items, size * 2);
+            }
+            items[size++] = value;
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package io.github.jiwontechinnovation.common.security;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdentityHeaderCodecTest {
+    private final IdentityHeaderCodec codec = new IdentityHeaderCodec("identity-header-secret");
+    private final long expiresAt = Instant.now().plusSeconds(60).getEpochSecond();
+
+    @Test
+    void roundTripsUsernameAndUserId() {
+        UUID userId = UUID.randomUUID();
+        Map<String, String> headers = codec.encode("홍길동 user", userId, expiresAt);
+
+        Optional<IdentityHeaderCodec.TrustedIdentity> identity = codec.decode(headers::get);
+
+        assertEquals(new IdentityHeaderCodec.TrustedIdentity("홍길동 user", userId), identity.orElseThrow());
+    }
+
+    @Test
+    void omitsUserIdHeaderWhenUnknown() {
+        Map<String, String> headers = codec.encode("alice", null, expiresAt);
+
+        assertTrue(!headers.containsKey(IdentityHeaderCodec.USER_ID));
+        assertNull(codec.decode(headers::get).orElseThrow().userId());
+    }
+
+    @Test
+    void rejectsTamperedHeaders() {
+        Map<String, String> headers = new HashMap<>(codec.encode("alice", UUID.randomUUID(), expiresAt));
+        headers.put(IdentityHeaderCodec.USER_NAME, "mallory");
+
+        assertTrue(codec.decode(headers::get).isEmpty());
+    }
+
+    @Test
+    void rejectsHeadersSignedWithAnotherKey() {
+        Map<String, String> headers = new IdentityHeaderCodec("jwt-secret").encode("alice", null, expiresAt);
+
+        assertTrue(codec.decode(headers::get).isEmpty());
+    }
+
+    @Test
+    void rejectsExpiredHeaders() {
+        Map<String, String> headers = codec.encode("alice", null, Instant.now().minusSeconds(1).getEpochSecond());
+
+        assertTrue(codec.decode(headers::get).isEmpty());
+    }
+}
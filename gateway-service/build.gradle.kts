@@ -4,6 +4,10 @@ plugins {
 }
 
 dependencies {
+    // 서블릿 스택이 게이트웨이(webflux)에 들어오지 않도록 web 스타터는 제외
+    implementation(project(":common-lib")) {
+        exclude(group = "org.springframework.boot", module = "spring-boot-starter-web")
+    }
     implementation("org.springframework.cloud:spring-cloud-starter-gateway-server-webflux")
     implementation("org.springframework.boot:spring-boot-starter-actuator")
 
@@ -13,6 +17,9 @@ dependencies {
     implementation("org.springframework.cloud:spring-cloud-starter-netflix-eureka-client")
     implementation("org.springframework.cloud:spring-cloud-starter-loadbalancer")
     implementation("org.springdoc:springdoc-openapi-starter-webflux-ui:3.0.0")
+    implementation("com.github.ben-manes.caffeine:caffeine")
+    // gateway.rate-limit.store=redis 일 때만 사용
+    implementation("org.springframework.boot:spring-boot-starter-data-redis-reactive")
 
     // MacOS DNS resolver 네이티브 라이브러리 (로컬 개발 환경 전용)
     if (System.getProperty("os.name").lowercase().contains("mac")) {
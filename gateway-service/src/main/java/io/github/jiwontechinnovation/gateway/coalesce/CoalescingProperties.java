@@ -0,0 +1,22 @@
+package io.github.jiwontechinnovation.gateway.coalesce;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+// routes: 묶기를 켤 라우트 ID -> 키에 포함할 요청 헤더 목록. "principal"은 인증된 사용자를 뜻한다
+@ConfigurationProperties(prefix = "gateway.coalescing")
+public record CoalescingProperties(@DefaultValue("true") boolean enabled,
+        @DefaultValue("1048576") int maxBodyBytes,
+        @DefaultValue("10s") Duration followerTimeout,
+        Map<String, List<String>> routes) {
+
+    public static final String PRINCIPAL = "principal";
+
+    public CoalescingProperties {
+        routes = routes != null ? Map.copyOf(routes) : Map.of();
+    }
+}
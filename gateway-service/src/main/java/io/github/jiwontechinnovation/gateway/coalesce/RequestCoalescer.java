@@ -0,0 +1,223 @@
+package io.github.jiwontechinnovation.gateway.coalesce;
+
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.github.jiwontechinnovation.gateway.config.AuthenticationConfig;
+import io.github.jiwontechinnovation.gateway.resilience.RouteResilience;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpResponseDecorator;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 같은 GET 요청이 동시에 여러 개 들어오면 업스트림에는 하나(leader)만 보내고,
+// 나머지(follower)는 그 응답을 받아 그대로 재생한다. 요청이 끝나면 키를 지우므로 캐시가 아니다.
+@Component
+public class RequestCoalescer {
+    // 재시도/헤징까지 끝난 최종 응답을 공유하도록 RouteResilience 바깥에서 응답을 감싼다
+    public static final int ORDER = RouteResilience.ORDER - 1;
+    private static final List<String> UNSHARED_HEADERS = List.of(HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONNECTION, HttpHeaders.SET_COOKIE);
+
+    private final CoalescingProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Sinks.One<SharedResponse>> inFlight = new ConcurrentHashMap<>();
+
+    public RequestCoalescer(CoalescingProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("gateway.coalesce.inflight", inFlight, Map::size).register(meterRegistry);
+    }
+
+    private record SharedResponse(HttpStatusCode status, HttpHeaders headers, byte[] body) {
+    }
+
+    public GatewayFilter forRoute(String routeId) {
+        List<String> keyHeaders = properties.routes().get(routeId);
+        if (!properties.enabled() || keyHeaders == null) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+        // leader/follower 비율이 곧 묶기 효과. fallback은 leader 응답을 공유하지 못해 직접 보낸 경우
+        Counter leaders = counter(routeId, "leader");
+        Counter followers = counter(routeId, "follower");
+        Counter fallbacks = counter(routeId, "fallback");
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            ServerHttpRequest request = exchange.getRequest();
+            if (request.getMethod() != HttpMethod.GET || isEventStream(request)) {
+                return chain.filter(exchange);
+            }
+
+            String key = routeId + "\n" + key(exchange, keyHeaders);
+            Sinks.One<SharedResponse> sink = Sinks.one();
+            Sinks.One<SharedResponse> existing = inFlight.putIfAbsent(key, sink);
+            if (existing == null) {
+                leaders.increment();
+                return chain.filter(exchange.mutate().response(new CapturingResponse(exchange.getResponse(), sink)).build())
+                        .doFinally(signal -> {
+                            inFlight.remove(key, sink);
+                            // 본문 없이 끝났거나 실패한 경우 follower는 직접 요청한다
+                            sink.tryEmitEmpty();
+                        });
+            }
+
+            // replay 결과(Mono<Void>)는 항상 비어 있으므로 값으로 바꿔야 switchIfEmpty가 공유 실패만 가린다
+            return existing.asMono()
+                    .timeout(properties.followerTimeout(), Mono.empty())
+                    .flatMap(shared -> {
+                        followers.increment();
+                        return replay(exchange.getResponse(), shared).thenReturn(Boolean.TRUE);
+                    })
+                    .switchIfEmpty(Mono.defer(() -> {
+                        fallbacks.increment();
+                        return chain.filter(exchange).thenReturn(Boolean.TRUE);
+                    }))
+                    .then();
+        }, ORDER);
+    }
+
+    private Counter counter(String routeId, String role) {
+        return Counter.builder("gateway.coalesce.requests")
+                .tag("route", routeId)
+                .tag("role", role)
+                .register(meterRegistry);
+    }
+
+    private static boolean isEventStream(ServerHttpRequest request) {
+        return request.getHeaders().getAccept().stream()
+                .anyMatch(MediaType.TEXT_EVENT_STREAM::isCompatibleWith);
+    }
+
+    private static String key(ServerWebExchange exchange, List<String> keyHeaders) {
+        ServerHttpRequest request = exchange.getRequest();
+        StringBuilder key = new StringBuilder(128)
+                .append(request.getMethod().name()).append(' ')
+                .append(request.getURI().getRawPath()).append('?')
+                .append(request.getURI().getRawQuery());
+        for (String header : keyHeaders) {
+            key.append('\n').append(header).append('=');
+            if (CoalescingProperties.PRINCIPAL.equals(header)) {
+                VerifiedClaims verified = exchange.getAttribute(AuthenticationConfig.VERIFIED_TOKEN_ATTR);
+                key.append(verified != null ? verified.subject() + "/" + verified.userId() : "");
+            } else {
+                key.append(request.getHeaders().getOrEmpty(header));
+            }
+        }
+        return key.toString();
+    }
+
+    private static Mono<Void> replay(ServerHttpResponse response, SharedResponse shared) {
+        response.setStatusCode(shared.status());
+        HttpHeaders headers = response.getHeaders();
+        // CORS, rate limit처럼 이 요청에서 이미 정한 헤더는 유지
+        shared.headers().forEach((name, values) -> {
+            if (!headers.containsHeader(name)) {
+                headers.put(name, values);
+            }
+        });
+        headers.setContentLength(shared.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(shared.body())));
+    }
+
+    // leader 응답을 그대로 내보내면서 본문을 모아 follower에게 넘긴다
+    private final class CapturingResponse extends ServerHttpResponseDecorator {
+        private final Sinks.One<SharedResponse> sink;
+
+        private CapturingResponse(ServerHttpResponse delegate, Sinks.One<SharedResponse> sink) {
+            super(delegate);
+            this.sink = sink;
+        }
+
+        // 본문을 모아 두었다가 내보내지 않고 흘려보내면서 복사한다. 복사본은 maxBodyBytes까지만 두고,
+        // 넘으면 버린 뒤 follower가 직접 요청하게 한다 (Content-Length가 없는 chunked 응답도 메모리 상한 유지)
+        @Override
+        public Mono<Void> writeWith(Publisher<? extends DataBuffer> body) {
+            long contentLength = getHeaders().getContentLength();
+            if (contentLength > properties.maxBodyBytes()) {
+                sink.tryEmitEmpty();
+                return super.writeWith(body);
+            }
+            BoundedCapture capture = new BoundedCapture(properties.maxBodyBytes());
+            return super.writeWith(Flux.from(body)
+                    .doOnNext(capture::append)
+                    .doOnComplete(() -> {
+                        byte[] bytes = capture.toByteArray();
+                        if (bytes != null) {
+                            share(bytes);
+                        } else {
+                            sink.tryEmitEmpty();
+                        }
+                    }));
+        }
+
+        @Override
+        public Mono<Void> writeAndFlushWith(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            // 스트리밍 응답은 공유하지 않는다
+            sink.tryEmitEmpty();
+            return super.writeAndFlushWith(body);
+        }
+
+        private void share(byte[] bytes) {
+            HttpStatusCode status = getStatusCode();
+            // 5xx는 재생하지 않고 follower가 직접 다시 시도하게 한다
+            if (status == null || status.is5xxServerError()) {
+                sink.tryEmitEmpty();
+                return;
+            }
+            HttpHeaders headers = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                if (UNSHARED_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    headers.put(name, List.copyOf(values));
+                }
+            });
+            sink.tryEmitValue(new SharedResponse(status, headers, bytes));
+        }
+    }
+
+    // 상한을 넘으면 지금까지 모은 것도 버린다. DataBuffer의 읽기 위치는 건드리지 않는다
+    private static final class BoundedCapture {
+        private final int limit;
+        private ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        private BoundedCapture(int limit) {
+            this.limit = limit;
+        }
+
+        private void append(DataBuffer buffer) {
+            if (bytes == null) {
+                return;
+            }
+            int length = buffer.readableByteCount();
+            if (bytes.size() + (long) length > limit) {
+                bytes = null;
+                return;
+            }
+            byte[] chunk = new byte[length];
+            buffer.toByteBuffer(buffer.readPosition(), ByteBuffer.wrap(chunk), 0, length);
+            bytes.writeBytes(chunk);
+        }
+
+        private byte[] toByteArray() {
+            return bytes != null ? bytes.toByteArray() : null;
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package io.github.jiwontechinnovation.gateway.config;
+
+import io.github.jiwontechinnovation.common.jwt.JwtVerifier;
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.github.jiwontechinnovation.gateway.jwt.IdentityHeaderSigner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+
+import java.util.Optional;
+
+@Configuration
+public class AuthenticationConfig {
+    public static final String VERIFIED_TOKEN_ATTR = AuthenticationConfig.class.getName() + ".verifiedToken";
+
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE + 1)
+    public WebFilter identityHeaderFilter(JwtVerifier jwtVerifier, IdentityHeaderSigner identityHeaderSigner) {
+        return (ServerWebExchange exchange, WebFilterChain chain) -> {
+            String token = extractToken(exchange.getRequest());
+            Optional<VerifiedClaims> verified = token != null
+                    ? jwtVerifier.verifyAccessToken(token)
+                    : Optional.empty();
+
+            // 클라이언트가 보낸 신원 헤더는 항상 제거하고, 검증된 경우에만 서명된 헤더를 주입
+            ServerHttpRequest request = exchange.getRequest().mutate()
+                    .headers(headers -> {
+                        IdentityHeaderSigner.HEADER_NAMES.forEach(headers::remove);
+                        verified.ifPresent(v -> identityHeaderSigner.apply(headers, v));
+                    })
+                    .build();
+            verified.ifPresent(v -> exchange.getAttributes().put(VERIFIED_TOKEN_ATTR, v));
+
+            return chain.filter(exchange.mutate().request(request).build());
+        };
+    }
+
+    private String extractToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        return (bearerToken != null && bearerToken.startsWith("Bearer ")) ? bearerToken.substring(7) : null;
+    }
+}
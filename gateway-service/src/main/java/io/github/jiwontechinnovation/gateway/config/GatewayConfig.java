@@ -1,7 +1,11 @@
 package io.github.jiwontechinnovation.gateway.config;
 
+import io.github.jiwontechinnovation.gateway.coalesce.RequestCoalescer;
+import io.github.jiwontechinnovation.gateway.ratelimit.GatewayRateLimiter;
+import io.github.jiwontechinnovation.gateway.resilience.RouteResilience;
 import org.springframework.cloud.gateway.route.RouteLocator;
 import org.springframework.cloud.gateway.route.builder.RouteLocatorBuilder;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
@@ -9,41 +13,78 @@ import org.springframework.context.annotation.Configuration;
 public class GatewayConfig {
 
     @Bean
-    public RouteLocator customRouteLocator(RouteLocatorBuilder builder) {
+    public RouteLocator customRouteLocator(RouteLocatorBuilder builder, GatewayRateLimiter rateLimiter,
+            RequestCoalescer coalescer, RouteResilience resilience) {
         return builder.routes()
                 // Auth Service
                 .route("auth-service", r -> r
                         .path("/api/v1/auth/**")
+                        .filters(f -> f.filter(rateLimiter.forRoute("auth-service"))
+                                .filter(coalescer.forRoute("auth-service"))
+                                .filter(resilience.forRoute("auth-service")))
+                        .metadata(resilience.metadataFor("auth-service"))
                         .uri("lb://auth-service"))
                 .route("auth-service-swagger", r -> r
                         .path("/auth-service/v3/api-docs/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1)
+                                .filter(coalescer.forRoute("auth-service-swagger"))
+                                .filter(resilience.forRoute("auth-service-swagger")))
+                        .metadata(resilience.metadataFor("auth-service-swagger"))
                         .uri("lb://auth-service"))
                 // User Service
                 .route("user-service", r -> r
                         .path("/api/v1/users/**")
+                        .filters(f -> f.filter(rateLimiter.forRoute("user-service"))
+                                .filter(coalescer.forRoute("user-service"))
+                                .filter(resilience.forRoute("user-service")))
+                        .metadata(resilience.metadataFor("user-service"))
                         .uri("lb://user-service"))
                 .route("user-service-swagger", r -> r
                         .path("/user-service/v3/api-docs/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1)
+                                .filter(coalescer.forRoute("user-service-swagger"))
+                                .filter(resilience.forRoute("user-service-swagger")))
+                        .metadata(resilience.metadataFor("user-service-swagger"))
                         .uri("lb://user-service"))
                 // Goal Service
                 .route("goal-service", r -> r
                         .path("/api/goal/**")
-                        .filters(f -> f.stripPrefix(2))
+                        .filters(f -> f.stripPrefix(2)
+                                .filter(rateLimiter.forRoute("goal-service"))
+                                .filter(coalescer.forRoute("goal-service"))
+                                .filter(resilience.forRoute("goal-service")))
+                        .metadata(resilience.metadataFor("goal-service"))
                         .uri("lb://goal-service"))
                 .route("goal-service-swagger", r -> r
                         .path("/goal-service/v3/api-docs/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1)
+                                .filter(coalescer.forRoute("goal-service-swagger"))
+                                .filter(resilience.forRoute("goal-service-swagger")))
+                        .metadata(resilience.metadataFor("goal-service-swagger"))
                         .uri("lb://goal-service"))
                 // Analysis Service
+                // SSE는 응답 타임아웃 없이 이벤트 단위로 그대로 흘려보낸다 (text/event-stream은 버퍼링하지 않음)
+                .route("analysis-service-stream", r -> r
+                        .path("/api/analysis/stats/stream")
+                        .filters(f -> f.stripPrefix(2)
+                                .setResponseHeader("X-Accel-Buffering", "no")
+                                .filter(rateLimiter.forRoute("analysis-service-stream")))
+                        .metadata(RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, -1)
+                        .uri("lb://analysis-service"))
                 .route("analysis-service", r -> r
                         .path("/api/analysis/**")
-                        .filters(f -> f.stripPrefix(2))
+                        .filters(f -> f.stripPrefix(2)
+                                .filter(rateLimiter.forRoute("analysis-service"))
+                                .filter(coalescer.forRoute("analysis-service"))
+                                .filter(resilience.forRoute("analysis-service")))
+                        .metadata(resilience.metadataFor("analysis-service"))
                         .uri("lb://analysis-service"))
                 .route("analysis-service-swagger", r -> r
                         .path("/analysis-service/v3/api-docs/**")
-                        .filters(f -> f.stripPrefix(1))
+                        .filters(f -> f.stripPrefix(1)
+                                .filter(coalescer.forRoute("analysis-service-swagger"))
+                                .filter(resilience.forRoute("analysis-service-swagger")))
+                        .metadata(resilience.metadataFor("analysis-service-swagger"))
                         .uri("lb://analysis-service"))
                 .build();
     }
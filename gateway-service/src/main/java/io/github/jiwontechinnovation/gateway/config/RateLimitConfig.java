@@ -0,0 +1,10 @@
+package io.github.jiwontechinnovation.gateway.config;
+
+import io.github.jiwontechinnovation.gateway.ratelimit.RateLimitProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class RateLimitConfig {
+}
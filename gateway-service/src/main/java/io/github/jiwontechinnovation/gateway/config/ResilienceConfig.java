@@ -0,0 +1,10 @@
+package io.github.jiwontechinnovation.gateway.config;
+
+import io.github.jiwontechinnovation.gateway.resilience.ResilienceProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(ResilienceProperties.class)
+public class ResilienceConfig {
+}
@@ -0,0 +1,29 @@
+package io.github.jiwontechinnovation.gateway.jwt;
+
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.github.jiwontechinnovation.common.security.IdentityHeaderCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 서명 형식은 common-lib의 IdentityHeaderCodec에만 있다 (검증하는 서비스와 같은 구현)
+@Component
+public class IdentityHeaderSigner {
+    public static final List<String> HEADER_NAMES = IdentityHeaderCodec.HEADER_NAMES;
+
+    private final IdentityHeaderCodec codec;
+
+    public IdentityHeaderSigner(@Value("${jwt.trusted-header.secret}") String trustedHeaderSecret,
+            @Value("${jwt.secret}") String jwtSecret) {
+        if (trustedHeaderSecret.equals(jwtSecret)) {
+            throw new IllegalStateException("jwt.trusted-header.secret은 jwt.secret과 달라야 합니다");
+        }
+        this.codec = new IdentityHeaderCodec(trustedHeaderSecret);
+    }
+
+    public void apply(HttpHeaders headers, VerifiedClaims verified) {
+        codec.encode(verified.subject(), verified.userId(), verified.expiresAt().getEpochSecond()).forEach(headers::set);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.jiwontechinnovation.gateway.ratelimit;
+
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.github.jiwontechinnovation.gateway.coalesce.RequestCoalescer;
+import io.github.jiwontechinnovation.gateway.config.AuthenticationConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.support.ipresolver.RemoteAddressResolver;
+import org.springframework.cloud.gateway.support.ipresolver.XForwardedRemoteAddressResolver;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+// 라우트 + 호출 주체(인증 사용자, 없으면 클라이언트 IP)별 토큰 버킷 필터를 만든다.
+// 게이트웨이는 ALB 뒤에 있으므로 클라이언트 IP는 X-Forwarded-For에서 신뢰하는 프록시 수만큼
+// 오른쪽에서 센 항목을 쓴다. 클라이언트가 직접 넣은 앞쪽 항목은 무시되어 위조할 수 없다.
+@Component
+public class GatewayRateLimiter {
+    private static final Logger logger = LoggerFactory.getLogger(GatewayRateLimiter.class);
+    private static final String REMAINING_HEADER = "X-RateLimit-Remaining";
+    // 요청 묶기(RequestCoalescer)보다 먼저 실행해서 follower 요청도 한도에 포함
+    public static final int ORDER = RequestCoalescer.ORDER - 1;
+
+    private final TokenBucketStore tokenBucketStore;
+    private final RateLimitProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final RemoteAddressResolver clientAddressResolver;
+
+    public GatewayRateLimiter(TokenBucketStore tokenBucketStore, RateLimitProperties properties,
+            MeterRegistry meterRegistry) {
+        this.tokenBucketStore = tokenBucketStore;
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.clientAddressResolver = properties.trustedProxyHops() > 0
+                ? XForwardedRemoteAddressResolver.maxTrustedIndex(properties.trustedProxyHops())
+                : new RemoteAddressResolver() {
+                };
+    }
+
+    public GatewayFilter forRoute(String routeId) {
+        if (!properties.enabled()) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+        RateLimitProperties.Limit limit = properties.limitFor(routeId);
+        Counter rejected = Counter.builder("gateway.ratelimit.rejected").tag("route", routeId).register(meterRegistry);
+        Counter storeErrors = Counter.builder("gateway.ratelimit.store.errors").tag("route", routeId)
+                .register(meterRegistry);
+
+        return new OrderedGatewayFilter((exchange, chain) -> tokenBucketStore.tryConsume(routeId + ":" + principalKey(exchange), limit)
+                .onErrorResume(e -> {
+                    // 저장소 장애로 전체 트래픽을 막지 않도록 통과시킨다
+                    storeErrors.increment();
+                    logger.warn("Rate limit 저장소 오류 - route: {}: {}", routeId, e.getMessage());
+                    return Mono.just(new RateLimitDecision(true, -1L, 0L));
+                })
+                .flatMap(decision -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    if (decision.remaining() >= 0) {
+                        response.getHeaders().set(REMAINING_HEADER, Long.toString(decision.remaining()));
+                    }
+                    if (decision.allowed()) {
+                        return chain.filter(exchange);
+                    }
+                    rejected.increment();
+                    response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+                    response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                            Long.toString(Math.max(1L, (decision.retryAfterMillis() + 999) / 1000)));
+                    return response.setComplete();
+                }), ORDER);
+    }
+
+    String principalKey(ServerWebExchange exchange) {
+        VerifiedClaims verified = exchange.getAttribute(AuthenticationConfig.VERIFIED_TOKEN_ATTR);
+        if (verified != null) {
+            return verified.userId() != null ? "u:" + verified.userId() : "n:" + verified.subject();
+        }
+        // X-Forwarded-For에서 꺼낸 주소는 resolve되지 않은 상태이므로 getHostString을 쓴다
+        InetSocketAddress clientAddress = clientAddressResolver.resolve(exchange);
+        return "ip:" + (clientAddress != null ? clientAddress.getHostString() : "unknown");
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.jiwontechinnovation.gateway.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게이트웨이 인스턴스마다 따로 세는 토큰 버킷. 버킷 상태를 long 하나에 담아 CAS로만 갱신한다
+@Component
+@ConditionalOnProperty(name = "gateway.rate-limit.store", havingValue = "memory", matchIfMissing = true)
+public class LocalTokenBucketStore implements TokenBucketStore {
+    // 상태 = (마지막 보충 시각 ms << 24) | 남은 토큰(1/1000 단위)
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final long MILLI = 1000L;
+    public static final int MAX_CAPACITY = (int) (TOKEN_MASK / MILLI);
+
+    private final Cache<String, TokenBucket> buckets;
+
+    public LocalTokenBucketStore(RateLimitProperties properties,
+            @Value("${gateway.rate-limit.maximum-keys:100000}") long maximumKeys,
+            @Value("${gateway.rate-limit.idle-timeout:10m}") Duration idleTimeout) {
+        // 상태를 long 하나에 담기 때문에 생기는 제한이므로 이 저장소를 쓸 때만 확인한다
+        checkCapacity("default", properties.defaultLimit());
+        properties.routes().forEach(LocalTokenBucketStore::checkCapacity);
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maximumKeys)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    private static void checkCapacity(String routeId, RateLimitProperties.Limit limit) {
+        if (limit.capacity() > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Rate limit capacity for " + routeId + " exceeds " + MAX_CAPACITY
+                    + " (memory store): " + limit.capacity());
+        }
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Limit limit) {
+        TokenBucket bucket = buckets.get(key, k -> new TokenBucket(limit));
+        return Mono.just(bucket.tryConsume(limit));
+    }
+
+    private static final class TokenBucket {
+        private final long originNanos = System.nanoTime();
+        private final AtomicLong state;
+
+        private TokenBucket(RateLimitProperties.Limit limit) {
+            this.state = new AtomicLong(limit.capacity() * MILLI);
+        }
+
+        private RateLimitDecision tryConsume(RateLimitProperties.Limit limit) {
+            long capacity = limit.capacity() * MILLI;
+            // 초당 r개 = ms당 r/1000개 = ms당 r 밀리토큰
+            long refillPerMilli = limit.refillPerSecond();
+            long now = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - originNanos);
+            while (true) {
+                long current = state.get();
+                long last = current >>> TOKEN_BITS;
+                long tokens = current & TOKEN_MASK;
+                long elapsed = Math.max(0L, now - last);
+                long available = Math.min(capacity, tokens + Math.min(elapsed, capacity) * refillPerMilli);
+                if (available < MILLI) {
+                    long retryAfter = (MILLI - available + refillPerMilli - 1) / refillPerMilli;
+                    return new RateLimitDecision(false, 0L, retryAfter);
+                }
+                long next = (Math.max(now, last) << TOKEN_BITS) | (available - MILLI);
+                if (state.compareAndSet(current, next)) {
+                    return new RateLimitDecision(true, (available - MILLI) / MILLI, 0L);
+                }
+            }
+        }
+    }
+}
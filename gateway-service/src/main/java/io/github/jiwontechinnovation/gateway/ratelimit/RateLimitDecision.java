@@ -0,0 +1,4 @@
+package io.github.jiwontechinnovation.gateway.ratelimit;
+
+public record RateLimitDecision(boolean allowed, long remaining, long retryAfterMillis) {
+}
@@ -0,0 +1,35 @@
+package io.github.jiwontechinnovation.gateway.ratelimit;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.Map;
+
+// 라우트별 토큰 버킷 한도. routes에 없는 라우트는 defaultLimit을 쓴다
+// trustedProxyHops: 게이트웨이 앞의 프록시(ALB 등) 수. 0이면 X-Forwarded-For를 무시하고 연결 주소를 쓴다
+@ConfigurationProperties(prefix = "gateway.rate-limit")
+public record RateLimitProperties(@DefaultValue("true") boolean enabled, Limit defaultLimit, Map<String, Limit> routes,
+        @DefaultValue("0") int trustedProxyHops) {
+
+    public RateLimitProperties {
+        defaultLimit = defaultLimit != null ? defaultLimit : new Limit(100, 50);
+        routes = routes != null ? Map.copyOf(routes) : Map.of();
+        if (trustedProxyHops < 0) {
+            throw new IllegalArgumentException("Invalid trustedProxyHops: " + trustedProxyHops);
+        }
+    }
+
+    // capacity: 순간 허용량, refillPerSecond: 초당 보충량
+    public record Limit(int capacity, int refillPerSecond) {
+        public Limit {
+            if (capacity <= 0 || refillPerSecond <= 0) {
+                throw new IllegalArgumentException("Invalid rate limit: capacity=" + capacity
+                        + ", refillPerSecond=" + refillPerSecond);
+            }
+        }
+    }
+
+    public Limit limitFor(String routeId) {
+        return routes.getOrDefault(routeId, defaultLimit);
+    }
+}
@@ -0,0 +1,56 @@
+package io.github.jiwontechinnovation.gateway.ratelimit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+// 여러 게이트웨이 레플리카가 한도를 공유할 때 사용 (gateway.rate-limit.store=redis)
+// 보충 계산과 차감을 스크립트 하나로 처리하고, 시각은 Redis 서버 시간을 쓴다
+@Component
+@ConditionalOnProperty(name = "gateway.rate-limit.store", havingValue = "redis")
+public class RedisTokenBucketStore implements TokenBucketStore {
+    private static final String KEY_PREFIX = "gateway:ratelimit:";
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> TRY_CONSUME = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1]) * 1000
+            local rate = tonumber(ARGV[2])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 't', 'ts')
+            local tokens = tonumber(state[1]) or capacity
+            local last = tonumber(state[2]) or now
+            tokens = math.min(capacity, tokens + math.max(0, now - last) * rate)
+            local allowed = 0
+            local retry = 0
+            if tokens >= 1000 then
+                tokens = tokens - 1000
+                allowed = 1
+            else
+                retry = math.ceil((1000 - tokens) / rate)
+            end
+            redis.call('HSET', KEYS[1], 't', tokens, 'ts', now)
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity / rate) + 1000)
+            return { allowed, math.floor(tokens / 1000), retry }
+            """, List.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+
+    public RedisTokenBucketStore(ReactiveStringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Limit limit) {
+        return redisTemplate.execute(TRY_CONSUME, List.of(KEY_PREFIX + key),
+                        List.of(Integer.toString(limit.capacity()), Integer.toString(limit.refillPerSecond())))
+                .next()
+                .map(result -> new RateLimitDecision(((Number) result.get(0)).longValue() == 1L,
+                        ((Number) result.get(1)).longValue(), ((Number) result.get(2)).longValue()));
+    }
+}
@@ -0,0 +1,9 @@
+package io.github.jiwontechinnovation.gateway.ratelimit;
+
+import reactor.core.publisher.Mono;
+
+public interface TokenBucketStore {
+
+    // 토큰 하나를 꺼낸다. 이벤트 루프에서 호출되므로 블로킹하면 안 된다
+    Mono<RateLimitDecision> tryConsume(String key, RateLimitProperties.Limit limit);
+}
@@ -0,0 +1,151 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 최근 N번 호출의 실패율로 여닫는 서킷. 상태가 바뀔 때마다 generation을 올려서
+// 이전 상태에서 받은 허가의 결과가 새 상태에 섞이지 않게 한다
+public final class CircuitBreaker {
+    private static final Logger logger = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final String name;
+    private final ResilienceProperties.Breaker settings;
+    private final Counter opened;
+    private final boolean[] outcomes;
+    private int next;
+    private int calls;
+    private int failures;
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAtNanos;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    CircuitBreaker(String name, ResilienceProperties.Breaker settings, Counter opened) {
+        this.name = name;
+        this.settings = settings;
+        this.opened = opened;
+        this.outcomes = new boolean[settings.windowSize()];
+    }
+
+    // 차단 중이면 null
+    synchronized Permit tryAcquire() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < settings.openDuration().toNanos()) {
+                return null;
+            }
+            transitionTo(State.HALF_OPEN);
+        }
+        if (state == State.HALF_OPEN) {
+            if (halfOpenPermits >= settings.halfOpenCalls()) {
+                return null;
+            }
+            halfOpenPermits++;
+        }
+        return new Permit(generation);
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    synchronized long retryAfterMillis() {
+        if (state != State.OPEN) {
+            return 0L;
+        }
+        long remaining = settings.openDuration().toNanos() - (System.nanoTime() - openedAtNanos);
+        return Math.max(0L, TimeUnit.NANOSECONDS.toMillis(remaining));
+    }
+
+    private synchronized void record(long permitGeneration, boolean failed) {
+        if (permitGeneration != generation) {
+            return;
+        }
+        if (state == State.HALF_OPEN) {
+            halfOpenPermits--;
+            if (failed) {
+                transitionTo(State.OPEN);
+            } else if (++halfOpenSuccesses >= settings.halfOpenCalls()) {
+                transitionTo(State.CLOSED);
+            }
+            return;
+        }
+
+        if (calls == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[next] = failed;
+        if (failed) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+        if (calls >= settings.minimumCalls() && failures >= calls * settings.failureRateThreshold()) {
+            transitionTo(State.OPEN);
+        }
+    }
+
+    private synchronized void release(long permitGeneration) {
+        // 결과 없이 끝난 시도(취소된 헤징 등)는 half-open 자리만 돌려준다
+        if (permitGeneration == generation && state == State.HALF_OPEN) {
+            halfOpenPermits--;
+        }
+    }
+
+    private void transitionTo(State target) {
+        State previous = state;
+        state = target;
+        generation++;
+        halfOpenPermits = 0;
+        halfOpenSuccesses = 0;
+        switch (target) {
+            case OPEN -> {
+                openedAtNanos = System.nanoTime();
+                opened.increment();
+                logger.warn("서킷 차단 - {} ({} -> OPEN, 실패 {}/{})", name, previous, failures, calls);
+            }
+            case CLOSED -> {
+                Arrays.fill(outcomes, false);
+                next = 0;
+                calls = 0;
+                failures = 0;
+                logger.info("서킷 복구 - {}", name);
+            }
+            case HALF_OPEN -> logger.info("서킷 시험 호출 시작 - {}", name);
+        }
+    }
+
+    // 허가 하나당 결과는 한 번만 반영된다
+    final class Permit {
+        private final long permitGeneration;
+        private final AtomicBoolean done = new AtomicBoolean();
+
+        private Permit(long permitGeneration) {
+            this.permitGeneration = permitGeneration;
+        }
+
+        void onResult(boolean failed) {
+            if (done.compareAndSet(false, true)) {
+                record(permitGeneration, failed);
+            }
+        }
+
+        void release() {
+            if (done.compareAndSet(false, true)) {
+                CircuitBreaker.this.release(permitGeneration);
+            }
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 서비스(라우트) 단위 서킷과 업스트림 인스턴스(host:port) 단위 서킷을 관리한다.
+// 인스턴스는 스케일링/재배포로 계속 바뀌므로 한동안 쓰이지 않으면 버린다
+@Component
+public class CircuitBreakers {
+    private final ResilienceProperties.Breaker settings;
+    private final MeterRegistry meterRegistry;
+    private final Counter instanceOpened;
+    private final Map<String, CircuitBreaker> services = new ConcurrentHashMap<>();
+    private final Cache<String, CircuitBreaker> instances;
+
+    public CircuitBreakers(ResilienceProperties properties, MeterRegistry meterRegistry) {
+        this.settings = properties.circuitBreaker();
+        this.meterRegistry = meterRegistry;
+        this.instanceOpened = opened("instance");
+        this.instances = Caffeine.newBuilder()
+                .maximumSize(settings.maximumInstances())
+                .expireAfterAccess(settings.instanceIdleTimeout())
+                .build();
+    }
+
+    public CircuitBreaker forService(String routeId) {
+        return services.computeIfAbsent(routeId, id -> {
+            CircuitBreaker breaker = new CircuitBreaker("route " + id, settings, opened("service"));
+            // 0 = CLOSED, 1 = OPEN, 2 = HALF_OPEN
+            Gauge.builder("gateway.circuit.state", breaker, b -> b.state().ordinal())
+                    .tag("route", id)
+                    .register(meterRegistry);
+            return breaker;
+        });
+    }
+
+    public CircuitBreaker forInstance(String instance) {
+        return instances.get(instance, id -> new CircuitBreaker("instance " + id, settings, instanceOpened));
+    }
+
+    private Counter opened(String scope) {
+        return Counter.builder("gateway.circuit.opened").tag("scope", scope).register(meterRegistry);
+    }
+}
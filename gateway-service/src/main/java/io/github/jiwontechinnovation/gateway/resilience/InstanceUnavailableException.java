@@ -0,0 +1,9 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+// 로드밸런서가 고른 인스턴스의 서킷이 열려 있어 보내지 않은 시도. 다른 인스턴스로 바로 재시도한다
+public class InstanceUnavailableException extends RuntimeException {
+
+    public InstanceUnavailableException(String instance) {
+        super("Circuit open for upstream instance " + instance);
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+// routes에 정책이 있는 라우트만 타임아웃/재시도/서킷/헤징을 적용한다
+// maxBodyBytes: 재시도·헤징을 위해 시도마다 버퍼에 받아 두는 응답 본문의 상한. 넘으면 502
+@ConfigurationProperties(prefix = "gateway.resilience")
+public record ResilienceProperties(@DefaultValue("true") boolean enabled,
+        @DefaultValue Budget retryBudget,
+        @DefaultValue Breaker circuitBreaker,
+        @DefaultValue("10485760") int maxBodyBytes,
+        Map<String, Policy> routes) {
+
+    public ResilienceProperties {
+        routes = routes != null ? Map.copyOf(routes) : Map.of();
+        if (maxBodyBytes <= 0) {
+            throw new IllegalArgumentException("Invalid maxBodyBytes: " + maxBodyBytes);
+        }
+    }
+
+    // ratio: 원 요청 1건당 적립되는 재시도(헤징 포함) 횟수, maxBalance: 적립 상한 = 한 번에 몰릴 수 있는 재시도 수
+    public record Budget(@DefaultValue("0.1") double ratio, @DefaultValue("10") int maxBalance) {
+        public Budget {
+            if (ratio < 0 || maxBalance <= 0) {
+                throw new IllegalArgumentException("Invalid retry budget: ratio=" + ratio
+                        + ", maxBalance=" + maxBalance);
+            }
+        }
+    }
+
+    // 최근 windowSize번의 호출 중 minimumCalls 이상이고 실패율이 threshold 이상이면 openDuration 동안 차단
+    public record Breaker(@DefaultValue("20") int windowSize,
+            @DefaultValue("10") int minimumCalls,
+            @DefaultValue("0.5") double failureRateThreshold,
+            @DefaultValue("10s") Duration openDuration,
+            @DefaultValue("2") int halfOpenCalls,
+            @DefaultValue("10000") long maximumInstances,
+            @DefaultValue("10m") Duration instanceIdleTimeout) {
+        public Breaker {
+            if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenCalls <= 0
+                    || failureRateThreshold <= 0 || failureRateThreshold > 1) {
+                throw new IllegalArgumentException("Invalid circuit breaker: windowSize=" + windowSize
+                        + ", minimumCalls=" + minimumCalls + ", failureRateThreshold=" + failureRateThreshold
+                        + ", halfOpenCalls=" + halfOpenCalls);
+            }
+        }
+    }
+
+    // maxAttempts는 순차 시도 횟수(첫 요청 포함). 헤징은 GET/HEAD에만, p95 지연을 [hedgeMinDelay, hedgeMaxDelay]로 자른 뒤 보낸다
+    public record Policy(@DefaultValue("1s") Duration connectTimeout,
+            @DefaultValue("5s") Duration responseTimeout,
+            @DefaultValue("2") int maxAttempts,
+            @DefaultValue({"502", "503", "504"}) List<Integer> retryStatuses,
+            @DefaultValue("50ms") Duration backoff,
+            @DefaultValue("false") boolean hedge,
+            @DefaultValue("20ms") Duration hedgeMinDelay,
+            @DefaultValue("1s") Duration hedgeMaxDelay) {
+        public Policy {
+            if (maxAttempts <= 0 || hedgeMinDelay.compareTo(hedgeMaxDelay) > 0) {
+                throw new IllegalArgumentException("Invalid resilience policy: maxAttempts=" + maxAttempts
+                        + ", hedgeMinDelay=" + hedgeMinDelay + ", hedgeMaxDelay=" + hedgeMaxDelay);
+            }
+            retryStatuses = List.copyOf(retryStatuses);
+        }
+    }
+
+    public Policy policyFor(String routeId) {
+        return enabled ? routes.get(routeId) : null;
+    }
+}
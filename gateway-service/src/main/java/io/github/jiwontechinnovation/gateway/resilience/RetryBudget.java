@@ -0,0 +1,35 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+// 원 요청마다 ratio만큼 적립하고 재시도/헤징 한 번에 1씩 꺼내 쓴다.
+// 업스트림이 전부 실패해도 재시도 트래픽은 원 트래픽의 ratio 배를 넘지 못한다
+final class RetryBudget {
+    private static final long MILLI = 1000L;
+
+    private final long depositPerRequest;
+    private final long maxBalance;
+    private final AtomicLong balance;
+
+    RetryBudget(ResilienceProperties.Budget budget) {
+        this.depositPerRequest = Math.round(budget.ratio() * MILLI);
+        this.maxBalance = budget.maxBalance() * MILLI;
+        this.balance = new AtomicLong(maxBalance);
+    }
+
+    void deposit() {
+        balance.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxBalance, current + deposit));
+    }
+
+    boolean tryWithdraw() {
+        while (true) {
+            long current = balance.get();
+            if (current < MILLI) {
+                return false;
+            }
+            if (balance.compareAndSet(current, current - MILLI)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,483 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.reactivestreams.Publisher;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.NettyWriteResponseFilter;
+import org.springframework.cloud.gateway.filter.OrderedGatewayFilter;
+import org.springframework.cloud.gateway.support.RouteMetadataUtils;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferLimitException;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.AbstractServerHttpResponse;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebExchangeDecorator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_ORIGINAL_REQUEST_URL_ATTR;
+
+// 라우트별 타임아웃 / 재시도(예산 한도 내) / 서비스·인스턴스 서킷 / GET 헤징을 적용한다.
+// 안전한 메서드는 시도마다 응답을 버퍼에 받아 두고(maxBodyBytes까지) 최종 결과 하나만 클라이언트에 쓴다.
+// 그 외 메서드는 요청 본문을 다시 보낼 수 없으므로 재시도 없이 서킷과 타임아웃만 적용한다
+@Component
+public class RouteResilience {
+    // 응답을 시도별 버퍼로 바꿔 끼워야 하므로 NettyWriteResponseFilter보다 먼저 실행
+    public static final int ORDER = NettyWriteResponseFilter.WRITE_RESPONSE_FILTER_ORDER - 1;
+    static final String ATTEMPT_ATTR = RouteResilience.class.getName() + ".attempt";
+    static final String INSTANCE_PERMIT_ATTR = RouteResilience.class.getName() + ".instancePermit";
+
+    private static final Set<HttpMethod> SAFE_METHODS = Set.of(HttpMethod.GET, HttpMethod.HEAD, HttpMethod.OPTIONS);
+    private static final List<String> HOP_BY_HOP_HEADERS = List.of(HttpHeaders.TRANSFER_ENCODING,
+            HttpHeaders.CONTENT_LENGTH, HttpHeaders.CONNECTION);
+    private static final double HEDGE_PERCENTILE = 0.95;
+    private static final long HEDGE_DELAY_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final ResilienceProperties properties;
+    private final CircuitBreakers circuitBreakers;
+    private final MeterRegistry meterRegistry;
+
+    public RouteResilience(ResilienceProperties properties, CircuitBreakers circuitBreakers,
+            MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.circuitBreakers = circuitBreakers;
+        this.meterRegistry = meterRegistry;
+    }
+
+    // 시도 하나의 결과. error가 있으면 나머지는 null
+    private record Attempt(HttpStatusCode status, HttpHeaders headers, byte[] body, Throwable error) {
+
+        static Attempt failure(Throwable error) {
+            return new Attempt(null, null, null, error);
+        }
+
+        // 업스트림이 과부하로 일부러 거절한 응답(503/429 + Retry-After). 장애가 아니므로 서킷에 세지 않고,
+        // 곧바로 재시도하면 부하를 덜어 주려던 의도와 어긋나므로 재시도하지도 않는다
+        boolean shed() {
+            return status != null && headers != null && headers.containsHeader(HttpHeaders.RETRY_AFTER)
+                    && (status.value() == HttpStatus.SERVICE_UNAVAILABLE.value()
+                            || status.value() == HttpStatus.TOO_MANY_REQUESTS.value());
+        }
+
+        // 응답이 버퍼 한도를 넘은 경우는 업스트림 장애가 아니고 다시 보내도 같으므로 최종 결과로 본다
+        boolean tooLarge() {
+            return error instanceof DataBufferLimitException;
+        }
+
+        boolean failed() {
+            if (error != null) {
+                return !tooLarge();
+            }
+            return status != null && status.is5xxServerError() && !shed();
+        }
+
+        boolean retryable(ResilienceProperties.Policy policy) {
+            if (error != null) {
+                return !tooLarge();
+            }
+            return status != null && policy.retryStatuses().contains(status.value()) && !shed();
+        }
+    }
+
+    // NettyRoutingFilter가 읽는 라우트 메타데이터 (연결/응답 타임아웃, ms)
+    public Map<String, Object> metadataFor(String routeId) {
+        ResilienceProperties.Policy policy = properties.policyFor(routeId);
+        if (policy == null) {
+            return Map.of();
+        }
+        return Map.of(RouteMetadataUtils.CONNECT_TIMEOUT_ATTR, Math.toIntExact(policy.connectTimeout().toMillis()),
+                RouteMetadataUtils.RESPONSE_TIMEOUT_ATTR, policy.responseTimeout().toMillis());
+    }
+
+    public GatewayFilter forRoute(String routeId) {
+        ResilienceProperties.Policy policy = properties.policyFor(routeId);
+        if (policy == null) {
+            return (exchange, chain) -> chain.filter(exchange);
+        }
+        RouteState route = new RouteState(routeId, policy);
+
+        return new OrderedGatewayFilter((exchange, chain) -> {
+            CircuitBreaker.Permit permit = route.breaker.tryAcquire();
+            if (permit == null) {
+                route.outcome("short_circuited");
+                ServerHttpResponse response = exchange.getResponse();
+                response.setStatusCode(HttpStatus.SERVICE_UNAVAILABLE);
+                response.getHeaders().set(HttpHeaders.RETRY_AFTER,
+                        Long.toString(Math.max(1L, (route.breaker.retryAfterMillis() + 999) / 1000)));
+                return response.setComplete();
+            }
+            route.budget.deposit();
+
+            ServerHttpRequest request = exchange.getRequest();
+            if (!SAFE_METHODS.contains(request.getMethod()) || isEventStream(request)) {
+                return forward(exchange, chain, route, permit);
+            }
+            return execute(exchange, chain, route, 1)
+                    .doOnNext(attempt -> complete(route, permit, attempt))
+                    .doOnCancel(permit::release)
+                    .flatMap(attempt -> write(exchange, attempt));
+        }, ORDER);
+    }
+
+    // 재시도 없이 그대로 보내고 결과만 서킷과 지표에 반영
+    private Mono<Void> forward(ServerWebExchange exchange, GatewayFilterChain chain, RouteState route,
+            CircuitBreaker.Permit permit) {
+        exchange.getAttributes().put(ATTEMPT_ATTR, Boolean.TRUE);
+        return chain.filter(exchange)
+                .doOnSuccess(ignored -> {
+                    ServerHttpResponse response = exchange.getResponse();
+                    Attempt attempt = new Attempt(response.getStatusCode(), response.getHeaders(), null, null);
+                    completeInstance(exchange, attempt);
+                    complete(route, permit, attempt);
+                })
+                .doOnError(e -> {
+                    Attempt attempt = Attempt.failure(e);
+                    completeInstance(exchange, attempt);
+                    complete(route, permit, attempt);
+                })
+                .doOnCancel(() -> {
+                    releaseInstance(exchange);
+                    permit.release();
+                });
+    }
+
+    private Mono<Attempt> execute(ServerWebExchange exchange, GatewayFilterChain chain, RouteState route,
+            int attemptNumber) {
+        Mono<Attempt> attempt = route.policy.hedge() ? hedged(exchange, chain, route) : attempt(exchange, chain, route);
+        return attempt.flatMap(result -> {
+            if (!result.retryable(route.policy) || attemptNumber >= route.policy.maxAttempts()) {
+                return Mono.just(result);
+            }
+            // 인스턴스 서킷 때문에 보내지도 않은 시도는 업스트림 부하가 없으므로 예산을 쓰지 않는다
+            if (!(result.error() instanceof InstanceUnavailableException) && !route.budget.tryWithdraw()) {
+                route.budgetExhausted.increment();
+                return Mono.just(result);
+            }
+            route.retries.increment();
+            return Mono.delay(route.policy.backoff()).then(execute(exchange, chain, route, attemptNumber + 1));
+        });
+    }
+
+    // 첫 시도가 p95 지연 안에 끝나지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 쪽을 쓴다.
+    // 로드밸런서가 라운드로빈으로 고르므로 두 번째 요청은 보통 다른 인스턴스로 간다
+    private Mono<Attempt> hedged(ServerWebExchange exchange, GatewayFilterChain chain, RouteState route) {
+        return attempt(exchange, chain, route).publish(primary -> Flux.merge(primary,
+                        Mono.delay(route.hedgeDelay())
+                                .takeUntilOther(primary)
+                                .flatMap(tick -> {
+                                    if (!route.budget.tryWithdraw()) {
+                                        route.budgetExhausted.increment();
+                                        return Mono.empty();
+                                    }
+                                    route.hedges.increment();
+                                    return attempt(exchange, chain, route)
+                                            .doOnNext(hedge -> {
+                                                if (!hedge.failed()) {
+                                                    route.hedgeWins.increment();
+                                                }
+                                            });
+                                }))
+                // 먼저 성공한 시도에서 멈추면 남은 시도는 취소된다. 둘 다 실패하면 마지막 실패를 돌려준다
+                .takeUntil(result -> !result.failed())
+                .last());
+    }
+
+    private Mono<Attempt> attempt(ServerWebExchange exchange, GatewayFilterChain chain, RouteState route) {
+        return Mono.defer(() -> {
+            AttemptExchange attemptExchange = new AttemptExchange(exchange, properties.maxBodyBytes());
+            long startNanos = System.nanoTime();
+            return chain.filter(attemptExchange)
+                    .then(Mono.fromSupplier(attemptExchange.response::toAttempt))
+                    .onErrorResume(e -> Mono.just(Attempt.failure(e)))
+                    .doOnNext(result -> {
+                        completeInstance(attemptExchange, result);
+                        if (!result.failed() && !result.shed()) {
+                            route.latency.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                        }
+                    })
+                    .doOnCancel(() -> releaseInstance(attemptExchange));
+        });
+    }
+
+    private static void complete(RouteState route, CircuitBreaker.Permit permit, Attempt attempt) {
+        record(permit, attempt);
+        route.outcome(outcome(attempt));
+    }
+
+    private static void completeInstance(ServerWebExchange exchange, Attempt attempt) {
+        if (exchange.getAttributes().remove(INSTANCE_PERMIT_ATTR) instanceof CircuitBreaker.Permit permit) {
+            record(permit, attempt);
+        }
+    }
+
+    // 거절 응답은 성공도 실패도 아니므로 허가만 돌려준다
+    private static void record(CircuitBreaker.Permit permit, Attempt attempt) {
+        if (attempt.shed()) {
+            permit.release();
+        } else {
+            permit.onResult(attempt.failed());
+        }
+    }
+
+    private static void releaseInstance(ServerWebExchange exchange) {
+        if (exchange.getAttributes().remove(INSTANCE_PERMIT_ATTR) instanceof CircuitBreaker.Permit permit) {
+            permit.release();
+        }
+    }
+
+    private static String outcome(Attempt attempt) {
+        Throwable error = attempt.error();
+        if (error instanceof InstanceUnavailableException) {
+            return "instance_open";
+        }
+        if (attempt.tooLarge()) {
+            return "too_large";
+        }
+        if (error instanceof TimeoutException || (error instanceof ResponseStatusException e
+                && e.getStatusCode().value() == HttpStatus.GATEWAY_TIMEOUT.value())) {
+            return "timeout";
+        }
+        if (error != null) {
+            return "error";
+        }
+        if (attempt.shed()) {
+            return "shed";
+        }
+        if (attempt.status() == null || attempt.status().is2xxSuccessful() || attempt.status().is3xxRedirection()) {
+            return "success";
+        }
+        return attempt.status().is4xxClientError() ? "client_error" : "server_error";
+    }
+
+    private static Mono<Void> write(ServerWebExchange exchange, Attempt attempt) {
+        if (attempt.error() != null) {
+            return Mono.error(toResponseStatus(attempt.error()));
+        }
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(attempt.status());
+        HttpHeaders headers = response.getHeaders();
+        attempt.headers().forEach(headers::put);
+        if (attempt.body().length == 0) {
+            return response.setComplete();
+        }
+        headers.setContentLength(attempt.body().length);
+        return response.writeWith(Mono.fromSupplier(() -> response.bufferFactory().wrap(attempt.body())));
+    }
+
+    private static Throwable toResponseStatus(Throwable error) {
+        if (error instanceof ResponseStatusException) {
+            return error;
+        }
+        if (error instanceof InstanceUnavailableException) {
+            return new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE, error.getMessage(), error);
+        }
+        if (error instanceof DataBufferLimitException) {
+            return new ResponseStatusException(HttpStatus.BAD_GATEWAY, "Upstream response too large", error);
+        }
+        if (error instanceof TimeoutException) {
+            return new ResponseStatusException(HttpStatus.GATEWAY_TIMEOUT, error.getMessage(), error);
+        }
+        return new ResponseStatusException(HttpStatus.BAD_GATEWAY, error.getMessage(), error);
+    }
+
+    private static boolean isEventStream(ServerHttpRequest request) {
+        return request.getHeaders().getAccept().stream()
+                .anyMatch(MediaType.TEXT_EVENT_STREAM::isCompatibleWith);
+    }
+
+    private final class RouteState {
+        private final String routeId;
+        private final ResilienceProperties.Policy policy;
+        private final CircuitBreaker breaker;
+        private final RetryBudget budget;
+        private final Timer latency;
+        private final Counter retries;
+        private final Counter hedges;
+        private final Counter hedgeWins;
+        private final Counter budgetExhausted;
+        private volatile Duration hedgeDelay;
+        private volatile long hedgeDelayRefreshAt;
+
+        private RouteState(String routeId, ResilienceProperties.Policy policy) {
+            this.routeId = routeId;
+            this.policy = policy;
+            this.breaker = circuitBreakers.forService(routeId);
+            this.budget = new RetryBudget(properties.retryBudget());
+            // 헤징 지연 계산용. 최근 1분 정도의 성공한 시도만 반영
+            this.latency = Timer.builder("gateway.route.upstream.latency")
+                    .tag("route", routeId)
+                    .publishPercentiles(HEDGE_PERCENTILE)
+                    .distributionStatisticExpiry(Duration.ofMinutes(1))
+                    .distributionStatisticBufferLength(3)
+                    .register(meterRegistry);
+            this.retries = retries("retry");
+            this.hedges = retries("hedge");
+            this.hedgeWins = Counter.builder("gateway.route.hedge.wins").tag("route", routeId)
+                    .register(meterRegistry);
+            this.budgetExhausted = Counter.builder("gateway.route.retry.budget.exhausted").tag("route", routeId)
+                    .register(meterRegistry);
+            this.hedgeDelay = policy.hedgeMaxDelay();
+            this.hedgeDelayRefreshAt = System.nanoTime();
+        }
+
+        private Counter retries(String kind) {
+            return Counter.builder("gateway.route.retries")
+                    .tag("route", routeId)
+                    .tag("kind", kind)
+                    .register(meterRegistry);
+        }
+
+        private void outcome(String outcome) {
+            Counter.builder("gateway.route.outcomes")
+                    .tag("route", routeId)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry)
+                    .increment();
+        }
+
+        // p95를 매 요청 계산하지 않고 1초마다 갱신. 표본이 없으면 가장 보수적인 hedgeMaxDelay
+        private Duration hedgeDelay() {
+            long now = System.nanoTime();
+            if (now - hedgeDelayRefreshAt >= 0) {
+                hedgeDelayRefreshAt = now + HEDGE_DELAY_REFRESH_NANOS;
+                hedgeDelay = computeHedgeDelay();
+            }
+            return hedgeDelay;
+        }
+
+        private Duration computeHedgeDelay() {
+            HistogramSnapshot snapshot = latency.takeSnapshot();
+            for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+                if (percentile.percentile() == HEDGE_PERCENTILE && percentile.value() > 0) {
+                    Duration p95 = Duration.ofNanos((long) percentile.value(TimeUnit.NANOSECONDS));
+                    if (p95.compareTo(policy.hedgeMinDelay()) < 0) {
+                        return policy.hedgeMinDelay();
+                    }
+                    return p95.compareTo(policy.hedgeMaxDelay()) > 0 ? policy.hedgeMaxDelay() : p95;
+                }
+            }
+            return policy.hedgeMaxDelay();
+        }
+    }
+
+    // 시도마다 속성(라우팅 결과, 업스트림 연결 등)과 응답을 따로 두어 동시에 보낸 헤징 요청끼리 섞이지 않게 한다
+    private static final class AttemptExchange extends ServerWebExchangeDecorator {
+        private final BufferedResponse response;
+        private final Map<String, Object> attributes;
+
+        private AttemptExchange(ServerWebExchange delegate, int maxBodyBytes) {
+            super(delegate);
+            this.response = new BufferedResponse(delegate.getResponse().bufferFactory(), maxBodyBytes);
+            this.attributes = new ConcurrentHashMap<>(delegate.getAttributes());
+            // 로드밸런서 필터가 원래 URL 목록에 추가하므로 시도마다 복사본을 쓴다
+            if (attributes.get(GATEWAY_ORIGINAL_REQUEST_URL_ATTR) instanceof Set<?> urls) {
+                attributes.put(GATEWAY_ORIGINAL_REQUEST_URL_ATTR, new LinkedHashSet<>(urls));
+            }
+            attributes.put(ATTEMPT_ATTR, Boolean.TRUE);
+        }
+
+        @Override
+        public ServerHttpResponse getResponse() {
+            return response;
+        }
+
+        @Override
+        public Map<String, Object> getAttributes() {
+            return attributes;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getAttribute(String name) {
+            return (T) attributes.get(name);
+        }
+    }
+
+    // 클라이언트에 쓰지 않고 상태/헤더/본문을 모아 두기만 하는 응답. 한도를 넘으면 DataBufferLimitException
+    private static final class BufferedResponse extends AbstractServerHttpResponse {
+        private final int maxBodyBytes;
+        private volatile byte[] body = new byte[0];
+
+        private BufferedResponse(DataBufferFactory bufferFactory, int maxBodyBytes) {
+            super(bufferFactory);
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        private Attempt toAttempt() {
+            HttpHeaders headers = new HttpHeaders();
+            getHeaders().forEach((name, values) -> {
+                if (HOP_BY_HOP_HEADERS.stream().noneMatch(name::equalsIgnoreCase)) {
+                    headers.put(name, List.copyOf(values));
+                }
+            });
+            HttpStatusCode status = getStatusCode();
+            return new Attempt(status != null ? status : HttpStatus.OK, headers, body, null);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T getNativeResponse() {
+            return (T) this;
+        }
+
+        @Override
+        protected Mono<Void> writeWithInternal(Publisher<? extends DataBuffer> body) {
+            // Mono로 들어온 본문은 join이 한도를 보지 않고 그대로 돌려주므로 크기를 다시 확인한다
+            return DataBufferUtils.join(body, maxBodyBytes)
+                    .doOnNext(joined -> {
+                        if (joined.readableByteCount() > maxBodyBytes) {
+                            DataBufferUtils.release(joined);
+                            throw new DataBufferLimitException(
+                                    "Exceeded limit on max bytes to buffer : " + maxBodyBytes);
+                        }
+                        byte[] bytes = new byte[joined.readableByteCount()];
+                        joined.read(bytes);
+                        DataBufferUtils.release(joined);
+                        this.body = bytes;
+                    })
+                    .then();
+        }
+
+        @Override
+        protected Mono<Void> writeAndFlushWithInternal(Publisher<? extends Publisher<? extends DataBuffer>> body) {
+            return writeWithInternal(Flux.<Publisher<? extends DataBuffer>>from(body)
+                    .concatMap(chunk -> Flux.<DataBuffer>from(chunk)));
+        }
+
+        @Override
+        protected void applyStatusCode() {
+        }
+
+        @Override
+        protected void applyHeaders() {
+        }
+
+        @Override
+        protected void applyCookies() {
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.cloud.gateway.filter.GlobalFilter;
+import org.springframework.cloud.gateway.filter.ReactiveLoadBalancerClientFilter;
+import org.springframework.core.Ordered;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+import static org.springframework.cloud.gateway.support.ServerWebExchangeUtils.GATEWAY_REQUEST_URL_ATTR;
+
+// 로드밸런서가 인스턴스를 고른 직후 그 인스턴스의 서킷을 확인한다.
+// 열려 있으면 보내지 않고 실패시켜 RouteResilience가 다른 인스턴스로 재시도하게 한다
+@Component
+public class UpstreamInstanceFilter implements GlobalFilter, Ordered {
+    private final CircuitBreakers circuitBreakers;
+
+    public UpstreamInstanceFilter(CircuitBreakers circuitBreakers) {
+        this.circuitBreakers = circuitBreakers;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, GatewayFilterChain chain) {
+        URI url = exchange.getAttribute(GATEWAY_REQUEST_URL_ATTR);
+        if (exchange.getAttribute(RouteResilience.ATTEMPT_ATTR) == null || url == null) {
+            return chain.filter(exchange);
+        }
+        String instance = url.getHost() + ":" + url.getPort();
+        CircuitBreaker.Permit permit = circuitBreakers.forInstance(instance).tryAcquire();
+        if (permit == null) {
+            return Mono.error(new InstanceUnavailableException(instance));
+        }
+        exchange.getAttributes().put(RouteResilience.INSTANCE_PERMIT_ATTR, permit);
+        return chain.filter(exchange);
+    }
+
+    @Override
+    public int getOrder() {
+        return ReactiveLoadBalancerClientFilter.LOAD_BALANCER_CLIENT_FILTER_ORDER + 1;
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.jiwontechinnovation.gateway.coalesce;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RequestCoalescerTest {
+    private static final int MAX_BODY_BYTES = 16;
+
+    private final RequestCoalescer coalescer = new RequestCoalescer(new CoalescingProperties(true, MAX_BODY_BYTES,
+            Duration.ofSeconds(2), Map.of("analysis-service", List.of("Accept"))), new SimpleMeterRegistry());
+    private final GatewayFilter filter = coalescer.forRoute("analysis-service");
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void concurrentRequestsShareOneUpstreamResponse() {
+        GatewayFilterChain upstream = chunkedUpstream("{\"a\":", "1}");
+        MockServerWebExchange leader = exchange();
+        MockServerWebExchange follower = exchange();
+
+        Mono.when(filter.filter(leader, upstream), filter.filter(follower, upstream)).block(Duration.ofSeconds(5));
+
+        assertEquals(1, upstreamCalls.get());
+        assertEquals("{\"a\":1}", leader.getResponse().getBodyAsString().block());
+        assertEquals("{\"a\":1}", follower.getResponse().getBodyAsString().block());
+        assertEquals(HttpStatus.OK, follower.getResponse().getStatusCode());
+    }
+
+    @Test
+    void chunkedBodyOverLimitIsStreamedToLeaderAndNotShared() {
+        String first = "x".repeat(MAX_BODY_BYTES);
+        GatewayFilterChain upstream = chunkedUpstream(first, "tail");
+        MockServerWebExchange leader = exchange();
+        MockServerWebExchange follower = exchange();
+
+        Mono.when(filter.filter(leader, upstream), filter.filter(follower, upstream)).block(Duration.ofSeconds(5));
+
+        // follower는 공유받지 못하고 직접 요청한다
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(first + "tail", leader.getResponse().getBodyAsString().block());
+        assertEquals(first + "tail", follower.getResponse().getBodyAsString().block());
+    }
+
+    // Content-Length 없이 여러 조각으로 응답하는 업스트림. follower가 붙을 수 있도록 잠시 늦게 보낸다
+    private GatewayFilterChain chunkedUpstream(String... chunks) {
+        return exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().setStatusCode(HttpStatus.OK);
+            Flux<DataBuffer> body = Flux.fromArray(chunks)
+                    .map(chunk -> (DataBuffer) DefaultDataBufferFactory.sharedInstance
+                            .wrap(chunk.getBytes(StandardCharsets.UTF_8)));
+            return exchange.getResponse().writeWith(Mono.delay(Duration.ofMillis(200)).thenMany(body));
+        };
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/analysis-service/stats").header("Accept",
+                "application/json"));
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.jiwontechinnovation.gateway.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GatewayRateLimiterTest {
+    private static final InetSocketAddress ALB = new InetSocketAddress("10.0.1.20", 43210);
+
+    @Test
+    void clientAddressComesFromTrustedHopOfForwardedFor() {
+        GatewayRateLimiter limiter = limiter(1, new RateLimitProperties.Limit(10, 1));
+
+        assertEquals("ip:203.0.113.7", limiter.principalKey(exchange("198.51.100.1, 203.0.113.7")));
+        assertEquals("ip:203.0.113.7", limiter.principalKey(exchange("203.0.113.7")));
+        assertEquals("ip:10.0.1.20", limiter.principalKey(exchange(null)));
+    }
+
+    @Test
+    void forwardedForIsIgnoredWithoutTrustedProxies() {
+        GatewayRateLimiter limiter = limiter(0, new RateLimitProperties.Limit(10, 1));
+
+        assertEquals("ip:10.0.1.20", limiter.principalKey(exchange("198.51.100.1, 203.0.113.7")));
+    }
+
+    @Test
+    void spoofedForwardedForDoesNotEscapeTheLimit() {
+        GatewayFilter filter = limiter(1, new RateLimitProperties.Limit(1, 1)).forRoute("auth-service");
+
+        MockServerWebExchange first = exchange("198.51.100.1, 203.0.113.7");
+        filter.filter(first, exchange -> exchange.getResponse().setComplete()).block();
+        MockServerWebExchange second = exchange("198.51.100.2, 203.0.113.7");
+        filter.filter(second, exchange -> exchange.getResponse().setComplete()).block();
+        // 다른 클라이언트는 자기 버킷을 쓴다
+        MockServerWebExchange other = exchange("203.0.113.8");
+        filter.filter(other, exchange -> exchange.getResponse().setComplete()).block();
+
+        assertNull(first.getResponse().getStatusCode());
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, second.getResponse().getStatusCode());
+        assertEquals("1", second.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertNull(other.getResponse().getStatusCode());
+    }
+
+    @Test
+    void capacityLimitAppliesOnlyToMemoryStore() {
+        RateLimitProperties.Limit large = new RateLimitProperties.Limit(LocalTokenBucketStore.MAX_CAPACITY + 1, 1);
+        RateLimitProperties properties = new RateLimitProperties(true, null, Map.of("bulk", large), 0);
+
+        assertThrows(IllegalArgumentException.class,
+                () -> new LocalTokenBucketStore(properties, 100, Duration.ofMinutes(1)));
+    }
+
+    private static GatewayRateLimiter limiter(int trustedProxyHops, RateLimitProperties.Limit limit) {
+        RateLimitProperties properties = new RateLimitProperties(true, limit, Map.of(), trustedProxyHops);
+        return new GatewayRateLimiter(new LocalTokenBucketStore(properties, 100, Duration.ofMinutes(1)), properties,
+                new SimpleMeterRegistry());
+    }
+
+    private static MockServerWebExchange exchange(String forwardedFor) {
+        MockServerHttpRequest.BaseBuilder<?> request = MockServerHttpRequest.get("/auth-service/sign-in")
+                .remoteAddress(ALB);
+        if (forwardedFor != null) {
+            request.header("X-Forwarded-For", forwardedFor);
+        }
+        return MockServerWebExchange.from(request);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class CircuitBreakerTest {
+    private static final Duration OPEN_DURATION = Duration.ofMillis(100);
+
+    private final Counter opened = new SimpleMeterRegistry().counter("opened");
+    private final CircuitBreaker breaker = new CircuitBreaker("test",
+            new ResilienceProperties.Breaker(4, 4, 0.5, OPEN_DURATION, 2, 100, Duration.ofMinutes(10)), opened);
+
+    @Test
+    void opensOnlyAfterMinimumCallsAtFailureRate() {
+        record(true, true, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+
+        record(false);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertNull(breaker.tryAcquire());
+        assertEquals(1.0, opened.count());
+    }
+
+    @Test
+    void staysClosedBelowFailureRate() {
+        record(true, false, false, false, false, false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void halfOpenClosesAfterSuccessfulTrialCalls() throws InterruptedException {
+        trip();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        CircuitBreaker.Permit first = breaker.tryAcquire();
+        assertNotNull(first);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+        CircuitBreaker.Permit second = breaker.tryAcquire();
+        assertNotNull(second);
+        // 시험 호출 수만큼만 통과시킨다
+        assertNull(breaker.tryAcquire());
+
+        first.onResult(false);
+        second.onResult(false);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+
+    @Test
+    void halfOpenReopensOnFailedTrialCall() throws InterruptedException {
+        trip();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        breaker.tryAcquire().onResult(true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertNull(breaker.tryAcquire());
+    }
+
+    @Test
+    void releasedTrialCallFreesHalfOpenSlot() throws InterruptedException {
+        trip();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+
+        breaker.tryAcquire();
+        CircuitBreaker.Permit cancelled = breaker.tryAcquire();
+        assertNull(breaker.tryAcquire());
+
+        cancelled.release();
+        assertNotNull(breaker.tryAcquire());
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    @Test
+    void resultFromPreviousStateIsIgnored() throws InterruptedException {
+        CircuitBreaker.Permit stale = breaker.tryAcquire();
+        trip();
+        Thread.sleep(OPEN_DURATION.toMillis() + 50);
+        breaker.tryAcquire();
+
+        // CLOSED 때 받은 허가의 실패가 half-open 시험을 망치지 않는다
+        stale.onResult(true);
+        assertEquals(CircuitBreaker.State.HALF_OPEN, breaker.state());
+    }
+
+    private void trip() {
+        record(true, true, true, true);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    private void record(boolean... failures) {
+        for (boolean failed : failures) {
+            breaker.tryAcquire().onResult(failed);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RetryBudgetTest {
+
+    @Test
+    void startsFullAndRunsOut() {
+        RetryBudget budget = new RetryBudget(new ResilienceProperties.Budget(0.1, 2));
+
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void requestsEarnRetriesAtRatio() {
+        RetryBudget budget = new RetryBudget(new ResilienceProperties.Budget(0.1, 2));
+        drain(budget);
+
+        for (int i = 0; i < 9; i++) {
+            budget.deposit();
+        }
+        assertFalse(budget.tryWithdraw());
+
+        budget.deposit();
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    @Test
+    void balanceIsCapped() {
+        RetryBudget budget = new RetryBudget(new ResilienceProperties.Budget(0.5, 2));
+        drain(budget);
+
+        for (int i = 0; i < 100; i++) {
+            budget.deposit();
+        }
+        assertTrue(budget.tryWithdraw());
+        assertTrue(budget.tryWithdraw());
+        assertFalse(budget.tryWithdraw());
+    }
+
+    private static void drain(RetryBudget budget) {
+        while (budget.tryWithdraw()) {
+            // 비운다
+        }
+    }
+}
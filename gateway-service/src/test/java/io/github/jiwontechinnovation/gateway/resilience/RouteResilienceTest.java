@@ -0,0 +1,183 @@
+package io.github.jiwontechinnovation.gateway.resilience;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.filter.GatewayFilter;
+import org.springframework.cloud.gateway.filter.GatewayFilterChain;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RouteResilienceTest {
+    private static final String ROUTE = "analysis-service";
+    private static final int MAX_BODY_BYTES = 16;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void retriesRetryableStatusOnce() {
+        Fixture fixture = new Fixture(policy(false), 10);
+        GatewayFilterChain upstream = exchange -> upstreamCalls.incrementAndGet() == 1
+                ? respond(exchange, HttpStatus.SERVICE_UNAVAILABLE, "down")
+                : respond(exchange, HttpStatus.OK, "ok");
+
+        MockServerWebExchange exchange = exchange();
+        fixture.filter.filter(exchange, upstream).block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(HttpStatus.OK, exchange.getResponse().getStatusCode());
+        assertEquals("ok", exchange.getResponse().getBodyAsString().block());
+    }
+
+    @Test
+    void stopsRetryingWhenBudgetIsExhausted() {
+        Fixture fixture = new Fixture(policy(false), 1);
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return respond(exchange, HttpStatus.BAD_GATEWAY, "down");
+        };
+
+        fixture.filter.filter(exchange(), upstream).block(Duration.ofSeconds(5));
+        assertEquals(2, upstreamCalls.get());
+
+        // 적립 비율이 0이라 첫 재시도로 예산을 다 썼다
+        MockServerWebExchange exchange = exchange();
+        fixture.filter.filter(exchange, upstream).block(Duration.ofSeconds(5));
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(HttpStatus.BAD_GATEWAY, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void hedgeWinCancelsSlowPrimary() throws InterruptedException {
+        Fixture fixture = new Fixture(policy(true), 10);
+        CountDownLatch primaryCancelled = new CountDownLatch(1);
+        GatewayFilterChain upstream = exchange -> {
+            if (upstreamCalls.incrementAndGet() == 1) {
+                return Mono.delay(Duration.ofSeconds(10))
+                        .then(respond(exchange, HttpStatus.OK, "primary"))
+                        .doOnCancel(primaryCancelled::countDown);
+            }
+            return respond(exchange, HttpStatus.OK, "hedge");
+        };
+
+        MockServerWebExchange exchange = exchange();
+        fixture.filter.filter(exchange, upstream).block(Duration.ofSeconds(5));
+
+        assertEquals(2, upstreamCalls.get());
+        assertEquals("hedge", exchange.getResponse().getBodyAsString().block());
+        // 취소는 결과를 내보낸 직후 전파되므로 잠시 기다린다
+        assertTrue(primaryCancelled.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void shedResponsesDoNotOpenBreakerAndAreNotRetried() {
+        Fixture fixture = new Fixture(policy(false), 10);
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            exchange.getResponse().getHeaders().set(HttpHeaders.RETRY_AFTER, "1");
+            return respond(exchange, HttpStatus.SERVICE_UNAVAILABLE, "busy");
+        };
+
+        for (int i = 0; i < 5; i++) {
+            MockServerWebExchange exchange = exchange();
+            fixture.filter.filter(exchange, upstream).block(Duration.ofSeconds(5));
+            assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+            assertEquals("1", exchange.getResponse().getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        }
+
+        assertEquals(5, upstreamCalls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, fixture.breaker().state());
+    }
+
+    @Test
+    void failuresWithoutRetryAfterOpenBreaker() {
+        Fixture fixture = new Fixture(policy(false), 10);
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return respond(exchange, HttpStatus.SERVICE_UNAVAILABLE, "down");
+        };
+
+        fixture.filter.filter(exchange(), upstream).block(Duration.ofSeconds(5));
+        fixture.filter.filter(exchange(), upstream).block(Duration.ofSeconds(5));
+        assertEquals(CircuitBreaker.State.OPEN, fixture.breaker().state());
+
+        MockServerWebExchange exchange = exchange();
+        fixture.filter.filter(exchange, upstream).block(Duration.ofSeconds(5));
+        assertEquals(4, upstreamCalls.get());
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, exchange.getResponse().getStatusCode());
+    }
+
+    @Test
+    void oversizedResponseFailsWithoutRetryOrBreakerFailure() {
+        Fixture fixture = new Fixture(policy(false), 10);
+        GatewayFilterChain upstream = exchange -> {
+            upstreamCalls.incrementAndGet();
+            return respond(exchange, HttpStatus.OK, "x".repeat(MAX_BODY_BYTES * 2));
+        };
+
+        for (int i = 0; i < 3; i++) {
+            ResponseStatusException error = assertThrows(ResponseStatusException.class,
+                    () -> fixture.filter.filter(exchange(), upstream).block(Duration.ofSeconds(5)));
+            assertEquals(HttpStatus.BAD_GATEWAY, error.getStatusCode());
+        }
+
+        assertEquals(3, upstreamCalls.get());
+        assertEquals(CircuitBreaker.State.CLOSED, fixture.breaker().state());
+    }
+
+    // maxAttempts 2, 503/502 재시도. 헤징 지연은 표본이 없으면 hedgeMaxDelay(50ms)
+    private static ResilienceProperties.Policy policy(boolean hedge) {
+        return new ResilienceProperties.Policy(Duration.ofSeconds(1), Duration.ofSeconds(5), 2, List.of(502, 503),
+                Duration.ofMillis(1), hedge, Duration.ofMillis(20), Duration.ofMillis(50));
+    }
+
+    private static Mono<Void> respond(ServerWebExchange exchange, HttpStatus status, String body) {
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(status);
+        return response.writeWith(Mono.fromSupplier(() -> (DataBuffer) DefaultDataBufferFactory.sharedInstance
+                .wrap(body.getBytes(StandardCharsets.UTF_8))));
+    }
+
+    private static MockServerWebExchange exchange() {
+        return MockServerWebExchange.from(MockServerHttpRequest.get("/analysis-service/stats"));
+    }
+
+    // 적립 비율 0: 재시도는 처음 채워진 maxBalance만큼만 가능. 서킷은 최근 2번 중 2번 실패면 차단
+    private static final class Fixture {
+        private final CircuitBreakers circuitBreakers;
+        private final GatewayFilter filter;
+
+        private Fixture(ResilienceProperties.Policy policy, int retryBalance) {
+            SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+            ResilienceProperties properties = new ResilienceProperties(true,
+                    new ResilienceProperties.Budget(0, retryBalance),
+                    new ResilienceProperties.Breaker(2, 2, 1.0, Duration.ofMinutes(1), 1, 100, Duration.ofMinutes(10)),
+                    MAX_BODY_BYTES, Map.of(ROUTE, policy));
+            this.circuitBreakers = new CircuitBreakers(properties, meterRegistry);
+            this.filter = new RouteResilience(properties, circuitBreakers, meterRegistry).forRoute(ROUTE);
+        }
+
+        private CircuitBreaker breaker() {
+            return circuitBreakers.forService(ROUTE);
+        }
+    }
+}
@@ -1,11 +1,13 @@
 package io.github.jiwontechinnovation.user.controller;
 
+import io.github.jiwontechinnovation.common.http.ConditionalGet;
 import io.github.jiwontechinnovation.user.dto.UpdateAvatarRequest;
 import io.github.jiwontechinnovation.user.dto.UserResponse;
 import io.github.jiwontechinnovation.user.service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -25,8 +27,11 @@ public class UserController {
 
     @GetMapping("/me")
     @Operation(summary = "현재 사용자 정보 조회", description = "JWT 토큰으로 인증된 현재 사용자의 정보를 조회합니다")
-    public ResponseEntity<UserResponse> getCurrentUser(@AuthenticationPrincipal String identifier) {
-        return ResponseEntity.ok(userService.getCurrentUser(identifier));
+    public ResponseEntity<UserResponse> getCurrentUser(@AuthenticationPrincipal String identifier,
+            HttpServletRequest request) {
+        // updatedAt만 먼저 읽고, 클라이언트 ETag와 같으면 304
+        return ConditionalGet.respond(request, userService.getCurrentUserVersion(identifier),
+                () -> userService.getCurrentUser(identifier));
     }
 
     @PatchMapping("/me/avatar")
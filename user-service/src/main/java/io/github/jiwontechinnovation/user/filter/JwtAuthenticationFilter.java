@@ -1,12 +1,16 @@
 package io.github.jiwontechinnovation.user.filter;
 
-import io.github.jiwontechinnovation.user.jwt.JwtTokenProvider;
+import io.github.jiwontechinnovation.common.jwt.JwtVerifier;
+import io.github.jiwontechinnovation.common.jwt.VerifiedClaims;
+import io.github.jiwontechinnovation.common.security.IdentityHeaderCodec;
+import io.github.jiwontechinnovation.common.security.TrustedIdentityHeaders;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
@@ -16,36 +20,46 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
-    private final JwtTokenProvider jwtTokenProvider;
+    private final JwtVerifier jwtVerifier;
+    private final TrustedIdentityHeaders trustedIdentityHeaders;
 
-    public JwtAuthenticationFilter(JwtTokenProvider jwtTokenProvider) {
-        this.jwtTokenProvider = jwtTokenProvider;
+    public JwtAuthenticationFilter(JwtVerifier jwtVerifier,
+                                   @Value("${jwt.trusted-header.secret}") String trustedHeaderSecret,
+                                   @Value("${jwt.trusted-header.enabled:false}") boolean trustedHeaderEnabled) {
+        this.jwtVerifier = jwtVerifier;
+        this.trustedIdentityHeaders = trustedHeaderEnabled ? new TrustedIdentityHeaders(trustedHeaderSecret) : null;
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
+        // 게이트웨이가 서명한 신원 헤더가 있으면 JWT 파싱 없이 인증
+        Optional<IdentityHeaderCodec.TrustedIdentity> trustedIdentity = trustedIdentityHeaders != null
+                ? trustedIdentityHeaders.resolve(request)
+                : Optional.empty();
+        if (trustedIdentity.isPresent()) {
+            authenticate(request, trustedIdentity.get().username());
+            filterChain.doFilter(request, response);
+            return;
+        }
+
         String token = extractToken(request);
 
         if (StringUtils.hasText(token)) {
-            boolean isValid = jwtTokenProvider.validateToken(token);
-            logger.debug("JWT Token validation result: {} for path: {}", isValid, request.getRequestURI());
+            Optional<VerifiedClaims> claims = jwtVerifier.verifyAccessToken(token);
+            logger.debug("JWT Token validation result: {} for path: {}", claims.isPresent(), request.getRequestURI());
             
-            if (isValid) {
-                String username = jwtTokenProvider.getUsernameFromToken(token);
+            if (claims.isPresent()) {
+                String username = claims.get().subject();
                 logger.debug("Setting authentication for user: {}", username);
-
-                UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList());
-                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                authenticate(request, username);
             } else {
                 logger.warn("JWT Token validation failed for path: {}", request.getRequestURI());
             }
@@ -56,6 +70,14 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    private void authenticate(HttpServletRequest request, String username) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList());
+        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+    }
+
     private String extractToken(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
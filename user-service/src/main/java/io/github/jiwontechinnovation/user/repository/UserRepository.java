@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -19,4 +20,8 @@ public interface UserRepository extends JpaRepository<User, UUID> {
 
     @Query("SELECT u FROM User u WHERE u.username = :identifier OR u.email = :identifier")
     Optional<User> findByUsernameOrEmail(@Param("identifier") String identifier);
+
+    // 조건부 GET용 버전 값. 엔티티 전체를 읽지 않는다
+    @Query("SELECT u.updatedAt FROM User u WHERE u.username = :identifier OR u.email = :identifier")
+    Optional<LocalDateTime> findUpdatedAtByUsernameOrEmail(@Param("identifier") String identifier);
 }
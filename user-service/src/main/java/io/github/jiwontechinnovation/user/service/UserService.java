@@ -23,6 +23,14 @@ public class UserService {
         return UserResponse.from(user);
     }
 
+    // 사용자가 없거나 updatedAt이 없으면 null (조건부 처리 없이 전체 조회)
+    @Transactional(readOnly = true)
+    public String getCurrentUserVersion(String identifier) {
+        return userRepository.findUpdatedAtByUsernameOrEmail(identifier)
+                .map(updatedAt -> identifier + "@" + updatedAt)
+                .orElse(null);
+    }
+
     @Transactional
     public UserResponse updateAvatar(String identifier, UpdateAvatarRequest request) {
         User user = userRepository.findByUsernameOrEmail(identifier)